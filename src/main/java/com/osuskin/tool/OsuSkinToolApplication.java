@@ -21,6 +21,7 @@ public class OsuSkinToolApplication extends Application {
     private static final String APP_CSS = "/css/application.css";
     
     private ConfigurationManager configurationManager;
+    private MainController mainController;
     
     @Override
     public void init() throws Exception {
@@ -44,8 +45,8 @@ public class OsuSkinToolApplication extends Application {
             Scene scene = new Scene(fxmlLoader.load());
             
             // Get controller and inject dependencies
-            MainController controller = fxmlLoader.getController();
-            controller.setConfigurationManager(configurationManager);
+            mainController = fxmlLoader.getController();
+            mainController.setConfigurationManager(configurationManager);
             
             // Apply CSS
             scene.getStylesheets().add(getClass().getResource(APP_CSS).toExternalForm());
@@ -89,6 +90,9 @@ public class OsuSkinToolApplication extends Application {
     private void shutdown() {
         try {
             logger.info("Shutting down application");
+            if (mainController != null) {
+                mainController.shutdown();
+            }
             if (configurationManager != null) {
                 configurationManager.saveConfiguration();
             }
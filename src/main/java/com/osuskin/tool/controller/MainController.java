@@ -5,10 +5,16 @@ import com.osuskin.tool.model.Configuration;
 import com.osuskin.tool.model.ElementGroup;
 import com.osuskin.tool.model.Skin;
 import com.osuskin.tool.model.SkinContainer;
+import com.osuskin.tool.service.DiskTextureCache;
 import com.osuskin.tool.service.SkinScannerService;
 import com.osuskin.tool.service.SkinContainerService;
 import com.osuskin.tool.service.SkinElementLoader;
+import com.osuskin.tool.service.SkinExtractionQueue;
+import com.osuskin.tool.service.SkinLibraryWatcher;
+import com.osuskin.tool.service.SkinPrefetcher;
+import com.osuskin.tool.service.TextureCache;
 import com.osuskin.tool.view.SimpleGameplayRenderer;
+import com.osuskin.tool.view.gameplay.FrameMetrics;
 import com.osuskin.tool.view.gameplay.GameplayRenderer;
 import com.osuskin.tool.util.ConfigurationManager;
 import com.osuskin.tool.util.OsuPathDetector;
@@ -29,9 +35,11 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import javafx.stage.Modality;
 import javafx.scene.Scene;
 import javafx.scene.Parent;
@@ -48,20 +56,30 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MainController implements Initializable {
     
     private static final Logger logger = LoggerFactory.getLogger(MainController.class);
     
+    // Selection must rest this long before a preview is built, so arrowing through the list stays smooth
+    private static final Duration PREVIEW_SELECTION_DELAY = Duration.millis(150);
+    
     // Menu items
     @FXML private MenuItem menuSelectDirectory;
     @FXML private MenuItem menuExit;
     @FXML private MenuItem menuOpenSkinContainer;
     @FXML private MenuItem menuAbout;
+    @FXML private CheckMenuItem menuFrameMetrics;
+    @FXML private MenuItem menuExportFrameMetrics;
     
     // Toolbar components
     @FXML private Button btnRefresh;
@@ -120,9 +138,12 @@ public class MainController implements Initializable {
     private ObservableList<Skin> allSkins;
     private FilteredList<Skin> filteredSkins;
     private SortedList<Skin> sortedSkins;
+    private SkinLibraryWatcher libraryWatcher;
+    private SkinExtractionQueue extractionQueue;
     
     // Preview components
     private SkinElementLoader elementLoader;
+    private final SkinPrefetcher prefetcher = new SkinPrefetcher();
     private SimpleGameplayRenderer simpleRenderer;
     private GameplayRenderer enhancedRenderer;
     private boolean useEnhancedRenderer = true; // Toggle for renderer type
@@ -131,6 +152,9 @@ public class MainController implements Initializable {
     private AnimationTimer animationTimer;
     private boolean isAnimating = false;
     private Skin currentPreviewSkin;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_SELECTION_DELAY);
+    private Skin pendingPreviewSkin;
+    private FrameMetrics frameMetrics;  // Created when frame metrics are first shown
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -144,6 +168,17 @@ public class MainController implements Initializable {
         // Set up ListView
         listSkins.setItems(sortedSkins);
         listSkins.setCellFactory(listView -> new SkinListCell());
+        listSkins.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
+            schedulePreview(newValue);
+        });
+        previewDelay.setOnFinished(event -> {
+            Skin skin = pendingPreviewSkin;
+            pendingPreviewSkin = null;
+            if (skin != null && !isPreviewing(skin)) {
+                displaySkinPreview(skin);
+                updateSelectionUI();
+            }
+        });
         
         // Set up search functionality
         txtSearch.textProperty().addListener((observable, oldValue, newValue) -> {
@@ -188,6 +223,11 @@ public class MainController implements Initializable {
         // Set persistent state for skin container service
         skinContainerService.setPersistentState(config.getSkinContainerState());
         
+        TextureCache.getInstance().setBudgetBytes(config.getTextureCacheSizeMb() * 1024L * 1024L);
+        DiskTextureCache diskCache = DiskTextureCache.getInstance();
+        diskCache.setDirectory(configurationManager.getCacheDirectory().resolve("textures"));
+        CompletableFuture.runAsync(diskCache::trim);
+        
         if (config.isConfigured()) {
             lblDirectory.setText(config.getOsuSkinsDirectory());
             updateControlsState(true);
@@ -298,6 +338,9 @@ public class MainController implements Initializable {
     private void onSkinSelected(MouseEvent event) {
         Skin selectedSkin = listSkins.getSelectionModel().getSelectedItem();
         if (selectedSkin != null) {
+            // A click previews right away, without waiting for the selection to settle
+            previewDelay.stop();
+            pendingPreviewSkin = null;
             displaySkinPreview(selectedSkin);
             updateSelectionUI();  // Update Selection tab UI
         }
@@ -385,6 +428,64 @@ public class MainController implements Initializable {
         }
     }
     
+    @FXML
+    private void onToggleFrameMetrics() {
+        boolean show = menuFrameMetrics.isSelected();
+        if (show && frameMetrics == null) {
+            frameMetrics = new FrameMetrics();
+            menuExportFrameMetrics.setDisable(false);
+        }
+        applyFrameMetrics(currentPreviewSkin);
+        logger.info("Frame metrics {}", show ? "shown" : "hidden");
+    }
+    
+    /**
+     * Record the preview's frame costs under the skin's name while the overlay is
+     * shown; hiding it stops recording but keeps what was recorded for export.
+     */
+    private void applyFrameMetrics(Skin skin) {
+        if (enhancedRenderer == null) {
+            return;
+        }
+        if (frameMetrics != null && menuFrameMetrics.isSelected()) {
+            frameMetrics.setLabel(skin != null ? skin.getName() : null);
+            enhancedRenderer.setMetrics(frameMetrics, true);
+        } else {
+            enhancedRenderer.setMetrics(null, false);
+        }
+    }
+    
+    @FXML
+    private void onExportFrameMetrics() {
+        if (frameMetrics == null || frameMetrics.getFrameCount() == 0) {
+            showInfo("No Frame Metrics", "Show frame metrics from the Tools menu and let the preview run first.");
+            return;
+        }
+        
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Frame Metrics");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("CSV Files", "*.csv")
+        );
+        fileChooser.setInitialFileName("frame-metrics.csv");
+        
+        Stage stage = (Stage) btnRefresh.getScene().getWindow();
+        File selectedFile = fileChooser.showSaveDialog(stage);
+        
+        if (selectedFile != null) {
+            try {
+                frameMetrics.exportCsv(selectedFile.toPath());
+                showInfo("Export Successful", String.format(
+                    "Frame metrics exported to: %s%n%nFrame time p50 %.2f ms, p95 %.2f ms, p99 %.2f ms",
+                    selectedFile.getAbsolutePath(), frameMetrics.getPercentileMillis(0.50),
+                    frameMetrics.getPercentileMillis(0.95), frameMetrics.getPercentileMillis(0.99)));
+            } catch (IOException e) {
+                logger.error("Failed to export frame metrics", e);
+                showError("Export Failed", "Failed to export frame metrics: " + e.getMessage());
+            }
+        }
+    }
+    
     @FXML
     private void onAbout() {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
@@ -409,13 +510,21 @@ public class MainController implements Initializable {
         lblStatus.setText("Scanning skins...");
         progressBar.setVisible(true);
         progressBar.progressProperty().unbind(); // Unbind any existing binding
-        progressBar.setProgress(-1); // Indeterminate progress
-        
-        Task<List<Skin>> scanTask = skinScannerService.createScanTask();
+        progressBar.setProgress(-1); // Indeterminate until the directory count is known
+        
+        // Skins appear in the list as they are scanned, in batches
+        Task<List<Skin>> scanTask = skinScannerService.createStreamingScanTask(this::mergeScannedSkins);
+        progressBar.progressProperty().bind(scanTask.progressProperty());
+        scanTask.messageProperty().addListener((obs, oldMessage, newMessage) -> {
+            if (newMessage != null && !newMessage.isEmpty()) {
+                lblStatus.setText(newMessage);
+            }
+        });
         
         scanTask.setOnSucceeded(event -> {
+            progressBar.progressProperty().unbind();
             List<Skin> scannedSkins = scanTask.getValue();
-            allSkins.setAll(scannedSkins);
+            allSkins.setAll(scannedSkins);  // Also drops skins that no longer exist
             updateSkinCount();
             
             // Restore container state after scan if it was lost
@@ -435,11 +544,15 @@ public class MainController implements Initializable {
             lblStatus.setText("Scan completed. Found " + scannedSkins.size() + " skins.");
             progressBar.setVisible(false);
             logger.info("Skin scan completed. Found {} skins", scannedSkins.size());
+            
+            // Keep the list fresh without further full rescans
+            startLibraryWatcher();
         });
         
         scanTask.setOnFailed(event -> {
             Throwable exception = scanTask.getException();
             logger.error("Skin scan failed", exception);
+            progressBar.progressProperty().unbind();
             lblStatus.setText("Scan failed: " + exception.getMessage());
             progressBar.setVisible(false);
             showError("Scan Failed", "Failed to scan skins: " + exception.getMessage());
@@ -450,6 +563,125 @@ public class MainController implements Initializable {
         scanThread.start();
     }
     
+    private void startLibraryWatcher() {
+        Path skinsDirectory = configurationManager.getConfiguration().getOsuSkinsDirectoryPath();
+        if (skinsDirectory == null || !Files.isDirectory(skinsDirectory)) {
+            return;
+        }
+        
+        if (libraryWatcher != null) {
+            if (libraryWatcher.isRunning() && libraryWatcher.getSkinsDirectory().equals(skinsDirectory)) {
+                return;
+            }
+            libraryWatcher.close();
+        }
+        
+        libraryWatcher = new SkinLibraryWatcher(skinsDirectory, new SkinLibraryWatcher.Listener() {
+            @Override
+            public void onEntriesChanged(Set<Path> changedEntries) {
+                // Runs on the watcher thread, so the rescan stays off the FX thread
+                Map<Path, Skin> updates = skinScannerService.rescanEntries(changedEntries);
+                Platform.runLater(() -> applySkinUpdates(updates));
+            }
+            
+            @Override
+            public void onOverflow() {
+                Platform.runLater(MainController.this::startSkinScan);
+            }
+        });
+        
+        try {
+            libraryWatcher.start();
+        } catch (IOException e) {
+            logger.warn("Failed to watch skins directory: {}", skinsDirectory, e);
+            libraryWatcher = null;
+        }
+    }
+    
+    /**
+     * Apply rescanned skins to the list in place. A null skin removes the entry.
+     */
+    private void applySkinUpdates(Map<Path, Skin> updates) {
+        String containerPath = getSkinContainerPath();
+        
+        for (Map.Entry<Path, Skin> update : updates.entrySet()) {
+            String directoryPath = update.getKey().toString();
+            if (directoryPath.equals(containerPath)) {
+                continue;  // Skin Container is managed by refreshSkinContainer
+            }
+            
+            int index = indexOfSkin(directoryPath);
+            Skin skin = update.getValue();
+            if (skin == null) {
+                if (index >= 0) {
+                    allSkins.remove(index);
+                }
+            } else if (index >= 0) {
+                allSkins.set(index, skin);
+            } else {
+                allSkins.add(skin);
+            }
+        }
+        
+        updateSkinCount();
+        lblStatus.setText("Library updated (" + updates.size() + " changed)");
+        logger.debug("Applied {} skin library updates", updates.size());
+    }
+    
+    /**
+     * Merge a batch of freshly scanned skins into the list, replacing entries for the same directory.
+     * New skins are appended in one change, so the list is updated once per batch.
+     */
+    private void mergeScannedSkins(List<Skin> batch) {
+        Map<String, Integer> indexByPath = new HashMap<>(allSkins.size() * 2);
+        for (int i = 0; i < allSkins.size(); i++) {
+            indexByPath.put(allSkins.get(i).getDirectoryPath(), i);
+        }
+        
+        List<Skin> added = new ArrayList<>();
+        for (Skin skin : batch) {
+            Integer index = indexByPath.get(skin.getDirectoryPath());
+            if (index == null) {
+                indexByPath.put(skin.getDirectoryPath(), allSkins.size() + added.size());
+                added.add(skin);
+            } else if (index < allSkins.size()) {
+                allSkins.set(index, skin);
+            } else {
+                added.set(index - allSkins.size(), skin);  // Repeated within the batch
+            }
+        }
+        
+        if (!added.isEmpty()) {
+            allSkins.addAll(added);
+        }
+        updateSkinCount();
+    }
+    
+    private int indexOfSkin(String directoryPath) {
+        for (int i = 0; i < allSkins.size(); i++) {
+            if (directoryPath.equals(allSkins.get(i).getDirectoryPath())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public void shutdown() {
+        previewDelay.stop();
+        prefetcher.close();
+        stopCurrentPreview();
+        if (extractionQueue != null) {
+            extractionQueue.cancel();
+        }
+        if (elementLoader != null) {
+            elementLoader.close();
+        }
+        if (libraryWatcher != null) {
+            libraryWatcher.close();
+            libraryWatcher = null;
+        }
+    }
+    
     private void updateControlsState(boolean hasDirectory) {
         btnRefresh.setDisable(!hasDirectory);
         menuOpenSkinContainer.setDisable(!hasDirectory);
@@ -561,6 +793,28 @@ public class MainController implements Initializable {
         }
     }
     
+    /**
+     * Preview a newly selected skin once the selection settles. Loads still running
+     * for a skin that is no longer selected are cancelled right away; the latest
+     * selection is the only one that reaches the renderer.
+     */
+    private void schedulePreview(Skin skin) {
+        if (skin == null || isPreviewing(skin)) {
+            previewDelay.stop();
+            pendingPreviewSkin = null;
+            return;
+        }
+        pendingPreviewSkin = skin;
+        if (elementLoader != null && !isAnimating) {
+            elementLoader.close();  // Still loading a skin that was skipped past
+        }
+        previewDelay.playFromStart();
+    }
+    
+    private boolean isPreviewing(Skin skin) {
+        return skin == currentPreviewSkin && elementLoader != null && !elementLoader.isClosed();
+    }
+    
     private void displaySkinPreview(Skin skin) {
         currentPreviewSkin = skin;
         
@@ -570,46 +824,96 @@ public class MainController implements Initializable {
         // Show preview controls
         showPreviewControls();
         
-        // Stop any current animations/audio
+        // Stop any current animations/audio, and warming of neighbours so this load goes first
         stopCurrentPreview();
+        prefetcher.cancel();
         
-        // Initialize element loader for this skin
-        Path skinPath = skin.getDirectoryPathAsPath();
-        elementLoader = new SkinElementLoader(skinPath);
+        // Initialize element loader for this skin, reading compressed skins from their archive
+        if (elementLoader != null) {
+            elementLoader.close();
+        }
+        elementLoader = SkinElementLoader.forSkin(skin);
         elementLoader.setCurrentSkin(skin);  // Pass skin for combo colors
         
         // Initialize appropriate renderer based on setting
+        CompletableFuture<SkinElementLoader.TextureSet> preload;
         if (useEnhancedRenderer) {
             enhancedRenderer = new GameplayRenderer(gameplayCanvas, elementLoader);
+            applyFrameMetrics(skin);
+            enhancedRenderer.renderLoading();
+            preload = elementLoader.preloadAsync(enhancedRenderer.getPreloadImages(), enhancedRenderer.getPreloadAnimations());
         } else {
             simpleRenderer = new SimpleGameplayRenderer(gameplayCanvas, elementLoader);
+            simpleRenderer.renderLoading();
+            preload = elementLoader.preloadAsync(SimpleGameplayRenderer.PRELOAD_IMAGES, List.of());
         }
         
         // Update element info immediately
         updateElementInfo();
         
-        // Initialize and start autoplay animation without preloading
-        Platform.runLater(() -> {
-            if (useEnhancedRenderer) {
+        // Decode the renderer's textures in the background, then start the autoplay
+        // animation; initialize() then only hits the texture cache
+        SkinElementLoader loader = elementLoader;
+        preload.whenComplete((textures, error) -> Platform.runLater(() -> {
+            if (loader != elementLoader || loader.isClosed()) {
+                return;  // Another skin was selected in the meantime
+            }
+            logger.debug("Preloaded {} textures for {}", textures != null ? textures.size() : 0, skin.getName());
+            if (useEnhancedRenderer && enhancedRenderer != null) {
                 enhancedRenderer.initialize();
-            } else {
+            } else if (!useEnhancedRenderer && simpleRenderer != null) {
                 simpleRenderer.initialize();
             }
             startAutoplayAnimation();
-        });
+            prefetchNeighbours(skin);
+        }));
+    }
+    
+    /**
+     * Warm the skins one row above and below in the list, the likely next picks.
+     */
+    private void prefetchNeighbours(Skin skin) {
+        List<Skin> visible = listSkins.getItems();
+        int index = visible.indexOf(skin);
+        if (index < 0) {
+            return;
+        }
+        List<Skin> neighbours = new ArrayList<>(2);
+        if (index + 1 < visible.size()) {
+            neighbours.add(visible.get(index + 1));
+        }
+        if (index > 0) {
+            neighbours.add(visible.get(index - 1));
+        }
+        
+        // Warm the textures at the sizes the current renderer loads them at
+        Map<String, Double> scales = useEnhancedRenderer && enhancedRenderer != null
+            ? enhancedRenderer.getPreloadImages() : Map.of();
+        Map<String, Double> elements = new LinkedHashMap<>();
+        for (String element : SkinPrefetcher.CORE_ELEMENTS) {
+            elements.put(element, scales.getOrDefault(element, SkinElementLoader.FULL_SIZE));
+        }
+        prefetcher.prefetch(neighbours, elements);
     }
     
     private void updateElementInfo() {
         if (elementLoader == null) return;
         
-        SkinElementLoader.SkinElementStats stats = elementLoader.getElementStats();
-        
-        int totalElements = stats.elementsByCategory.values().stream()
-            .mapToInt(Integer::intValue).sum();
-        
-        int missingRequired = stats.totalRequiredElements - stats.presentRequiredElements;
-        
-        lblElementInfo.setText(String.format("Elements: %d | Missing: %d", totalElements, missingRequired));
+        // Counting probes every registry element, so it runs off the FX thread
+        lblElementInfo.setText("Elements: ...");
+        SkinElementLoader loader = elementLoader;
+        CompletableFuture.supplyAsync(loader::getElementStats).whenComplete((stats, error) -> Platform.runLater(() -> {
+            if (loader != elementLoader || stats == null) {
+                return;  // Cancelled, or another skin was selected in the meantime
+            }
+            
+            int totalElements = stats.elementsByCategory.values().stream()
+                .mapToInt(Integer::intValue).sum();
+            
+            int missingRequired = stats.totalRequiredElements - stats.presentRequiredElements;
+            
+            lblElementInfo.setText(String.format("Elements: %d | Missing: %d", totalElements, missingRequired));
+        }));
     }
     
     @FXML
@@ -779,66 +1083,101 @@ public class MainController implements Initializable {
             return;
         }
         
-        List<Path> compressedFiles = skinScannerService.getExtractableCompressedSkinFiles();
-        if (compressedFiles.isEmpty()) {
+        // The button doubles as Cancel while a batch is running
+        if (extractionQueue != null && extractionQueue.isRunning()) {
+            extractionQueue.cancel();
+            lblStatus.setText("Cancelling extraction...");
+            return;
+        }
+        
+        if (extractionQueue == null) {
+            extractionQueue = new SkinExtractionQueue(skinScannerService, new ExtractionListener());
+        }
+        
+        // Pending archives from a cancelled run are resumed first
+        int pending = extractionQueue.enqueueAll(skinScannerService.getExtractableCompressedSkinFiles());
+        if (pending == 0) {
             showAlert("Info", "No extractable compressed skin files found.\nAll compressed files have already been extracted.");
             return;
         }
         
-        // Show progress and extract files
-        lblStatus.setText("Extracting compressed skins...");
+        lblStatus.setText("Extracting " + pending + " compressed skins...");
         progressBar.setVisible(true);
         progressBar.progressProperty().unbind(); // Unbind any existing binding
-        progressBar.setProgress(-1); // Indeterminate progress
+        progressBar.setProgress(0);
+        btnExtract.setText("Cancel");
         
-        Task<Void> extractTask = new Task<Void>() {
-            @Override
-            protected Void call() throws Exception {
-                int extracted = 0;
-                int total = compressedFiles.size();
-                
-                for (int i = 0; i < total; i++) {
-                    Path compressedFile = compressedFiles.get(i);
-                    updateProgress(i, total);
-                    
-                    try {
-                        if (skinScannerService.extractCompressedSkin(compressedFile)) {
-                            extracted++;
-                            logger.info("Successfully extracted: {}", compressedFile.getFileName());
-                        } else {
-                            logger.warn("Failed to extract: {}", compressedFile.getFileName());
-                        }
-                    } catch (Exception e) {
-                        logger.error("Error extracting: {}", compressedFile.getFileName(), e);
-                    }
-                }
-                
-                final int finalExtracted = extracted;
-                Platform.runLater(() -> {
-                    progressBar.setVisible(false);
-                    lblStatus.setText("Ready");
-                    
-                    if (finalExtracted > 0) {
-                        showInfo("Success", 
-                               String.format("Successfully extracted %d of %d compressed skin files", 
-                                           finalExtracted, total));
-                        
-                        // Refresh the skin list to show newly extracted skins
-                        startSkinScan();
-                    } else {
-                        showAlert("Warning", "No files were extracted successfully");
-                    }
-                });
-                
-                return null;
+        extractionQueue.start(configurationManager.getConfiguration().getExtractionConcurrency());
+    }
+    
+    /**
+     * Forwards extraction queue events to the FX thread. Progress updates are
+     * coalesced so at most one is waiting to be rendered at a time.
+     */
+    private class ExtractionListener implements SkinExtractionQueue.Listener {
+        private final AtomicReference<SkinExtractionQueue.Progress> latestProgress = new AtomicReference<>();
+        
+        @Override
+        public void onProgress(SkinExtractionQueue.Progress progress) {
+            if (latestProgress.getAndSet(progress) == null) {
+                Platform.runLater(() -> showExtractionProgress(latestProgress.getAndSet(null)));
             }
-        };
+        }
+        
+        @Override
+        public void onArchiveFinished(Path archive, boolean success, Map<Path, Skin> updates) {
+            if (success) {
+                logger.info("Successfully extracted: {}", archive.getFileName());
+                Platform.runLater(() -> applySkinUpdates(updates));
+            } else {
+                logger.warn("Failed to extract: {}", archive.getFileName());
+            }
+        }
         
-        progressBar.progressProperty().bind(extractTask.progressProperty());
+        @Override
+        public void onQueueFinished(int extracted, int failed, boolean cancelled, int remaining) {
+            Platform.runLater(() -> {
+                progressBar.setVisible(false);
+                btnExtract.setText(remaining > 0 ? "Resume" : "Extract");
+                updateSkinCount();
+                
+                if (cancelled) {
+                    lblStatus.setText(String.format("Extraction cancelled: %d extracted, %d pending", extracted, remaining));
+                } else if (extracted > 0) {
+                    lblStatus.setText("Ready");
+                    showInfo("Success", 
+                           String.format("Successfully extracted %d of %d compressed skin files", 
+                                       extracted, extracted + failed));
+                } else {
+                    lblStatus.setText("Ready");
+                    showAlert("Warning", "No files were extracted successfully");
+                }
+            });
+        }
+    }
+    
+    private void showExtractionProgress(SkinExtractionQueue.Progress progress) {
+        if (progress == null || extractionQueue == null || !extractionQueue.isRunning()) {
+            return;
+        }
         
-        Thread extractThread = new Thread(extractTask);
-        extractThread.setDaemon(true);
-        extractThread.start();
+        progressBar.setProgress(progress.getFraction());
+        int archivePercent = progress.getArchiveBytes() > 0
+            ? (int) (100 * progress.getArchiveBytesDone() / progress.getArchiveBytes()) : 0;
+        lblStatus.setText(String.format("Extracting %d/%d: %s / %s (%s %d%%)",
+            Math.min(progress.getArchivesDone() + 1, progress.getArchivesTotal()), progress.getArchivesTotal(),
+            formatBytes(progress.getBytesDone()), formatBytes(progress.getTotalBytes()),
+            progress.getArchive().getFileName(), archivePercent));
+    }
+    
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        } else {
+            return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+        }
     }
     
     // Selection Tab Handler Methods
@@ -879,6 +1218,11 @@ public class MainController implements Initializable {
             showAlert(Alert.AlertType.WARNING, "No Skin Selected", "Please select a skin first.");
             return;
         }
+        if (selectedSkin.isVirtual()) {
+            showAlert(Alert.AlertType.WARNING, "Skin Not Extracted",
+                "Extract this skin before adding its elements to the Skin Container.");
+            return;
+        }
         
         String containerPath = getSkinContainerPath();
         skinContainerService.selectAllGroups(selectedSkin, containerPath);
@@ -951,6 +1295,11 @@ public class MainController implements Initializable {
             showAlert(Alert.AlertType.WARNING, "No Skin Selected", "Please select a skin first.");
             return;
         }
+        if (selectedSkin.isVirtual()) {
+            showAlert(Alert.AlertType.WARNING, "Skin Not Extracted",
+                "Extract this skin before adding its elements to the Skin Container.");
+            return;
+        }
         
         String containerPath = getSkinContainerPath();
         
@@ -1199,4 +1548,4 @@ public class MainController implements Initializable {
             }
         }
     }
-}
\ No newline at end of file
+}
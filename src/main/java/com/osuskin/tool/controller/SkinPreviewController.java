@@ -23,7 +23,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
-import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
@@ -106,8 +105,7 @@ public class SkinPreviewController implements Initializable {
         lblSkinName.setText(skin.getName() + " - Preview");
         
         // Initialize element loader
-        Path skinPath = skin.getDirectoryPathAsPath();
-        elementLoader = new SkinElementLoader(skinPath);
+        elementLoader = SkinElementLoader.forSkin(skin);
         
         // Initialize gameplay animator
         gameplayAnimator = new GameplayAnimator(gameplayCanvas, overlayCanvas, elementLoader);
@@ -379,6 +377,9 @@ public class SkinPreviewController implements Initializable {
         if (animationTimer != null) {
             animationTimer.stop();
         }
+        if (elementLoader != null) {
+            elementLoader.close();
+        }
         
         // Close window
         Stage stage = (Stage) btnClose.getScene().getWindow();
@@ -47,6 +47,18 @@ public class Configuration {
     @JsonProperty("skinContainerState")
     private SkinContainerState skinContainerState = new SkinContainerState();
     
+    @JsonProperty("scanThreadCount")
+    private int scanThreadCount = 4;  // 1 = sequential scan
+    
+    @JsonProperty("extractionConcurrency")
+    private int extractionConcurrency = 2;  // Archives extracted at the same time
+    
+    @JsonProperty("indexArchives")
+    private boolean indexArchives = true;  // List .osk/.zip skins without extracting them
+    
+    @JsonProperty("textureCacheSizeMb")
+    private int textureCacheSizeMb = 256;  // Decoded skin textures kept across previews
+    
     public Configuration() {
         // Default constructor for Jackson
     }
@@ -164,6 +176,38 @@ public class Configuration {
         this.windowMaximized = windowMaximized;
     }
     
+    public int getScanThreadCount() {
+        return scanThreadCount;
+    }
+    
+    public void setScanThreadCount(int scanThreadCount) {
+        this.scanThreadCount = Math.max(1, Math.min(32, scanThreadCount));
+    }
+    
+    public int getExtractionConcurrency() {
+        return extractionConcurrency;
+    }
+    
+    public void setExtractionConcurrency(int extractionConcurrency) {
+        this.extractionConcurrency = Math.max(1, Math.min(8, extractionConcurrency));
+    }
+    
+    public boolean isIndexArchives() {
+        return indexArchives;
+    }
+    
+    public void setIndexArchives(boolean indexArchives) {
+        this.indexArchives = indexArchives;
+    }
+    
+    public int getTextureCacheSizeMb() {
+        return textureCacheSizeMb;
+    }
+    
+    public void setTextureCacheSizeMb(int textureCacheSizeMb) {
+        this.textureCacheSizeMb = Math.max(32, Math.min(8192, textureCacheSizeMb));
+    }
+    
     public boolean isConfigured() {
         return osuSkinsDirectory != null && !osuSkinsDirectory.trim().isEmpty();
     }
@@ -191,6 +235,10 @@ public class Configuration {
                Double.compare(that.windowWidth, windowWidth) == 0 &&
                Double.compare(that.windowHeight, windowHeight) == 0 &&
                windowMaximized == that.windowMaximized &&
+               scanThreadCount == that.scanThreadCount &&
+               extractionConcurrency == that.extractionConcurrency &&
+               indexArchives == that.indexArchives &&
+               textureCacheSizeMb == that.textureCacheSizeMb &&
                Objects.equals(osuSkinsDirectory, that.osuSkinsDirectory) &&
                Objects.equals(skinContainerPath, that.skinContainerPath) &&
                Objects.equals(cacheDirectory, that.cacheDirectory) &&
@@ -202,7 +250,8 @@ public class Configuration {
         return Objects.hash(osuSkinsDirectory, skinContainerPath, cacheDirectory, 
                           lastScanTime, thumbnailSize, audioPreviewDuration, 
                           enableAudioPreview, autoScanOnStartup, windowWidth, 
-                          windowHeight, windowMaximized);
+                          windowHeight, windowMaximized, scanThreadCount,
+                          extractionConcurrency, indexArchives, textureCacheSizeMb);
     }
     
     @Override
@@ -0,0 +1,59 @@
+package com.osuskin.tool.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Cached scan result for one directory in the skins folder, keyed by the
+ * directory's modification time and entry count.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScanIndexEntry {
+    
+    @JsonProperty("lastModified")
+    private long lastModified;
+    
+    @JsonProperty("fileCount")
+    private int fileCount;
+    
+    @JsonProperty("skin")
+    private Skin skin;  // null if the directory is not a skin
+    
+    public ScanIndexEntry() {
+        // Default constructor for Jackson
+    }
+    
+    public ScanIndexEntry(long lastModified, int fileCount, Skin skin) {
+        this.lastModified = lastModified;
+        this.fileCount = fileCount;
+        this.skin = skin;
+    }
+    
+    public long getLastModified() {
+        return lastModified;
+    }
+    
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+    
+    public int getFileCount() {
+        return fileCount;
+    }
+    
+    public void setFileCount(int fileCount) {
+        this.fileCount = fileCount;
+    }
+    
+    public Skin getSkin() {
+        return skin;
+    }
+    
+    public void setSkin(Skin skin) {
+        this.skin = skin;
+    }
+    
+    public boolean matches(long lastModified, int fileCount) {
+        return this.lastModified == lastModified && this.fileCount == fileCount;
+    }
+}
@@ -1,5 +1,6 @@
 package com.osuskin.tool.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -50,6 +51,12 @@ public class Skin {
     @JsonProperty("comboColors")
     private List<int[]> comboColors;  // RGB values for each combo color
     
+    @JsonProperty("skinIni")
+    private SkinIni skinIni;  // Parsed skin.ini, null if the skin has none
+    
+    @JsonProperty("archivePath")
+    private String archivePath;  // Set for virtual skins that are read from an .osk/.zip
+    
     @JsonProperty("isSpecial")
     private boolean isSpecial;  // Mark special skins like Skin Container
     
@@ -83,6 +90,7 @@ public class Skin {
         this.directoryPath = directoryPath;
     }
     
+    @JsonIgnore
     public Path getDirectoryPathAsPath() {
         return directoryPath != null ? Paths.get(directoryPath) : null;
     }
@@ -91,6 +99,27 @@ public class Skin {
         this.directoryPath = path != null ? path.toString() : null;
     }
     
+    public String getArchivePath() {
+        return archivePath;
+    }
+    
+    public void setArchivePath(String archivePath) {
+        this.archivePath = archivePath;
+    }
+    
+    @JsonIgnore
+    public Path getArchivePathAsPath() {
+        return archivePath != null ? Paths.get(archivePath) : null;
+    }
+    
+    /**
+     * Virtual skins are listed straight from their archive without being extracted.
+     */
+    @JsonIgnore
+    public boolean isVirtual() {
+        return archivePath != null;
+    }
+    
     public String getAuthor() {
         return author;
     }
@@ -141,12 +170,14 @@ public class Skin {
                 .anyMatch(e -> e.getType() == type && e.isExists());
     }
     
+    @JsonIgnore
     public Collection<SkinElement> getImageElements() {
         return elements.stream()
                 .filter(SkinElement::isImageFile)
                 .toList();
     }
     
+    @JsonIgnore
     public Collection<SkinElement> getAudioElements() {
         return elements.stream()
                 .filter(SkinElement::isAudioFile)
@@ -161,6 +192,7 @@ public class Skin {
         this.thumbnailPath = thumbnailPath;
     }
     
+    @JsonIgnore
     public Path getThumbnailPathAsPath() {
         return thumbnailPath != null ? Paths.get(thumbnailPath) : null;
     }
@@ -177,6 +209,7 @@ public class Skin {
         this.previewImagePath = previewImagePath;
     }
     
+    @JsonIgnore
     public Path getPreviewImagePathAsPath() {
         return previewImagePath != null ? Paths.get(previewImagePath) : null;
     }
@@ -209,6 +242,7 @@ public class Skin {
         this.totalSize = totalSize;
     }
     
+    @JsonIgnore
     public String getFormattedTotalSize() {
         if (totalSize < 1024) {
             return totalSize + " B";
@@ -243,6 +277,7 @@ public class Skin {
         return tag != null && this.tags.contains(tag.trim().toLowerCase());
     }
     
+    @JsonIgnore
     public String getDisplayInfo() {
         StringBuilder info = new StringBuilder(name);
         if (author != null && !author.trim().isEmpty()) {
@@ -251,21 +286,27 @@ public class Skin {
         if (version != null && !version.trim().isEmpty()) {
             info.append(" (v").append(version).append(")");
         }
+        if (isVirtual()) {
+            info.append(" [not extracted]");
+        }
         return info.toString();
     }
     
+    @JsonIgnore
     public int getElementCount() {
         return (int) elements.stream()
                 .filter(SkinElement::isExists)
                 .count();
     }
     
+    @JsonIgnore
     public int getImageElementCount() {
         return (int) elements.stream()
                 .filter(element -> element.isExists() && element.isImageFile())
                 .count();
     }
     
+    @JsonIgnore
     public int getAudioElementCount() {
         return (int) elements.stream()
                 .filter(element -> element.isExists() && element.isAudioFile())
@@ -301,6 +342,22 @@ public class Skin {
         comboColors.add(new int[]{r, g, b});
     }
     
+    public SkinIni getSkinIni() {
+        return skinIni;
+    }
+    
+    public void setSkinIni(SkinIni skinIni) {
+        this.skinIni = skinIni;
+    }
+    
+    /**
+     * Parsed skin.ini, or osu!'s defaults when the skin has none.
+     */
+    @JsonIgnore
+    public SkinIni getSkinIniOrDefaults() {
+        return skinIni != null ? skinIni : SkinIni.DEFAULTS;
+    }
+    
     public boolean isSpecial() {
         return isSpecial;
     }
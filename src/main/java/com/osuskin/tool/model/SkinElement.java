@@ -1,5 +1,6 @@
 package com.osuskin.tool.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -127,6 +128,7 @@ public class SkinElement {
         this.filePath = filePath;
     }
     
+    @JsonIgnore
     public Path getFilePathAsPath() {
         return filePath != null ? Paths.get(filePath) : null;
     }
@@ -143,6 +145,7 @@ public class SkinElement {
         this.thumbnailPath = thumbnailPath;
     }
     
+    @JsonIgnore
     public Path getThumbnailPathAsPath() {
         return thumbnailPath != null ? Paths.get(thumbnailPath) : null;
     }
@@ -167,6 +170,7 @@ public class SkinElement {
         this.exists = exists;
     }
     
+    @JsonIgnore
     public String getDisplayName() {
         return type != null ? type.getDisplayName() : "Unknown";
     }
@@ -183,14 +187,17 @@ public class SkinElement {
         this.actualFileName = fileName;
     }
     
+    @JsonIgnore
     public boolean isAudioFile() {
         return type != null && type.isAudioFile();
     }
     
+    @JsonIgnore
     public boolean isImageFile() {
         return type != null && type.isImageFile();
     }
     
+    @JsonIgnore
     public String getFormattedFileSize() {
         if (fileSize < 1024) {
             return fileSize + " B";
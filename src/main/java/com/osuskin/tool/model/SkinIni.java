@@ -0,0 +1,344 @@
+package com.osuskin.tool.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, typed view of a skin.ini file. Values the file does not define keep
+ * osu!'s defaults, so renderers can read them without checking for presence.
+ * Colours are packed as 0xAARRGGBB. Any packed value is a valid colour, so whether
+ * a colour is defined is kept separately and read through its has method.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonDeserialize(builder = SkinIni.Builder.class)
+public final class SkinIni {
+
+    // Bits of definedColours
+    private static final int SLIDER_BORDER = 1;
+    private static final int SLIDER_TRACK_OVERRIDE = 1 << 1;
+    private static final int SLIDER_BALL = 1 << 2;
+    private static final int SPINNER_BACKGROUND = 1 << 3;
+    private static final int MENU_GLOW = 1 << 4;
+    private static final int STAR_BREAK_ADDITIVE = 1 << 5;
+    private static final int INPUT_OVERLAY_TEXT = 1 << 6;
+    private static final int SONG_SELECT_ACTIVE_TEXT = 1 << 7;
+    private static final int SONG_SELECT_INACTIVE_TEXT = 1 << 8;
+
+    /** Values used when a skin has no skin.ini at all. */
+    public static final SkinIni DEFAULTS = builder().build();
+
+    // [General]
+    @JsonProperty("name") private final String name;
+    @JsonProperty("author") private final String author;
+    @JsonProperty("version") private final String version;
+    @JsonProperty("animationFramerate") private final double animationFramerate;  // -1 = one frame per beat length
+    @JsonProperty("allowSliderBallTint") private final boolean allowSliderBallTint;
+    @JsonProperty("comboBurstRandom") private final boolean comboBurstRandom;
+    @JsonProperty("cursorCentre") private final boolean cursorCentre;
+    @JsonProperty("cursorExpand") private final boolean cursorExpand;
+    @JsonProperty("cursorRotate") private final boolean cursorRotate;
+    @JsonProperty("cursorTrailRotate") private final boolean cursorTrailRotate;
+    @JsonProperty("hitCircleOverlayAboveNumber") private final boolean hitCircleOverlayAboveNumber;
+    @JsonProperty("layeredHitSounds") private final boolean layeredHitSounds;
+    @JsonProperty("sliderBallFlip") private final boolean sliderBallFlip;
+    @JsonProperty("sliderStyle") private final int sliderStyle;
+    @JsonProperty("spinnerFadePlayfield") private final boolean spinnerFadePlayfield;
+    @JsonProperty("spinnerNoBlink") private final boolean spinnerNoBlink;
+
+    // [Colours]
+    @JsonProperty("comboColours") private final int[] comboColours;  // Combo1..Combo8 in number order
+    @JsonProperty("sliderBorder") private final int sliderBorder;
+    @JsonProperty("sliderTrackOverride") private final int sliderTrackOverride;
+    @JsonProperty("sliderBall") private final int sliderBall;
+    @JsonProperty("spinnerBackground") private final int spinnerBackground;
+    @JsonProperty("menuGlow") private final int menuGlow;
+    @JsonProperty("starBreakAdditive") private final int starBreakAdditive;
+    @JsonProperty("inputOverlayText") private final int inputOverlayText;
+    @JsonProperty("songSelectActiveText") private final int songSelectActiveText;
+    @JsonProperty("songSelectInactiveText") private final int songSelectInactiveText;
+    @JsonProperty("definedColours") private final int definedColours;  // Colours the file sets, as bits
+
+    // [Fonts]
+    @JsonProperty("hitCirclePrefix") private final String hitCirclePrefix;
+    @JsonProperty("hitCircleOverlap") private final int hitCircleOverlap;
+    @JsonProperty("scorePrefix") private final String scorePrefix;
+    @JsonProperty("scoreOverlap") private final int scoreOverlap;
+    @JsonProperty("comboPrefix") private final String comboPrefix;
+    @JsonProperty("comboOverlap") private final int comboOverlap;
+
+    // [Mania], one per key count
+    @JsonProperty("maniaConfigs") private final List<ManiaConfig> maniaConfigs;
+
+    private SkinIni(Builder b) {
+        this.name = b.name;
+        this.author = b.author;
+        this.version = b.version;
+        this.animationFramerate = b.animationFramerate;
+        this.allowSliderBallTint = b.allowSliderBallTint;
+        this.comboBurstRandom = b.comboBurstRandom;
+        this.cursorCentre = b.cursorCentre;
+        this.cursorExpand = b.cursorExpand;
+        this.cursorRotate = b.cursorRotate;
+        this.cursorTrailRotate = b.cursorTrailRotate;
+        this.hitCircleOverlayAboveNumber = b.hitCircleOverlayAboveNumber;
+        this.layeredHitSounds = b.layeredHitSounds;
+        this.sliderBallFlip = b.sliderBallFlip;
+        this.sliderStyle = b.sliderStyle;
+        this.spinnerFadePlayfield = b.spinnerFadePlayfield;
+        this.spinnerNoBlink = b.spinnerNoBlink;
+        this.comboColours = b.comboColours.clone();
+        this.sliderBorder = b.sliderBorder;
+        this.sliderTrackOverride = b.sliderTrackOverride;
+        this.sliderBall = b.sliderBall;
+        this.spinnerBackground = b.spinnerBackground;
+        this.menuGlow = b.menuGlow;
+        this.starBreakAdditive = b.starBreakAdditive;
+        this.inputOverlayText = b.inputOverlayText;
+        this.songSelectActiveText = b.songSelectActiveText;
+        this.songSelectInactiveText = b.songSelectInactiveText;
+        this.definedColours = b.storedDefinedColours != null ? b.storedDefinedColours : b.definedColours;
+        this.hitCirclePrefix = b.hitCirclePrefix;
+        this.hitCircleOverlap = b.hitCircleOverlap;
+        this.scorePrefix = b.scorePrefix;
+        this.scoreOverlap = b.scoreOverlap;
+        this.comboPrefix = b.comboPrefix;
+        this.comboOverlap = b.comboOverlap;
+        this.maniaConfigs = Collections.unmodifiableList(new ArrayList<>(b.maniaConfigs));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getName() { return name; }
+    public String getAuthor() { return author; }
+    public String getVersion() { return version; }
+    public double getAnimationFramerate() { return animationFramerate; }
+    public boolean isAllowSliderBallTint() { return allowSliderBallTint; }
+    public boolean isComboBurstRandom() { return comboBurstRandom; }
+    public boolean isCursorCentre() { return cursorCentre; }
+    public boolean isCursorExpand() { return cursorExpand; }
+    public boolean isCursorRotate() { return cursorRotate; }
+    public boolean isCursorTrailRotate() { return cursorTrailRotate; }
+    public boolean isHitCircleOverlayAboveNumber() { return hitCircleOverlayAboveNumber; }
+    public boolean isLayeredHitSounds() { return layeredHitSounds; }
+    public boolean isSliderBallFlip() { return sliderBallFlip; }
+    public int getSliderStyle() { return sliderStyle; }
+    public boolean isSpinnerFadePlayfield() { return spinnerFadePlayfield; }
+    public boolean isSpinnerNoBlink() { return spinnerNoBlink; }
+
+    public int[] getComboColours() { return comboColours.clone(); }
+    public int getSliderBorder() { return sliderBorder; }
+    public int getSliderTrackOverride() { return sliderTrackOverride; }
+    public int getSliderBall() { return sliderBall; }
+    public int getSpinnerBackground() { return spinnerBackground; }
+    public int getMenuGlow() { return menuGlow; }
+    public int getStarBreakAdditive() { return starBreakAdditive; }
+    public int getInputOverlayText() { return inputOverlayText; }
+    public int getSongSelectActiveText() { return songSelectActiveText; }
+    public int getSongSelectInactiveText() { return songSelectInactiveText; }
+
+    public boolean hasSliderBorder() { return (definedColours & SLIDER_BORDER) != 0; }
+    public boolean hasSliderTrackOverride() { return (definedColours & SLIDER_TRACK_OVERRIDE) != 0; }
+    public boolean hasSliderBall() { return (definedColours & SLIDER_BALL) != 0; }
+    public boolean hasSpinnerBackground() { return (definedColours & SPINNER_BACKGROUND) != 0; }
+    public boolean hasMenuGlow() { return (definedColours & MENU_GLOW) != 0; }
+    public boolean hasStarBreakAdditive() { return (definedColours & STAR_BREAK_ADDITIVE) != 0; }
+    public boolean hasInputOverlayText() { return (definedColours & INPUT_OVERLAY_TEXT) != 0; }
+    public boolean hasSongSelectActiveText() { return (definedColours & SONG_SELECT_ACTIVE_TEXT) != 0; }
+    public boolean hasSongSelectInactiveText() { return (definedColours & SONG_SELECT_INACTIVE_TEXT) != 0; }
+
+    public String getHitCirclePrefix() { return hitCirclePrefix; }
+    public int getHitCircleOverlap() { return hitCircleOverlap; }
+    public String getScorePrefix() { return scorePrefix; }
+    public int getScoreOverlap() { return scoreOverlap; }
+    public String getComboPrefix() { return comboPrefix; }
+    public int getComboOverlap() { return comboOverlap; }
+
+    public List<ManiaConfig> getManiaConfigs() { return maniaConfigs; }
+
+    @JsonIgnore
+    public int getComboColourCount() {
+        return comboColours.length;
+    }
+
+    /**
+     * Combo colour by index, without copying the colour array.
+     */
+    public int getComboColour(int index) {
+        return comboColours[index];
+    }
+
+    /**
+     * The [Mania] section for the given key count, or null if the skin does not define one.
+     */
+    public ManiaConfig getManiaConfig(int keys) {
+        for (ManiaConfig config : maniaConfigs) {
+            if (config.getKeys() == keys) {
+                return config;
+            }
+        }
+        return null;
+    }
+
+    public static int red(int argb) { return (argb >> 16) & 0xFF; }
+    public static int green(int argb) { return (argb >> 8) & 0xFF; }
+    public static int blue(int argb) { return argb & 0xFF; }
+    public static int alpha(int argb) { return (argb >>> 24) & 0xFF; }
+
+    public static int argb(int r, int g, int b, int a) {
+        return (a & 0xFF) << 24 | (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+    }
+
+    /**
+     * One [Mania] section. Its many per-column keys are kept as raw values.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static final class ManiaConfig {
+
+        @JsonProperty("keys")
+        private final int keys;
+
+        @JsonProperty("properties")
+        private final Map<String, String> properties;
+
+        @JsonCreator
+        public ManiaConfig(@JsonProperty("keys") int keys,
+                           @JsonProperty("properties") Map<String, String> properties) {
+            this.keys = keys;
+            this.properties = properties == null
+                    ? Collections.emptyMap()
+                    : Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+        }
+
+        public int getKeys() {
+            return keys;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        /**
+         * Raw value for a key, matched case-insensitively, or null if absent.
+         */
+        public String get(String key) {
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(key)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable builder used by the parser and by Jackson when reading the scan index.
+     */
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static final class Builder {
+
+        private String name;
+        private String author;
+        private String version;
+        private double animationFramerate = -1;
+        private boolean allowSliderBallTint = false;
+        private boolean comboBurstRandom = false;
+        private boolean cursorCentre = true;
+        private boolean cursorExpand = true;
+        private boolean cursorRotate = true;
+        private boolean cursorTrailRotate = true;
+        private boolean hitCircleOverlayAboveNumber = true;
+        private boolean layeredHitSounds = true;
+        private boolean sliderBallFlip = true;
+        private int sliderStyle = 2;
+        private boolean spinnerFadePlayfield = false;
+        private boolean spinnerNoBlink = false;
+        private int[] comboColours = new int[0];
+        private int sliderBorder;
+        private int sliderTrackOverride;
+        private int sliderBall;
+        private int spinnerBackground;
+        private int menuGlow;
+        private int starBreakAdditive;
+        private int inputOverlayText;
+        private int songSelectActiveText;
+        private int songSelectInactiveText;
+        private int definedColours;
+        private Integer storedDefinedColours;  // As read from the scan index, which also sets every colour
+        private String hitCirclePrefix = "default";
+        private int hitCircleOverlap = -2;
+        private String scorePrefix = "score";
+        private int scoreOverlap = 0;
+        private String comboPrefix = "score";
+        private int comboOverlap = 0;
+        private List<ManiaConfig> maniaConfigs = new ArrayList<>();
+
+        public Builder name(String name) { this.name = name; return this; }
+        public Builder author(String author) { this.author = author; return this; }
+        public Builder version(String version) { this.version = version; return this; }
+        public Builder animationFramerate(double animationFramerate) { this.animationFramerate = animationFramerate; return this; }
+        public Builder allowSliderBallTint(boolean value) { this.allowSliderBallTint = value; return this; }
+        public Builder comboBurstRandom(boolean value) { this.comboBurstRandom = value; return this; }
+        public Builder cursorCentre(boolean value) { this.cursorCentre = value; return this; }
+        public Builder cursorExpand(boolean value) { this.cursorExpand = value; return this; }
+        public Builder cursorRotate(boolean value) { this.cursorRotate = value; return this; }
+        public Builder cursorTrailRotate(boolean value) { this.cursorTrailRotate = value; return this; }
+        public Builder hitCircleOverlayAboveNumber(boolean value) { this.hitCircleOverlayAboveNumber = value; return this; }
+        public Builder layeredHitSounds(boolean value) { this.layeredHitSounds = value; return this; }
+        public Builder sliderBallFlip(boolean value) { this.sliderBallFlip = value; return this; }
+        public Builder sliderStyle(int sliderStyle) { this.sliderStyle = sliderStyle; return this; }
+        public Builder spinnerFadePlayfield(boolean value) { this.spinnerFadePlayfield = value; return this; }
+        public Builder spinnerNoBlink(boolean value) { this.spinnerNoBlink = value; return this; }
+        public Builder comboColours(int[] comboColours) { this.comboColours = comboColours == null ? new int[0] : comboColours.clone(); return this; }
+        public Builder sliderBorder(int argb) { this.sliderBorder = argb; definedColours |= SLIDER_BORDER; return this; }
+        public Builder sliderTrackOverride(int argb) { this.sliderTrackOverride = argb; definedColours |= SLIDER_TRACK_OVERRIDE; return this; }
+        public Builder sliderBall(int argb) { this.sliderBall = argb; definedColours |= SLIDER_BALL; return this; }
+        public Builder spinnerBackground(int argb) { this.spinnerBackground = argb; definedColours |= SPINNER_BACKGROUND; return this; }
+        public Builder menuGlow(int argb) { this.menuGlow = argb; definedColours |= MENU_GLOW; return this; }
+        public Builder starBreakAdditive(int argb) { this.starBreakAdditive = argb; definedColours |= STAR_BREAK_ADDITIVE; return this; }
+        public Builder inputOverlayText(int argb) { this.inputOverlayText = argb; definedColours |= INPUT_OVERLAY_TEXT; return this; }
+        public Builder songSelectActiveText(int argb) { this.songSelectActiveText = argb; definedColours |= SONG_SELECT_ACTIVE_TEXT; return this; }
+        public Builder songSelectInactiveText(int argb) { this.songSelectInactiveText = argb; definedColours |= SONG_SELECT_INACTIVE_TEXT; return this; }
+        public Builder definedColours(int bits) { this.storedDefinedColours = bits; return this; }
+        public Builder hitCirclePrefix(String prefix) { this.hitCirclePrefix = prefix; return this; }
+        public Builder hitCircleOverlap(int overlap) { this.hitCircleOverlap = overlap; return this; }
+        public Builder scorePrefix(String prefix) { this.scorePrefix = prefix; return this; }
+        public Builder scoreOverlap(int overlap) { this.scoreOverlap = overlap; return this; }
+        public Builder comboPrefix(String prefix) { this.comboPrefix = prefix; return this; }
+        public Builder comboOverlap(int overlap) { this.comboOverlap = overlap; return this; }
+        public Builder maniaConfigs(List<ManiaConfig> configs) { this.maniaConfigs = configs == null ? new ArrayList<>() : new ArrayList<>(configs); return this; }
+
+        public Builder addManiaConfig(ManiaConfig config) {
+            maniaConfigs.add(config);
+            return this;
+        }
+
+        public SkinIni build() {
+            return new SkinIni(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SkinIni{" +
+               "name='" + name + '\'' +
+               ", version='" + version + '\'' +
+               ", comboColours=" + Arrays.toString(comboColours) +
+               ", hitCirclePrefix='" + hitCirclePrefix + '\'' +
+               ", maniaConfigs=" + maniaConfigs.size() +
+               '}';
+    }
+}
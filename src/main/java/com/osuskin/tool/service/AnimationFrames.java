@@ -0,0 +1,121 @@
+package com.osuskin.tool.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Animation frame files of a skin, found in one pass over its file names. Frame
+ * files are named {@code name-N} or {@code nameN}, optionally with {@code @2x};
+ * they are grouped by their lowercased name prefix and sorted by frame number.
+ */
+class AnimationFrames {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("png", "jpg", "jpeg");
+
+    private final Map<String, TreeMap<Integer, Frame>> framesByPrefix = new HashMap<>();
+
+    private AnimationFrames() {
+    }
+
+    static AnimationFrames of(Collection<String> fileNames) {
+        AnimationFrames frames = new AnimationFrames();
+        for (String fileName : fileNames) {
+            frames.add(fileName);
+        }
+        return frames;
+    }
+
+    /**
+     * Frames of an element, {@code name-N} files taking precedence over {@code nameN}.
+     * Like osu!, the sequence starts at frame 0 (or 1) and ends at the first gap.
+     * Returns an empty list if the element is not animated.
+     */
+    List<Frame> find(String elementName) {
+        String prefix = elementName.toLowerCase(Locale.ROOT);
+        List<Frame> frames = contiguous(framesByPrefix.get(prefix + "-"));
+        return frames.isEmpty() ? contiguous(framesByPrefix.get(prefix)) : frames;
+    }
+
+    private void add(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || !IMAGE_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT))) {
+            return;
+        }
+        String name = fileName.substring(0, dot);
+        boolean hd = name.toLowerCase(Locale.ROOT).endsWith("@2x");
+        if (hd) {
+            name = name.substring(0, name.length() - 3);
+        }
+
+        int digits = name.length();
+        while (digits > 0 && Character.isDigit(name.charAt(digits - 1))) {
+            digits--;
+        }
+        if (digits == name.length() || digits == 0 || name.length() - digits > 4) {
+            return;  // Not numbered, or not a frame number
+        }
+
+        int number = Integer.parseInt(name.substring(digits));
+        String prefix = name.substring(0, digits).toLowerCase(Locale.ROOT);
+        Frame frame = framesByPrefix.computeIfAbsent(prefix, key -> new TreeMap<>())
+                                    .computeIfAbsent(number, Frame::new);
+        if (hd) {
+            frame.hdName = frame.hdName != null ? frame.hdName : name + "@2x";
+        } else {
+            frame.sdName = frame.sdName != null ? frame.sdName : name;
+        }
+    }
+
+    private static List<Frame> contiguous(TreeMap<Integer, Frame> frames) {
+        if (frames == null) {
+            return Collections.emptyList();
+        }
+        List<Frame> sequence = new ArrayList<>();
+        int expected = frames.containsKey(0) ? 0 : 1;
+        for (Frame frame : frames.tailMap(expected).values()) {
+            if (frame.number != expected) {
+                break;
+            }
+            sequence.add(frame);
+            expected++;
+        }
+        return sequence;
+    }
+
+    /**
+     * One frame and its file names without extension, SD and/or HD.
+     */
+    static class Frame {
+        final int number;
+        String sdName;
+        String hdName;
+
+        Frame(int number) {
+            this.number = number;
+        }
+
+        /**
+         * Name to load, the HD file when the skin has one, as for static elements.
+         */
+        String getPreferredName() {
+            return getName(true);
+        }
+
+        /**
+         * Name of the SD or HD file, or the other one when the frame has only that.
+         */
+        String getName(boolean hd) {
+            if (hd) {
+                return hdName != null ? hdName : sdName;
+            }
+            return sdName != null ? sdName : hdName;
+        }
+    }
+}
@@ -56,6 +56,32 @@ public class ConfigurationService {
         logger.info("Updated auto scan on startup: {}", enabled);
     }
     
+    public void updateScanThreadCount(int threadCount) {
+        configurationManager.getConfiguration().setScanThreadCount(threadCount);
+        configurationManager.saveConfiguration();
+        logger.info("Updated scan thread count: {}", threadCount);
+    }
+    
+    public void updateExtractionConcurrency(int concurrency) {
+        configurationManager.getConfiguration().setExtractionConcurrency(concurrency);
+        configurationManager.saveConfiguration();
+        logger.info("Updated extraction concurrency: {}", concurrency);
+    }
+    
+    public void updateTextureCacheSize(int megabytes) {
+        configurationManager.getConfiguration().setTextureCacheSizeMb(megabytes);
+        configurationManager.saveConfiguration();
+        TextureCache.getInstance().setBudgetBytes(
+            configurationManager.getConfiguration().getTextureCacheSizeMb() * 1024L * 1024L);
+        logger.info("Updated texture cache size: {} MB", megabytes);
+    }
+    
+    public void updateIndexArchives(boolean indexArchives) {
+        configurationManager.getConfiguration().setIndexArchives(indexArchives);
+        configurationManager.saveConfiguration();
+        logger.info("Updated archive indexing: {}", indexArchives);
+    }
+    
     public boolean isFirstRun() {
         return configurationManager.isFirstRun();
     }
@@ -0,0 +1,167 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+import javafx.scene.media.Media;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide access to the default skin bundled under /default-skin/, shared by
+ * all loaders. Resource lookups, including misses, are resolved once per element;
+ * decoded images are kept in the {@link TextureCache} under one key per element,
+ * and audio is created once and reused.
+ */
+public class DefaultSkinResources {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultSkinResources.class);
+
+    static final String RESOURCE_PATH = "/default-skin/";
+    private static final String CACHE_KEY_PREFIX = "default-skin|";
+
+    private static final List<String> IMAGE_EXTENSIONS = List.of("png", "jpg", "jpeg");
+    private static final List<String> AUDIO_EXTENSIONS = List.of("wav", "ogg", "mp3");
+
+    private static final int MAX_FRAMES = 100;
+
+    private static final DefaultSkinResources INSTANCE = new DefaultSkinResources();
+
+    private final Map<String, Optional<URL>> imageUrls = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Media>> audio = new ConcurrentHashMap<>();
+
+    private DefaultSkinResources() {
+    }
+
+    public static DefaultSkinResources getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Key of a default skin image in the texture cache, the same for every loader.
+     */
+    public String cacheKey(String elementName) {
+        return CACHE_KEY_PREFIX + elementName;
+    }
+
+    /**
+     * Key of a default skin image decoded at a size bucket of {@link ScaledImageDecoder}.
+     */
+    public String cacheKey(String elementName, double bucket) {
+        return ScaledImageDecoder.key(cacheKey(elementName), bucket);
+    }
+
+    public boolean hasImage(String elementName) {
+        return findImage(elementName) != null;
+    }
+
+    /**
+     * Decode a default skin image, or return null if the default skin has none.
+     * Callers cache the result under {@link #cacheKey(String)}.
+     */
+    public Image decodeImage(String elementName) {
+        URL resource = findImage(elementName);
+        if (resource == null) {
+            return null;
+        }
+        try {
+            Image image = new Image(resource.toExternalForm());
+            if (!image.isError()) {
+                return image;
+            }
+            logger.warn("Image error for default skin element {}: {}", elementName, image.getException());
+        } catch (Exception e) {
+            logger.error("Error loading default skin image: {}", resource, e);
+        }
+        return null;
+    }
+
+    /**
+     * Decode a default skin image at a size bucket, from the SD or @2x file as the
+     * bucket prefers, or return null if the default skin has neither. Callers cache
+     * the result under {@link #cacheKey(String, double)}.
+     */
+    public Image decodeImage(String elementName, double bucket) {
+        if (bucket == ScaledImageDecoder.FULL_SIZE) {
+            return decodeImage(elementName);
+        }
+        boolean hd = ScaledImageDecoder.prefersHd(bucket);
+        URL resource = findImage(hd ? elementName + "@2x" : elementName);
+        if (resource == null) {
+            hd = !hd;
+            resource = findImage(hd ? elementName + "@2x" : elementName);
+        }
+        if (resource == null) {
+            return null;
+        }
+        try {
+            Image image = ScaledImageDecoder.decode(resource::openStream, hd ? bucket / 2 : bucket);
+            if (!image.isError()) {
+                return image;
+            }
+            logger.warn("Image error for default skin element {}: {}", elementName, image.getException());
+        } catch (Exception e) {
+            logger.error("Error loading default skin image: {}", resource, e);
+        }
+        return null;
+    }
+
+    /**
+     * Names of the default skin's frames of an animated element, {@code name-N}
+     * before {@code nameN}, from frame 0 (or 1) to the first gap. Empty if none.
+     */
+    public List<String> findFrames(String elementName) {
+        for (String separator : List.of("-", "")) {
+            List<String> frames = new ArrayList<>();
+            int number = hasImage(elementName + separator + 0) ? 0 : 1;
+            while (number < MAX_FRAMES && hasImage(elementName + separator + number)) {
+                frames.add(elementName + separator + number);
+                number++;
+            }
+            if (!frames.isEmpty()) {
+                return frames;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Shared default skin sound, or null if the default skin has none.
+     */
+    public Media getAudio(String elementName) {
+        return audio.computeIfAbsent(elementName, name -> Optional.ofNullable(createAudio(name))).orElse(null);
+    }
+
+    private URL findImage(String elementName) {
+        return imageUrls.computeIfAbsent(elementName, name -> Optional.ofNullable(findResource(name, IMAGE_EXTENSIONS)))
+                        .orElse(null);
+    }
+
+    private Media createAudio(String elementName) {
+        URL resource = findResource(elementName, AUDIO_EXTENSIONS);
+        if (resource == null) {
+            return null;
+        }
+        try {
+            return new Media(resource.toExternalForm());
+        } catch (Exception e) {
+            logger.error("Error loading default skin audio: {}", resource, e);
+            return null;
+        }
+    }
+
+    private static URL findResource(String elementName, List<String> extensions) {
+        for (String ext : extensions) {
+            URL resource = DefaultSkinResources.class.getResource(RESOURCE_PATH + elementName + "." + ext);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
+}
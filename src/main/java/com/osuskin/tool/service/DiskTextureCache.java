@@ -0,0 +1,258 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of decoded, preview-scaled skin textures, so revisiting a skin
+ * in a later session skips PNG decoding. Each texture is one file of premultiplied
+ * BGRA pixels behind a small header, named after a hash of its source path, size,
+ * modification time and scale; a changed source gets a new name. Reads map the
+ * file and hand the pixels straight to a {@link WritableImage}.
+ * <p>
+ * Disabled until a directory is set. Old files are removed, least recently
+ * written first, when the directory grows past its size limit.
+ */
+public class DiskTextureCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskTextureCache.class);
+
+    public static final long DEFAULT_MAX_BYTES = 512L * 1024 * 1024;
+
+    private static final int MAGIC = 0x4F535458;  // "OSTX"
+    private static final int VERSION = 1;
+    private static final String EXTENSION = ".tex";
+
+    private static final DiskTextureCache INSTANCE = new DiskTextureCache();
+
+    private volatile Path directory;
+    private volatile long maxBytes = DEFAULT_MAX_BYTES;
+
+    DiskTextureCache() {
+    }
+
+    public static DiskTextureCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Store textures under a directory, created if needed. A null directory
+     * disables the cache.
+     */
+    public void setDirectory(Path directory) {
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                logger.warn("Could not create texture cache directory, disk cache disabled: {}", directory, e);
+                directory = null;
+            }
+        }
+        this.directory = directory;
+        logger.info("Disk texture cache: {}", directory != null ? directory : "disabled");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Texture decoded from a source file at a scale of its pixel size, or null if
+     * it is not cached or the cache is disabled.
+     */
+    public Image load(Path source, double fileScale) {
+        Path directory = this.directory;
+        if (directory == null) {
+            return null;
+        }
+        try {
+            String key = key(source, fileScale);
+            Path file = directory.resolve(fileName(key));
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return read(buffer, key);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not read cached texture for {}", source, e);
+            return null;
+        }
+    }
+
+    /**
+     * Store a texture decoded from a source file. Failures are logged and ignored;
+     * the texture is simply decoded again next time.
+     */
+    public void store(Path source, double fileScale, Image image) {
+        Path directory = this.directory;
+        PixelReader reader = image.getPixelReader();
+        if (directory == null || reader == null) {
+            return;
+        }
+        Path temp = null;
+        try {
+            String key = key(source, fileScale);
+            ByteBuffer data = write(reader, (int) image.getWidth(), (int) image.getHeight(), key);
+
+            // Written aside and moved in, so readers never map a partial file
+            Path target = directory.resolve(fileName(key));
+            temp = Files.createTempFile(directory, "texture", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not cache texture for {}", source, e);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next trim
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete the oldest texture files until the directory fits its size limit.
+     * Returns the number of files deleted.
+     */
+    public int trim() {
+        Path directory = this.directory;
+        if (directory == null) {
+            return 0;
+        }
+        List<CachedFile> files = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> stream = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) stream::iterator) {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attrs.isRegularFile()) {
+                    files.add(new CachedFile(file, attrs));
+                    total += attrs.size();
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not list texture cache: {}", directory, e);
+            return 0;
+        }
+        if (total <= maxBytes) {
+            return 0;
+        }
+
+        files.sort(Comparator.comparing(file -> file.attributes().lastModifiedTime()));
+        int deleted = 0;
+        for (CachedFile file : files) {
+            if (total <= maxBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+                total -= file.attributes().size();
+                deleted++;
+            } catch (IOException e) {
+                logger.debug("Could not delete cached texture: {}", file.path(), e);
+            }
+        }
+        logger.info("Trimmed {} textures from the disk cache", deleted);
+        return deleted;
+    }
+
+    /**
+     * Identity of a decoded texture: the source file as it is now, and the scale.
+     */
+    static String key(Path source, double fileScale) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+        return source.toAbsolutePath().normalize() + "|" + attrs.size() + "|"
+            + attrs.lastModifiedTime().toMillis() + "|" + fileScale;
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 20) + EXTENSION;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Layout: magic, version, key length, UTF-8 key, width, height, then
+     * width * height premultiplied BGRA pixels, all big-endian.
+     */
+    static ByteBuffer write(PixelReader reader, int width, int height, String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int stride = width * 4;
+        ByteBuffer buffer = ByteBuffer.allocate(20 + keyBytes.length + stride * height);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(keyBytes.length).put(keyBytes).putInt(width).putInt(height);
+        reader.getPixels(0, 0, width, height, PixelFormat.getByteBgraPreInstance(), buffer, stride);
+        buffer.rewind();
+        return buffer;
+    }
+
+    static Image read(ByteBuffer buffer, String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < 20 + keyBytes.length || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                || buffer.getInt() != keyBytes.length) {
+            return null;
+        }
+        byte[] storedKey = new byte[keyBytes.length];
+        buffer.get(storedKey);
+        if (!Arrays.equals(storedKey, keyBytes)) {
+            return null;  // Hash collision, or a file from another source
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int stride = width * 4;
+        if (width <= 0 || height <= 0 || buffer.remaining() != (long) stride * height) {
+            return null;
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getByteBgraPreInstance(), buffer, stride);
+        return image;
+    }
+
+    private record CachedFile(Path path, BasicFileAttributes attributes) {
+    }
+}
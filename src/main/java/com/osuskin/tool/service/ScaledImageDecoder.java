@@ -0,0 +1,102 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes skin images at the size they are drawn at. Render scales are relative to
+ * an element's SD size and rounded up to buckets of 1/8, so nearby sizes share one
+ * cached texture. PNG sizes are read from the header; other formats are decoded
+ * at full size.
+ */
+final class ScaledImageDecoder {
+
+    /** Render scale meaning "decode at the file's own size". */
+    static final double FULL_SIZE = 0;
+
+    static final double BUCKET_STEP = 0.125;
+    static final double MAX_SCALE = 2.0;
+
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    /**
+     * Opens the image bytes; called once for the header and once for the decode.
+     */
+    interface Source {
+        InputStream open() throws IOException;
+    }
+
+    private ScaledImageDecoder() {
+    }
+
+    /**
+     * Size bucket of a render scale: rounded up to a multiple of 1/8, at most 2
+     * (the @2x size). Zero, negative and NaN scales mean full size.
+     */
+    static double bucket(double renderScale) {
+        if (!(renderScale > 0)) {
+            return FULL_SIZE;
+        }
+        double bucket = Math.ceil(renderScale / BUCKET_STEP) * BUCKET_STEP;
+        return Math.min(MAX_SCALE, Math.max(BUCKET_STEP, bucket));
+    }
+
+    /**
+     * Texture cache key of an element at a size bucket. Full size keeps the plain key.
+     */
+    static String key(String key, double bucket) {
+        return bucket == FULL_SIZE ? key : key + "@" + bucket;
+    }
+
+    /**
+     * Whether a bucket is drawn from the @2x file, which then only needs half the scale.
+     */
+    static boolean prefersHd(double bucket) {
+        return bucket == FULL_SIZE || bucket > 1;
+    }
+
+    /**
+     * Decode an image scaled by {@code fileScale} of its own pixel size, smoothly.
+     */
+    static Image decode(Source source, double fileScale) throws IOException {
+        int[] size = null;
+        if (fileScale != FULL_SIZE && fileScale != 1) {
+            try (InputStream in = source.open()) {
+                size = readPngSize(in);
+            }
+        }
+        try (InputStream in = source.open()) {
+            if (size == null) {
+                return new Image(in);
+            }
+            double width = Math.max(1, Math.round(size[0] * fileScale));
+            double height = Math.max(1, Math.round(size[1] * fileScale));
+            return new Image(in, width, height, false, true);
+        }
+    }
+
+    /**
+     * Width and height from a PNG's IHDR chunk, or null if the stream is not a PNG.
+     */
+    static int[] readPngSize(InputStream in) throws IOException {
+        byte[] header = in.readNBytes(24);
+        if (header.length < 24) {
+            return null;
+        }
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (header[i] != PNG_SIGNATURE[i]) {
+                return null;
+            }
+        }
+        if (header[12] != 'I' || header[13] != 'H' || header[14] != 'D' || header[15] != 'R') {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        int width = buffer.getInt(16);
+        int height = buffer.getInt(20);
+        return width > 0 && height > 0 ? new int[] { width, height } : null;
+    }
+}
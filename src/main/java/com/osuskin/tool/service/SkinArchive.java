@@ -0,0 +1,226 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.SkinElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Read-only view of a compressed .osk/.zip skin. Opening it reads only the ZIP
+ * central directory; entry data is decompressed when an entry is opened.
+ * Entry names are relative to the skin root, with a single wrapping folder stripped.
+ */
+public class SkinArchive implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkinArchive.class);
+
+    private final Path archivePath;
+    private final ZipFile zipFile;
+    private final String rootFolder;
+    private final List<ZipEntry> files = new ArrayList<>();            // Files directly in the skin root
+    private final Map<String, ZipEntry> filesByLowerName = new HashMap<>();
+
+    private SkinArchive(Path archivePath, ZipFile zipFile) {
+        this.archivePath = archivePath;
+        this.zipFile = zipFile;
+        this.rootFolder = detectRootFolder(zipFile);
+
+        String prefix = rootFolder != null ? rootFolder : "";
+        zipFile.stream().forEach(entry -> {
+            String name = entry.getName();
+            if (entry.isDirectory() || !name.startsWith(prefix)) {
+                return;
+            }
+            String relativeName = name.substring(prefix.length());
+            if (relativeName.isEmpty() || relativeName.indexOf('/') >= 0) {
+                return;  // Only the skin root is previewed, like a skin directory
+            }
+            files.add(entry);
+            filesByLowerName.putIfAbsent(relativeName.toLowerCase(Locale.ROOT), entry);
+        });
+    }
+
+    public static SkinArchive open(Path archivePath) throws IOException {
+        return new SkinArchive(archivePath, new ZipFile(archivePath.toFile()));
+    }
+
+    public static boolean isSupported(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".osk") || fileName.endsWith(".zip");
+    }
+
+    public Path getArchivePath() {
+        return archivePath;
+    }
+
+    /**
+     * Files in the skin root, in central directory order.
+     */
+    public List<ZipEntry> getFiles() {
+        return Collections.unmodifiableList(files);
+    }
+
+    /**
+     * File name of an entry relative to the skin root.
+     */
+    public String getFileName(ZipEntry entry) {
+        String name = entry.getName();
+        return rootFolder != null ? name.substring(rootFolder.length()) : name;
+    }
+
+    /**
+     * Case-insensitive lookup of a file in the skin root, or null if absent.
+     */
+    public ZipEntry findFile(String fileName) {
+        return filesByLowerName.get(fileName.toLowerCase(Locale.ROOT));
+    }
+
+    public InputStream openFile(ZipEntry entry) throws IOException {
+        return zipFile.getInputStream(entry);
+    }
+
+    public byte[] readFile(ZipEntry entry) throws IOException {
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * jar: URL of an entry, for consumers such as Media that only accept URLs.
+     */
+    public String getFileUrl(ZipEntry entry) {
+        try {
+            String encodedName = new URI(null, null, entry.getName(), null).getRawPath();
+            return "jar:" + archivePath.toUri() + "!/" + encodedName;
+        } catch (URISyntaxException e) {
+            logger.debug("Could not build URL for archive entry: {}", entry.getName(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            zipFile.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close archive: {}", archivePath, e);
+        }
+    }
+
+    /**
+     * Detects if a ZIP file has all its content in a single root folder that should be stripped.
+     * Returns the folder prefix to strip, or null if no stripping is needed.
+     */
+    static String detectRootFolder(ZipFile zip) {
+        return detectRootFolder(zip.stream()
+            .map(entry -> entry.getName())
+            .toList());
+    }
+
+    /**
+     * Same detection from the archive's entry names, directories ending in '/'.
+     */
+    static String detectRootFolder(List<String> names) {
+        List<String> entryNames = names.stream()
+            .filter(name -> !name.isEmpty())
+            .toList();
+
+        if (entryNames.isEmpty()) {
+            return null;
+        }
+
+        // Find potential root folder - look for entries that contain skin files
+        Set<String> potentialRootFolders = new HashSet<>();
+        boolean hasRootLevelSkinFiles = false;
+
+        for (String entryName : entryNames) {
+            // Check if this entry contains skin-related files at root level
+            if (!entryName.contains("/") && isSkinRelatedFile(entryName)) {
+                hasRootLevelSkinFiles = true;
+                break;
+            }
+
+            // Check for skin files in subdirectories
+            if (entryName.contains("/")) {
+                String[] parts = entryName.split("/");
+                if (parts.length >= 2 && isSkinRelatedFile(parts[parts.length - 1])) {
+                    potentialRootFolders.add(parts[0] + "/");
+                }
+            }
+        }
+
+        // If there are skin files at root level, don't strip anything
+        if (hasRootLevelSkinFiles) {
+            return null;
+        }
+
+        // If all skin files are in a single subdirectory, strip that directory
+        if (potentialRootFolders.size() == 1) {
+            String rootFolder = potentialRootFolders.iterator().next();
+
+            // Verify that most entries are in this folder
+            long entriesInRoot = entryNames.stream()
+                .filter(name -> name.startsWith(rootFolder))
+                .count();
+
+            // If more than 80% of entries are in this folder, strip it
+            if (entriesInRoot > entryNames.size() * 0.8) {
+                logger.debug("Detected nested folder structure, will strip root folder: {}", rootFolder);
+                return rootFolder;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if a filename is related to osu! skin files
+     */
+    static boolean isSkinRelatedFile(String filename) {
+        if (filename == null || filename.isEmpty()) {
+            return false;
+        }
+
+        String lowerName = filename.toLowerCase();
+
+        // Check for skin.ini
+        if (lowerName.equals("skin.ini")) {
+            return true;
+        }
+
+        // Check for common skin elements
+        for (SkinElement.ElementType elementType : SkinElement.ElementType.values()) {
+            if (elementType.getFileName().toLowerCase().equals(lowerName)) {
+                return true;
+            }
+        }
+
+        // Check for common skin file patterns
+        return lowerName.startsWith("hitcircle") ||
+               lowerName.startsWith("cursor") ||
+               lowerName.startsWith("slider") ||
+               lowerName.startsWith("spinner") ||
+               lowerName.startsWith("menu-") ||
+               lowerName.startsWith("score-") ||
+               lowerName.startsWith("ranking-") ||
+               lowerName.contains("hitnormal") ||
+               lowerName.contains("hitclap") ||
+               lowerName.contains("hitfinish") ||
+               lowerName.contains("hitwhistle");
+    }
+}
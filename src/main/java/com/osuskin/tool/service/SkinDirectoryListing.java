@@ -0,0 +1,89 @@
+package com.osuskin.tool.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of a single skin directory taken with one directory enumeration.
+ * The entry names are read once; file attributes are read lazily for the same
+ * entries, so callers never list the directory again.
+ */
+public class SkinDirectoryListing {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkinDirectoryListing.class);
+
+    private final Path directory;
+    private final List<Path> entries;
+    private List<BasicFileAttributes> attributes;  // Loaded on first use, null for unreadable entries
+
+    private SkinDirectoryListing(Path directory, List<Path> entries) {
+        this.directory = directory;
+        this.entries = entries;
+    }
+
+    /**
+     * Enumerate the directory once.
+     */
+    public static SkinDirectoryListing read(Path directory) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path entry : stream) {
+                entries.add(entry);
+            }
+        }
+        return new SkinDirectoryListing(directory, entries);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Path> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Attributes of the entry at the given index, or null if they could not be read.
+     */
+    public BasicFileAttributes getAttributes(int index) {
+        if (attributes == null) {
+            loadAttributes();
+        }
+        return attributes.get(index);
+    }
+
+    public boolean isRegularFile(int index) {
+        BasicFileAttributes attrs = getAttributes(index);
+        return attrs != null && attrs.isRegularFile();
+    }
+
+    public String getFileName(int index) {
+        return entries.get(index).getFileName().toString();
+    }
+
+    private void loadAttributes() {
+        List<BasicFileAttributes> loaded = new ArrayList<>(entries.size());
+        for (Path entry : entries) {
+            try {
+                loaded.add(Files.readAttributes(entry, BasicFileAttributes.class));
+            } catch (IOException e) {
+                logger.debug("Could not read attributes of: {}", entry, e);
+                loaded.add(null);
+            }
+        }
+        attributes = loaded;
+    }
+}
@@ -8,17 +8,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
 
 /**
  * Service for loading skin elements with support for multiple file formats and animations.
  * Handles missing elements gracefully and provides fallback to defaults.
+ * Skins that are still compressed are read entry by entry from their archive.
+ * Images may be loaded from several threads at once; decoding happens outside the
+ * loader's lock, so {@link #preloadAsync} decodes a whole element set in parallel.
  */
-public class SkinElementLoader {
+public class SkinElementLoader implements AutoCloseable {
     
     private static final Logger logger = LoggerFactory.getLogger(SkinElementLoader.class);
     
@@ -26,14 +37,38 @@ public class SkinElementLoader {
     private static final Set<String> IMAGE_EXTENSIONS = Set.of("png", "jpg", "jpeg");
     private static final Set<String> AUDIO_EXTENSIONS = Set.of("wav", "ogg", "mp3");
     
-    // Cache for loaded resources
-    private final Map<String, Image> imageCache = new HashMap<>();
-    private final Map<String, Media> audioCache = new HashMap<>();
-    private final Map<String, List<Image>> animationCache = new HashMap<>();
+    /** Render scale that decodes images at their own size. */
+    public static final double FULL_SIZE = ScaledImageDecoder.FULL_SIZE;
+    
+    // Preloads and animation frames are decoded here; JavaFX images may be created off the FX thread
+    private static final ExecutorService DECODE_POOL = Executors.newFixedThreadPool(
+        Math.max(2, Runtime.getRuntime().availableProcessors()), new ThreadFactory() {
+            private final AtomicInteger threadIndex = new AtomicInteger();
+            
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "skin-decode-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    
+    // Images live in the shared, bounded texture cache; this loader pins what it hands out
+    private final TextureCache textureCache = TextureCache.getInstance();
+    private final Set<String> pinnedKeys = new HashSet<>();  // Guarded by this
+    private final Set<String> missingFromSkin = ConcurrentHashMap.newKeySet();  // Served by the default skin
+    private final DefaultSkinResources defaultSkin = DefaultSkinResources.getInstance();
+    private final DiskTextureCache diskCache = DiskTextureCache.getInstance();  // Scaled textures across sessions
+    private final Map<String, Media> audioCache = new ConcurrentHashMap<>();  // Loaded off the FX thread
+    private final Map<String, Image[]> animationCache = new ConcurrentHashMap<>();  // Frames are pinned
+    private volatile boolean closed;
     
     private Path skinDirectory;
+    private SkinArchive archive;  // Set for virtual skins, entries are decoded on demand
     private Path defaultSkinDirectory;
-    private static final String DEFAULT_SKIN_RESOURCE_PATH = "/default-skin/";
+    private SkinFileIndex fileIndex;           // Built on first lookup from one listing
+    private SkinFileIndex defaultFileIndex;
+    private AnimationFrames skinFrames;
     private com.osuskin.tool.model.Skin currentSkin;
     
     public SkinElementLoader(Path skinDirectory) {
@@ -41,8 +76,30 @@ public class SkinElementLoader {
         // TODO: Set default skin directory from application resources
     }
     
-    public void setSkinDirectory(Path skinDirectory) {
+    public SkinElementLoader(SkinArchive archive) {
+        this(archive.getArchivePath());
+        this.archive = archive;
+    }
+    
+    /**
+     * Create a loader for a skin, reading from its archive if it has not been extracted.
+     */
+    public static SkinElementLoader forSkin(com.osuskin.tool.model.Skin skin) {
+        if (skin.isVirtual()) {
+            try {
+                return new SkinElementLoader(SkinArchive.open(skin.getArchivePathAsPath()));
+            } catch (IOException e) {
+                logger.warn("Could not open skin archive: {}", skin.getArchivePath(), e);
+            }
+        }
+        return new SkinElementLoader(skin.getDirectoryPathAsPath());
+    }
+    
+    public synchronized void setSkinDirectory(Path skinDirectory) {
+        closeArchive();
         this.skinDirectory = skinDirectory;
+        this.fileIndex = null;
+        this.skinFrames = null;
         this.currentSkin = null;  // Reset current skin
         clearCache();
     }
@@ -55,14 +112,49 @@ public class SkinElementLoader {
         return currentSkin;
     }
     
-    public void setDefaultSkinDirectory(Path defaultSkinDirectory) {
+    public synchronized void setDefaultSkinDirectory(Path defaultSkinDirectory) {
         this.defaultSkinDirectory = defaultSkinDirectory;
+        this.defaultFileIndex = null;
     }
     
-    public void clearCache() {
-        imageCache.clear();
+    public synchronized void clearCache() {
+        releaseTextures();
         audioCache.clear();
         animationCache.clear();
+        missingFromSkin.clear();
+    }
+    
+    /**
+     * Release the skin archive, if any, and unpin this loader's textures so the
+     * cache may evict them. Loaded resources stay usable.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;  // Decodes still running are cached without being pinned
+        closeArchive();
+        releaseTextures();
+        animationCache.clear();
+    }
+    
+    /**
+     * Whether the loader was closed. Decodes queued by a closed loader are skipped.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+    
+    private void releaseTextures() {
+        for (String key : pinnedKeys) {
+            textureCache.release(key);
+        }
+        pinnedKeys.clear();
+    }
+    
+    private void closeArchive() {
+        if (archive != null) {
+            archive.close();
+            archive = null;
+        }
     }
     
     /**
@@ -70,137 +162,310 @@ public class SkinElementLoader {
      * Falls back to default skin if not found.
      */
     public Image loadImage(String elementName) {
-        if (imageCache.containsKey(elementName)) {
-            return imageCache.get(elementName);
+        return loadImage(elementName, FULL_SIZE);
+    }
+    
+    /**
+     * Load an image element decoded at the size it is drawn at. The render scale is
+     * the drawn size over the element's SD size, so an element drawn at half its SD
+     * size takes 0.5; the SD file serves scales up to 1, the @2x file larger ones.
+     * Scales are rounded up to buckets of 1/8, each cached separately; the images
+     * returned are the SD size times the bucket whichever file they come from.
+     * {@link #FULL_SIZE} decodes the file as is, preferring @2x.
+     */
+    public Image loadImage(String elementName, double renderScale) {
+        double bucket = ScaledImageDecoder.bucket(renderScale);
+        Image image = loadSkinImage(elementName, bucket);
+        if (image != null) {
+            return image;
         }
         
-        Image image = null;
+        // Fall back to the bundled default skin, shared by all loaders
+        image = loadDefaultImage(elementName, bucket);
+        if (image == null) {
+            logger.debug("Could not load image element: {}", elementName);
+        }
+        return image;
+    }
+    
+    /**
+     * Load an image element from the skin itself, or the configured default
+     * directory, preferring the HD version. Misses are remembered.
+     */
+    private Image loadSkinImage(String elementName, double bucket) {
+        if (missingFromSkin.contains(elementName)) {
+            return null;
+        }
         
-        // Try HD version first (@2x)
-        image = tryLoadImage(elementName + "@2x");
+        String key = ScaledImageDecoder.key(cacheKey(elementName), bucket);
+        Image image = getCachedImage(key);
+        if (image != null) {
+            return image;
+        }
+        
+        image = decodeSkinImage(elementName, bucket);
+        if (image != null) {
+            return cacheImage(key, image);
+        }
+        missingFromSkin.add(elementName);
+        return null;
+    }
+    
+    private Image decodeSkinImage(String elementName, double bucket) {
+        // Try the preferred version first: HD (@2x) at full size or large scales
+        boolean hd = ScaledImageDecoder.prefersHd(bucket);
+        Image image = tryLoadImage(elementName, hd, bucket);
         
-        // Try standard version
+        // Try the other version
         if (image == null) {
-            image = tryLoadImage(elementName);
+            image = tryLoadImage(elementName, !hd, bucket);
         }
         
         // Try default skin from file system if configured
         if (image == null && defaultSkinDirectory != null) {
-            image = tryLoadImageFromDirectory(defaultSkinDirectory, elementName);
+            image = tryLoadImageFromDirectory(getDefaultFileIndex(), elementName, bucket);
         }
-        
-        // Try default skin from resources (bundled with application)
-        if (image == null) {
-            image = tryLoadImageFromResources(elementName);
+        return image;
+    }
+    
+    private Image tryLoadImage(String elementName, boolean hd, double bucket) {
+        return hd ? tryLoadImage(elementName + "@2x", fileScale(true, bucket))
+                  : tryLoadImage(elementName, fileScale(false, bucket));
+    }
+    
+    /**
+     * Scale of a file's own pixels that gives the SD size times the bucket.
+     */
+    private static double fileScale(boolean hd, double bucket) {
+        return hd && bucket != FULL_SIZE ? bucket / 2 : bucket;
+    }
+    
+    private Image loadDefaultImage(String elementName, double bucket) {
+        String key = defaultSkin.cacheKey(elementName, bucket);
+        Image image = getCachedImage(key);
+        if (image == null && defaultSkin.hasImage(elementName)) {
+            image = defaultSkin.decodeImage(elementName, bucket);
+            if (image != null) {
+                image = cacheImage(key, image);
+            }
+        }
+        return image;
+    }
+    
+    /**
+     * Load animation frame files, without the @2x and default skin fallbacks of
+     * {@link #loadImage}, so each is cached under its own key. Frames that are not
+     * cached yet are decoded in parallel. Frames that fail to decode are left out.
+     */
+    private CompletableFuture<Image[]> loadFramesAsync(List<String> frameNames, boolean fromDefaultSkin, double bucket) {
+        if (frameNames.isEmpty()) {
+            return CompletableFuture.completedFuture(new Image[0]);
         }
         
-        if (image != null) {
-            imageCache.put(elementName, image);
-        } else {
-            logger.debug("Could not load image element: {}", elementName);
+        List<CompletableFuture<Image>> frames = new ArrayList<>(frameNames.size());
+        for (String frameName : frameNames) {
+            String key = ScaledImageDecoder.key(frameKey(frameName, fromDefaultSkin), bucket);
+            Image cached = getCachedImage(key);
+            if (cached != null) {
+                frames.add(CompletableFuture.completedFuture(cached));
+                continue;
+            }
+            frames.add(CompletableFuture.supplyAsync(() -> {
+                if (closed) {
+                    return null;  // Stale load, another skin was selected
+                }
+                Image image = fromDefaultSkin ? defaultSkin.decodeImage(frameName, bucket)
+                    : tryLoadImage(frameName, fileScale(frameName.endsWith("@2x"), bucket));
+                return image != null ? cacheImage(key, image) : null;
+            }, DECODE_POOL).exceptionally(e -> {
+                logger.error("Error decoding animation frame: {}", frameName, e);
+                return null;
+            }));
         }
         
+        return CompletableFuture.allOf(frames.toArray(new CompletableFuture[0]))
+            .thenApply(done -> frames.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toArray(Image[]::new));
+    }
+    
+    private String frameKey(String frameName, boolean fromDefaultSkin) {
+        return fromDefaultSkin ? defaultSkin.cacheKey(frameName) : cacheKey(frameName) + "#file";
+    }
+    
+    /**
+     * Animation frames of this skin, found from one pass over its file names.
+     */
+    private synchronized AnimationFrames getSkinFrames() {
+        if (skinFrames == null) {
+            List<String> fileNames = archive != null
+                ? archive.getFiles().stream().map(archive::getFileName).collect(Collectors.toList())
+                : getFileIndex().getFileNames();
+            skinFrames = AnimationFrames.of(fileNames);
+        }
+        return skinFrames;
+    }
+    
+    /**
+     * Key of an element of this skin in the shared texture cache.
+     */
+    private String cacheKey(String elementName) {
+        Path source = archive != null ? archive.getArchivePath() : skinDirectory;
+        String sourceKey = source != null ? source.toAbsolutePath().normalize().toString() : "";
+        return sourceKey + "|" + elementName;
+    }
+    
+    private synchronized Image getCachedImage(String key) {
+        Image image = textureCache.acquire(key);
+        if (image != null && (closed || !pinnedKeys.add(key))) {
+            textureCache.release(key);  // Already pinned by this loader, or closed
+        }
         return image;
     }
     
+    private synchronized Image cacheImage(String key, Image image) {
+        Image cached = textureCache.putAndAcquire(key, image);
+        if (closed || !pinnedKeys.add(key)) {
+            textureCache.release(key);
+        }
+        return cached;
+    }
+    
     /**
-     * Load an animated element, returning all frames in sequence.
+     * Load an animated element, returning all frames in sequence. Frames come from
+     * the skin's file names in one pass; a skin without frames falls back to its
+     * static image, then to the default skin's frames and static image.
      */
     public List<Image> loadAnimation(String elementName) {
-        if (animationCache.containsKey(elementName)) {
-            return animationCache.get(elementName);
+        return loadAnimation(elementName, FULL_SIZE);
+    }
+    
+    /**
+     * Load an animated element with every frame decoded at a render scale, as
+     * {@link #loadImage(String, double)} does for static elements.
+     */
+    public List<Image> loadAnimation(String elementName, double renderScale) {
+        return loadAnimationAsync(elementName, renderScale).join();
+    }
+    
+    /**
+     * Load an animated element as {@link #loadAnimation} does, decoding on the
+     * background pool. The future completes with the frames, possibly empty.
+     */
+    public CompletableFuture<List<Image>> loadAnimationAsync(String elementName) {
+        return loadAnimationAsync(elementName, FULL_SIZE);
+    }
+    
+    public CompletableFuture<List<Image>> loadAnimationAsync(String elementName, double renderScale) {
+        double bucket = ScaledImageDecoder.bucket(renderScale);
+        String animationKey = ScaledImageDecoder.key(elementName, bucket);
+        Image[] cached = animationCache.get(animationKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Collections.unmodifiableList(Arrays.asList(cached)));
         }
         
-        List<Image> frames = new ArrayList<>();
-        
-        // First try to load base image (frame 0 or no suffix)
-        Image baseImage = loadImage(elementName);
-        if (baseImage != null) {
-            frames.add(baseImage);
-        }
+        boolean hd = ScaledImageDecoder.prefersHd(bucket);
+        List<String> skinFrameNames = getSkinFrames().find(elementName).stream()
+            .map(frame -> frame.getName(hd))
+            .collect(Collectors.toList());
         
-        // Try to load numbered frames with different naming conventions
-        int frameIndex = 0;
-        while (true) {
-            Image frame = null;
-            
-            // Try different naming patterns
-            // Pattern 1: elementName-0, elementName-1, etc. (standard)
-            String frameName = elementName + "-" + frameIndex;
-            frame = tryLoadImage(frameName);
-            
-            // Pattern 2: elementName0, elementName1, etc. (no hyphen)
-            if (frame == null) {
-                frameName = elementName + frameIndex;
-                frame = tryLoadImage(frameName);
-            }
-            
-            // Also try @2x versions
-            if (frame == null) {
-                frame = tryLoadImage(elementName + "-" + frameIndex + "@2x");
-            }
-            if (frame == null) {
-                frame = tryLoadImage(elementName + frameIndex + "@2x");
-            }
-            
-            // Try loading from resources if not found in skin
-            if (frame == null) {
-                frame = tryLoadImageFromResources(elementName + frameIndex);
-            }
-            
-            if (frame != null) {
-                if (frameIndex == 0 && !frames.isEmpty()) {
-                    // Replace base image with frame 0 if it exists
-                    frames.set(0, frame);
-                } else {
-                    frames.add(frame);
+        return loadFramesAsync(skinFrameNames, false, bucket)
+            .thenCompose(frames -> frames.length > 0 ? CompletableFuture.completedFuture(frames)
+                : CompletableFuture.supplyAsync(() -> closed ? frames : singleFrame(loadSkinImage(elementName, bucket)), DECODE_POOL))
+            .thenCompose(frames -> frames.length > 0 ? CompletableFuture.completedFuture(frames)
+                : loadFramesAsync(defaultSkin.findFrames(elementName), true, bucket))
+            .thenCompose(frames -> frames.length > 0 ? CompletableFuture.completedFuture(frames)
+                : CompletableFuture.supplyAsync(() -> closed ? frames : singleFrame(loadDefaultImage(elementName, bucket)), DECODE_POOL))
+            .thenApply(frames -> {
+                if (frames.length > 0 && !closed) {
+                    animationCache.put(animationKey, frames);
+                    logger.debug("Loaded {} animation frames for element: {}", frames.length, elementName);
                 }
-                frameIndex++;
-            } else if (frameIndex > 0) {
-                // Stop when we can't find the next frame
-                break;
-            } else {
-                // No frame 0, move to frame 1
-                frameIndex = 1;
-            }
-            
-            // Prevent infinite loops
-            if (frameIndex > 100) {
-                logger.warn("Too many animation frames for element: {}", elementName);
-                break;
-            }
-        }
+                return Collections.unmodifiableList(Arrays.asList(frames));
+            });
+    }
+    
+    private static Image[] singleFrame(Image image) {
+        return image != null ? new Image[] { image } : new Image[0];
+    }
+    
+    /**
+     * Decode a set of images and animations in parallel on the background pool.
+     * The future completes once every element is decoded or known to be missing,
+     * with a snapshot of the textures; loading them again afterwards hits the cache.
+     */
+    public CompletableFuture<TextureSet> preloadAsync(Collection<String> imageNames, Collection<String> animationNames) {
+        Map<String, Double> imageScales = new LinkedHashMap<>();
+        imageNames.forEach(name -> imageScales.put(name, FULL_SIZE));
+        Map<String, Double> animationScales = new LinkedHashMap<>();
+        animationNames.forEach(name -> animationScales.put(name, FULL_SIZE));
+        return preloadAsync(imageScales, animationScales);
+    }
+    
+    /**
+     * Preload as {@link #preloadAsync(Collection, Collection)} does, decoding each
+     * element at its render scale like {@link #loadImage(String, double)}.
+     */
+    public CompletableFuture<TextureSet> preloadAsync(Map<String, Double> imageScales, Map<String, Double> animationScales) {
+        // Index the skin once up front instead of racing to build it on every worker
+        getSkinFrames();
         
-        if (!frames.isEmpty()) {
-            animationCache.put(elementName, frames);
-            logger.debug("Loaded {} animation frames for element: {}", frames.size(), elementName);
-        }
+        Map<String, CompletableFuture<Image>> images = new LinkedHashMap<>();
+        imageScales.forEach((name, scale) -> images.put(name, CompletableFuture.supplyAsync(
+            () -> closed ? null : loadImage(name, scale), DECODE_POOL)));
+        Map<String, CompletableFuture<List<Image>>> animations = new LinkedHashMap<>();
+        animationScales.forEach((name, scale) -> animations.put(name, loadAnimationAsync(name, scale)));
         
-        return frames;
+        List<CompletableFuture<?>> all = new ArrayList<>(images.values());
+        all.addAll(animations.values());
+        return CompletableFuture.allOf(all.toArray(new CompletableFuture[0]))
+            .handle((done, error) -> {
+                TextureSet textures = new TextureSet();
+                images.forEach((name, future) -> {
+                    Image image = future.getNow(null);
+                    if (!future.isCompletedExceptionally() && image != null) {
+                        textures.images.put(name, image);
+                    }
+                });
+                animations.forEach((name, future) -> {
+                    if (!future.isCompletedExceptionally() && !future.getNow(List.of()).isEmpty()) {
+                        textures.animations.put(name, future.getNow(List.of()));
+                    }
+                });
+                if (error != null) {
+                    logger.warn("Some skin elements failed to preload", error);
+                }
+                return textures;
+            });
     }
     
     /**
      * Load an audio element, trying different extensions.
      */
     public Media loadAudio(String elementName) {
-        if (audioCache.containsKey(elementName)) {
-            return audioCache.get(elementName);
+        Media cached = audioCache.get(elementName);
+        if (cached != null) {
+            return cached;
         }
         
         Media audio = tryLoadAudio(elementName);
         
         // Try default skin from file system if configured
         if (audio == null && defaultSkinDirectory != null) {
-            audio = tryLoadAudioFromDirectory(defaultSkinDirectory, elementName);
+            audio = tryLoadAudioFromDirectory(getDefaultFileIndex(), elementName);
         }
         
         // Try default skin from resources (bundled with application)
         if (audio == null) {
-            audio = tryLoadAudioFromResources(elementName);
+            audio = defaultSkin.getAudio(elementName);
         }
         
         if (audio != null) {
-            audioCache.put(elementName, audio);
+            Media existing = audioCache.putIfAbsent(elementName, audio);
+            if (existing != null) {
+                audio = existing;  // Loaded concurrently by another thread
+            }
         } else {
             logger.debug("Could not load audio element: {}", elementName);
         }
@@ -231,33 +496,28 @@ public class SkinElementLoader {
     public boolean elementExists(String elementName) {
         // Check for images
         for (String ext : IMAGE_EXTENSIONS) {
-            Path imagePath = skinDirectory.resolve(elementName + "." + ext);
-            if (Files.exists(imagePath)) {
+            if (skinFileExists(elementName + "." + ext)) {
                 return true;
             }
             // Check HD version
-            imagePath = skinDirectory.resolve(elementName + "@2x." + ext);
-            if (Files.exists(imagePath)) {
+            if (skinFileExists(elementName + "@2x." + ext)) {
                 return true;
             }
         }
         
         // Check for audio
         for (String ext : AUDIO_EXTENSIONS) {
-            Path audioPath = skinDirectory.resolve(elementName + "." + ext);
-            if (Files.exists(audioPath)) {
+            if (skinFileExists(elementName + "." + ext)) {
                 return true;
             }
         }
         
         // Check for animated frames
         for (String ext : IMAGE_EXTENSIONS) {
-            Path framePath = skinDirectory.resolve(elementName + "-0." + ext);
-            if (Files.exists(framePath)) {
+            if (skinFileExists(elementName + "-0." + ext)) {
                 return true;
             }
-            Path framePath1 = skinDirectory.resolve(elementName + "-1." + ext);
-            if (Files.exists(framePath1)) {
+            if (skinFileExists(elementName + "-1." + ext)) {
                 return true;
             }
         }
@@ -265,6 +525,28 @@ public class SkinElementLoader {
         return false;
     }
     
+    private boolean skinFileExists(String fileName) {
+        SkinArchive archive = this.archive;
+        if (archive != null) {
+            return archive.findFile(fileName) != null;
+        }
+        return getFileIndex().contains(fileName);
+    }
+    
+    private synchronized SkinFileIndex getFileIndex() {
+        if (fileIndex == null) {
+            fileIndex = SkinFileIndex.cached(skinDirectory);
+        }
+        return fileIndex;
+    }
+    
+    private synchronized SkinFileIndex getDefaultFileIndex() {
+        if (defaultFileIndex == null) {
+            defaultFileIndex = SkinFileIndex.build(defaultSkinDirectory);
+        }
+        return defaultFileIndex;
+    }
+    
     /**
      * Get a list of all elements present in the skin, categorized.
      */
@@ -272,12 +554,17 @@ public class SkinElementLoader {
         Map<SkinElementRegistry.ElementCategory, List<String>> categorized = new HashMap<>();
         
         try {
-            List<Path> allFiles = Files.list(skinDirectory)
-                .filter(Files::isRegularFile)
-                .collect(Collectors.toList());
+            SkinArchive archive = this.archive;
+            List<String> fileNames;
+            if (archive != null) {
+                fileNames = archive.getFiles().stream()
+                    .map(archive::getFileName)
+                    .collect(Collectors.toList());
+            } else {
+                fileNames = getFileIndex().getFileNames();
+            }
             
-            for (Path file : allFiles) {
-                String fileName = file.getFileName().toString();
+            for (String fileName : fileNames) {
                 ElementDefinition def = SkinElementRegistry.getDefinition(fileName);
                 
                 if (def != null) {
@@ -294,140 +581,139 @@ public class SkinElementLoader {
     
     // Private helper methods
     
-    private Image tryLoadImage(String elementName) {
-        return tryLoadImageFromDirectory(skinDirectory, elementName);
+    /**
+     * Decode an image file of the skin, scaled by {@code fileScale} of its pixel size.
+     */
+    private Image tryLoadImage(String elementName, double fileScale) {
+        SkinArchive archive = this.archive;  // Closed and cleared when the loader is closed
+        if (archive != null) {
+            return tryLoadImageFromArchive(archive, elementName, fileScale);
+        }
+        return tryLoadImageFromDirectory(getFileIndex(), elementName, fileScale);
     }
     
-    private Image tryLoadImageFromDirectory(Path directory, String elementName) {
-        // Try each image extension with both exact case and case-insensitive search
+    private Image tryLoadImageFromArchive(SkinArchive archive, String elementName, double fileScale) {
         for (String ext : IMAGE_EXTENSIONS) {
-            // First try exact case
-            Path imagePath = directory.resolve(elementName + "." + ext);
-            if (Files.exists(imagePath)) {
-                try {
-                    logger.debug("Found image file: {} with extension: {}", elementName, ext);
-                    Image image = new Image(imagePath.toUri().toString());
-                    // Verify the image loaded correctly
-                    if (!image.isError()) {
-                        return image;
-                    } else {
-                        logger.warn("Image error for {}: {}", imagePath, image.getException());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error loading image: {}", imagePath, e);
-                }
+            ZipEntry entry = archive.findFile(elementName + "." + ext);
+            if (entry == null) {
+                continue;
             }
-            
-            // Try case-insensitive search if exact match fails
-            Path foundPath = findFileIgnoreCase(directory, elementName + "." + ext);
-            if (foundPath != null) {
-                try {
-                    logger.debug("Found image file (case-insensitive): {}", foundPath.getFileName());
-                    Image image = new Image(foundPath.toUri().toString());
-                    if (!image.isError()) {
-                        return image;
-                    }
-                } catch (Exception e) {
-                    logger.error("Error loading image: {}", foundPath, e);
+            try {
+                Image image = ScaledImageDecoder.decode(() -> archive.openFile(entry), fileScale);
+                if (!image.isError()) {
+                    return image;
                 }
+                logger.warn("Image error for {} in {}: {}", entry.getName(), archive.getArchivePath(), image.getException());
+            } catch (IOException e) {
+                logger.error("Error reading image {} from archive: {}", entry.getName(), archive.getArchivePath(), e);
             }
         }
-        
-        // Log which formats were checked for debugging
-        logger.debug("Image not found for '{}' in directory: {}. Checked extensions: {}", 
-                    elementName, directory, IMAGE_EXTENSIONS);
         return null;
     }
     
-    private Media tryLoadAudio(String elementName) {
-        return tryLoadAudioFromDirectory(skinDirectory, elementName);
-    }
-    
-    private Media tryLoadAudioFromDirectory(Path directory, String elementName) {
-        // Try each audio extension with both exact case and case-insensitive search
-        for (String ext : AUDIO_EXTENSIONS) {
-            // First try exact case
-            Path audioPath = directory.resolve(elementName + "." + ext);
-            if (Files.exists(audioPath)) {
-                try {
-                    logger.debug("Found audio file: {} with extension: {}", elementName, ext);
-                    Media media = new Media(audioPath.toUri().toString());
-                    // Verify the media loaded correctly
-                    if (media.getError() == null) {
-                        return media;
-                    } else {
-                        logger.warn("Media error for {}: {}", audioPath, media.getError());
-                    }
-                } catch (Exception e) {
-                    logger.error("Error loading audio: {}", audioPath, e);
-                }
+    private Image tryLoadImageFromDirectory(SkinFileIndex index, String elementName, double fileScale) {
+        // Case-insensitive lookup in the directory index, no file system access
+        for (String ext : IMAGE_EXTENSIONS) {
+            Path imagePath = index.find(elementName + "." + ext);
+            if (imagePath == null) {
+                continue;
             }
-            
-            // Try case-insensitive search if exact match fails
-            Path foundPath = findFileIgnoreCase(directory, elementName + "." + ext);
-            if (foundPath != null) {
-                try {
-                    logger.debug("Found audio file (case-insensitive): {}", foundPath.getFileName());
-                    Media media = new Media(foundPath.toUri().toString());
-                    if (media.getError() == null) {
-                        return media;
-                    }
-                } catch (Exception e) {
-                    logger.error("Error loading audio: {}", foundPath, e);
+            try {
+                logger.debug("Found image file: {}", imagePath.getFileName());
+                Image image = fileScale == FULL_SIZE
+                    ? new Image(imagePath.toUri().toString())
+                    : loadScaledImage(imagePath, fileScale);
+                // Verify the image loaded correctly
+                if (!image.isError()) {
+                    return image;
                 }
+                logger.warn("Image error for {}: {}", imagePath, image.getException());
+            } catch (Exception e) {
+                logger.error("Error loading image: {}", imagePath, e);
             }
         }
-        
-        // Log which formats were checked
-        logger.debug("Audio not found for '{}' in directory: {}. Checked extensions: {}", 
-                    elementName, directory, AUDIO_EXTENSIONS);
         return null;
     }
     
     /**
-     * Try to load an image from bundled resources (default skin).
+     * Decode a scaled image, reading the pixels from the disk cache when an earlier
+     * session already decoded this file at this scale.
      */
-    private Image tryLoadImageFromResources(String elementName) {
-        for (String ext : IMAGE_EXTENSIONS) {
-            String resourcePath = DEFAULT_SKIN_RESOURCE_PATH + elementName + "." + ext;
+    private Image loadScaledImage(Path imagePath, double fileScale) throws IOException {
+        Image image = diskCache.load(imagePath, fileScale);
+        if (image != null) {
+            return image;
+        }
+        image = ScaledImageDecoder.decode(() -> Files.newInputStream(imagePath), fileScale);
+        if (!image.isError()) {
+            diskCache.store(imagePath, fileScale, image);
+        }
+        return image;
+    }
+    
+    private Media tryLoadAudio(String elementName) {
+        SkinArchive archive = this.archive;  // Closed and cleared when the loader is closed
+        if (archive != null) {
+            return tryLoadAudioFromArchive(archive, elementName);
+        }
+        return tryLoadAudioFromDirectory(getFileIndex(), elementName);
+    }
+    
+    private Media tryLoadAudioFromArchive(SkinArchive archive, String elementName) {
+        for (String ext : AUDIO_EXTENSIONS) {
+            ZipEntry entry = archive.findFile(elementName + "." + ext);
+            String url = entry != null ? archive.getFileUrl(entry) : null;
+            if (url == null) {
+                continue;
+            }
             try {
-                URL resource = getClass().getResource(resourcePath);
-                if (resource != null) {
-                    return new Image(resource.toExternalForm());
+                // Media only accepts URLs, so the entry is streamed through a jar: URL
+                Media media = new Media(url);
+                if (media.getError() == null) {
+                    return media;
                 }
+                logger.warn("Media error for {}: {}", url, media.getError());
             } catch (Exception e) {
-                // Try next extension
+                logger.error("Error loading audio: {}", url, e);
             }
         }
         return null;
     }
     
-    /**
-     * Try to load audio from bundled resources (default skin).
-     */
-    private Media tryLoadAudioFromResources(String elementName) {
+    private Media tryLoadAudioFromDirectory(SkinFileIndex index, String elementName) {
+        // Case-insensitive lookup in the directory index, no file system access
         for (String ext : AUDIO_EXTENSIONS) {
-            String resourcePath = DEFAULT_SKIN_RESOURCE_PATH + elementName + "." + ext;
+            Path audioPath = index.find(elementName + "." + ext);
+            if (audioPath == null) {
+                continue;
+            }
             try {
-                URL resource = getClass().getResource(resourcePath);
-                if (resource != null) {
-                    return new Media(resource.toExternalForm());
+                logger.debug("Found audio file: {}", audioPath.getFileName());
+                Media media = new Media(audioPath.toUri().toString());
+                // Verify the media loaded correctly
+                if (media.getError() == null) {
+                    return media;
                 }
+                logger.warn("Media error for {}: {}", audioPath, media.getError());
             } catch (Exception e) {
-                // Try next extension
+                logger.error("Error loading audio: {}", audioPath, e);
             }
         }
         return null;
     }
     
     /**
-     * Get statistics about element coverage in the skin.
+     * Get statistics about element coverage in the skin. May be called off the FX
+     * thread; throws {@link CancellationException} once the loader is closed.
      */
     public SkinElementStats getElementStats() {
         SkinElementStats stats = new SkinElementStats();
         
         // Count required elements
         for (ElementDefinition def : SkinElementRegistry.getRequiredElements()) {
+            if (closed) {
+                throw new CancellationException("Skin element loader was closed");
+            }
             if (elementExists(def.getBaseName())) {
                 stats.presentRequiredElements++;
             }
@@ -444,24 +730,22 @@ public class SkinElementLoader {
     }
     
     /**
-     * Find a file in a directory with case-insensitive matching.
-     * Returns the actual path if found, null otherwise.
+     * Snapshot of preloaded textures, by element name. Missing elements are absent.
      */
-    private Path findFileIgnoreCase(Path directory, String fileName) {
-        if (!Files.exists(directory) || !Files.isDirectory(directory)) {
-            return null;
+    public static class TextureSet {
+        private final Map<String, Image> images = new HashMap<>();
+        private final Map<String, List<Image>> animations = new HashMap<>();
+        
+        public Image getImage(String elementName) {
+            return images.get(elementName);
         }
         
-        String lowerFileName = fileName.toLowerCase();
-        try {
-            return Files.list(directory)
-                .filter(Files::isRegularFile)
-                .filter(path -> path.getFileName().toString().toLowerCase().equals(lowerFileName))
-                .findFirst()
-                .orElse(null);
-        } catch (IOException e) {
-            logger.debug("Error searching for file case-insensitive: {}", fileName, e);
-            return null;
+        public List<Image> getAnimation(String elementName) {
+            return animations.getOrDefault(elementName, List.of());
+        }
+        
+        public int size() {
+            return images.size() + animations.size();
         }
     }
     
@@ -0,0 +1,266 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.Skin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Extracts queued compressed skins, several archives at a time. Progress is
+ * reported in compressed bytes, per archive and for the whole run. Each archive is
+ * rescanned into the library as soon as it is done. Cancelling interrupts the
+ * running extractions, removes their partial output and puts them back at the
+ * front of the queue, so a later {@link #start(int)} resumes where it stopped.
+ */
+public class SkinExtractionQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkinExtractionQueue.class);
+
+    /**
+     * Receives queue events on extraction worker threads.
+     */
+    public interface Listener {
+        void onProgress(Progress progress);
+
+        /**
+         * Called when an archive is done. On success the updates contain the new skin
+         * and the removal of the archive's virtual skin.
+         */
+        void onArchiveFinished(Path archive, boolean success, Map<Path, Skin> updates);
+
+        void onQueueFinished(int extracted, int failed, boolean cancelled, int remaining);
+    }
+
+    /**
+     * Snapshot of the queue progress after an archive reported processed bytes.
+     */
+    public static class Progress {
+        private final Path archive;
+        private final long archiveBytesDone;
+        private final long archiveBytes;
+        private final long bytesDone;
+        private final long totalBytes;
+        private final int archivesDone;
+        private final int archivesTotal;
+
+        Progress(Path archive, long archiveBytesDone, long archiveBytes,
+                 long bytesDone, long totalBytes, int archivesDone, int archivesTotal) {
+            this.archive = archive;
+            this.archiveBytesDone = archiveBytesDone;
+            this.archiveBytes = archiveBytes;
+            this.bytesDone = bytesDone;
+            this.totalBytes = totalBytes;
+            this.archivesDone = archivesDone;
+            this.archivesTotal = archivesTotal;
+        }
+
+        public Path getArchive() { return archive; }
+        public long getArchiveBytesDone() { return archiveBytesDone; }
+        public long getArchiveBytes() { return archiveBytes; }
+        public long getBytesDone() { return bytesDone; }
+        public long getTotalBytes() { return totalBytes; }
+        public int getArchivesDone() { return archivesDone; }
+        public int getArchivesTotal() { return archivesTotal; }
+
+        public double getFraction() {
+            return totalBytes > 0 ? Math.min(1.0, (double) bytesDone / totalBytes) : 0;
+        }
+    }
+
+    private final SkinScannerService scannerService;
+    private final Listener listener;
+
+    private final Deque<Path> pending = new ArrayDeque<>();  // Guarded by this
+    private final AtomicLong bytesDone = new AtomicLong();
+    private ExecutorService executor;
+    private int activeWorkers;
+    private boolean cancelled;
+    private long totalBytes;
+    private int archivesTotal;
+    private volatile int archivesDone;  // Read by progress callbacks
+    private int extracted;
+    private int failed;
+
+    public SkinExtractionQueue(SkinScannerService scannerService, Listener listener) {
+        this.scannerService = scannerService;
+        this.listener = listener;
+    }
+
+    /**
+     * Queue archives that are not queued yet. Returns the number of pending archives.
+     */
+    public synchronized int enqueueAll(Collection<Path> archives) {
+        for (Path archive : archives) {
+            if (!pending.contains(archive)) {
+                pending.addLast(archive);
+            }
+        }
+        return pending.size();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized boolean isRunning() {
+        return activeWorkers > 0;
+    }
+
+    /**
+     * Start extracting the pending archives with the given number of concurrent archives.
+     * Does nothing if the queue is already running or empty.
+     */
+    public synchronized void start(int concurrency) {
+        if (activeWorkers > 0 || pending.isEmpty()) {
+            return;
+        }
+
+        cancelled = false;
+        extracted = 0;
+        failed = 0;
+        archivesDone = 0;
+        archivesTotal = pending.size();
+        bytesDone.set(0);
+        totalBytes = 0;
+        for (Path archive : pending) {
+            totalBytes += sizeOf(archive);
+        }
+
+        activeWorkers = Math.max(1, Math.min(concurrency, pending.size()));
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(activeWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "skin-extract-queue-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < activeWorkers; i++) {
+            executor.submit(this::workLoop);
+        }
+        executor.shutdown();  // Workers exit once the queue is drained
+
+        logger.info("Extracting {} archives ({} bytes), {} at a time", archivesTotal, totalBytes, activeWorkers);
+    }
+
+    /**
+     * Stop extracting. Running archives are rolled back and stay queued.
+     */
+    public synchronized void cancel() {
+        if (activeWorkers == 0) {
+            return;
+        }
+        cancelled = true;
+        executor.shutdownNow();
+        logger.info("Extraction cancelled, {} archives still pending", pending.size());
+    }
+
+    private void workLoop() {
+        try {
+            while (true) {
+                Path archive;
+                synchronized (this) {
+                    if (cancelled || pending.isEmpty()) {
+                        break;
+                    }
+                    archive = pending.pollFirst();
+                }
+                extractArchive(archive);
+            }
+        } finally {
+            // Even if a listener threw, so the queue never stays running
+            finishWorker();
+        }
+    }
+
+    /**
+     * Retire a worker; the last one reports the run.
+     */
+    private void finishWorker() {
+        int extractedCount;
+        int failedCount;
+        int remaining;
+        boolean wasCancelled;
+        synchronized (this) {
+            if (--activeWorkers > 0) {
+                return;
+            }
+            executor = null;
+            extractedCount = extracted;
+            failedCount = failed;
+            remaining = pending.size();
+            wasCancelled = cancelled;
+        }
+        logger.info("Extraction finished: {} extracted, {} failed, {} pending", extractedCount, failedCount, remaining);
+        listener.onQueueFinished(extractedCount, failedCount, wasCancelled, remaining);
+    }
+
+    private void extractArchive(Path archive) {
+        long archiveBytes = sizeOf(archive);
+        AtomicLong archiveBytesDone = new AtomicLong();
+
+        boolean success = false;
+        Map<Path, Skin> updates = Collections.emptyMap();
+        try {
+            success = scannerService.extractCompressedSkin(archive, bytes -> {
+                long done = archiveBytesDone.addAndGet(bytes);
+                long total = bytesDone.addAndGet(bytes);
+                listener.onProgress(new Progress(archive, Math.min(done, archiveBytes), archiveBytes,
+                                                 total, totalBytes, archivesDone, archivesTotal));
+            });
+            if (success) {
+                // Add the skin to the library now instead of after a full rescan
+                updates = scannerService.rescanEntries(List.of(scannerService.getExtractionPath(archive), archive));
+            }
+        } catch (InterruptedIOException e) {
+            // Partial output was removed by the scanner, so the archive can simply be retried
+            bytesDone.addAndGet(-archiveBytesDone.get());
+            synchronized (this) {
+                pending.addFirst(archive);
+            }
+            logger.debug("Extraction of {} interrupted, re-queued", archive.getFileName());
+            return;
+        } catch (IOException e) {
+            logger.error("Error extracting: {}", archive.getFileName(), e);
+        } catch (RuntimeException e) {
+            // A bug in one archive's extraction must not take the worker down with it
+            success = false;
+            updates = Collections.emptyMap();
+            logger.error("Unexpected error extracting: {}", archive.getFileName(), e);
+        }
+
+        // Count the archive's header overhead as done, so the run ends at 100%
+        long total = bytesDone.addAndGet(Math.max(0, archiveBytes - archiveBytesDone.get()));
+        int done;
+        synchronized (this) {
+            done = ++archivesDone;
+            if (success) {
+                extracted++;
+            } else {
+                failed++;
+            }
+        }
+        listener.onProgress(new Progress(archive, archiveBytes, archiveBytes, total, totalBytes, done, archivesTotal));
+        listener.onArchiveFinished(archive, success, updates);
+    }
+
+    private static long sizeOf(Path archive) {
+        try {
+            return Files.size(archive);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.osuskin.tool.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index of the files in one skin directory, built from a single listing.
+ * Files are keyed by lowercased base name, scale (@2x or not) and extension, as osu!
+ * matches skin files case-insensitively; an exact-case match wins when a
+ * case-sensitive file system holds several spellings. Lookups never touch the disk.
+ * Recently used indexes are shared through {@link #cached(Path)}, so a skin indexed
+ * by the prefetcher is not listed again when it is previewed.
+ */
+public class SkinFileIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkinFileIndex.class);
+
+    private static final SkinFileIndex EMPTY = new SkinFileIndex(Collections.emptyList(), null);
+
+    private static final int MAX_CACHED_INDEXES = 16;
+
+    // Access ordered, the least recently used index is dropped first
+    private static final Map<Path, SkinFileIndex> CACHE = new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, SkinFileIndex> eldest) {
+            return size() > MAX_CACHED_INDEXES;
+        }
+    };
+
+    private final Map<String, Path> filesByKey = new HashMap<>();
+    private final Map<String, Path> filesByExactName = new HashMap<>();
+    private final List<String> fileNames = new ArrayList<>();
+    private final FileTime directoryModified;  // Directory time when listed, null if unknown
+
+    private SkinFileIndex(List<Path> files, FileTime directoryModified) {
+        this.directoryModified = directoryModified;
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            fileNames.add(fileName);
+            filesByExactName.put(fileName, file);
+            filesByKey.putIfAbsent(key(fileName), file);
+        }
+    }
+
+    /**
+     * Index the regular files of a directory. An unreadable or missing directory
+     * gives an empty index.
+     */
+    public static SkinFileIndex build(Path directory) {
+        return build(directory, null);
+    }
+
+    /**
+     * Index of a directory, shared while the directory's modification time is
+     * unchanged. Adding, removing or renaming a file updates that time, so a
+     * changed directory is listed again.
+     */
+    public static SkinFileIndex cached(Path directory) {
+        if (directory == null) {
+            return EMPTY;
+        }
+        Path key = directory.toAbsolutePath().normalize();
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(key);
+        } catch (IOException e) {
+            return EMPTY;
+        }
+
+        synchronized (CACHE) {
+            SkinFileIndex index = CACHE.get(key);
+            if (index != null && modified.equals(index.directoryModified)) {
+                return index;
+            }
+        }
+        SkinFileIndex index = build(key, modified);
+        if (index != EMPTY) {
+            synchronized (CACHE) {
+                CACHE.put(key, index);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Whether {@link #cached(Path)} holds an index of the directory.
+     */
+    static boolean isCached(Path directory) {
+        synchronized (CACHE) {
+            return CACHE.containsKey(directory.toAbsolutePath().normalize());
+        }
+    }
+
+    private static SkinFileIndex build(Path directory, FileTime directoryModified) {
+        if (directory == null) {
+            return EMPTY;
+        }
+        try {
+            SkinDirectoryListing listing = SkinDirectoryListing.read(directory);
+            List<Path> files = new ArrayList<>(listing.size());
+            for (int i = 0; i < listing.size(); i++) {
+                if (listing.isRegularFile(i)) {
+                    files.add(listing.getEntries().get(i));
+                }
+            }
+            return new SkinFileIndex(files, directoryModified);
+        } catch (IOException e) {
+            logger.debug("Could not index skin directory: {}", directory, e);
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Path of a file by name, ignoring case, or null if the directory has none.
+     */
+    public Path find(String fileName) {
+        Path exact = filesByExactName.get(fileName);
+        return exact != null ? exact : filesByKey.get(key(fileName));
+    }
+
+    /**
+     * Path of an element file with the given scale and extension, or null.
+     */
+    public Path find(String baseName, boolean hd, String extension) {
+        return find(baseName + (hd ? "@2x." : ".") + extension);
+    }
+
+    public boolean contains(String fileName) {
+        return find(fileName) != null;
+    }
+
+    public List<String> getFileNames() {
+        return Collections.unmodifiableList(fileNames);
+    }
+
+    public int size() {
+        return fileNames.size();
+    }
+
+    /**
+     * Lookup key of a file name: lowercased base name, scale and extension.
+     */
+    static String key(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        int dot = lower.lastIndexOf('.');
+        String base = dot >= 0 ? lower.substring(0, dot) : lower;
+        String extension = dot >= 0 ? lower.substring(dot + 1) : "";
+        boolean hd = base.endsWith("@2x");
+        if (hd) {
+            base = base.substring(0, base.length() - 3);
+        }
+        return base + (hd ? "|2|" : "|1|") + extension;
+    }
+}
@@ -0,0 +1,421 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.SkinIni;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming skin.ini parser. The file is read into one byte array and walked in
+ * place: lines, keys and numbers are handled as index ranges, and a String is only
+ * created for values that are kept in the resulting {@link SkinIni}.
+ * Both the osu! "Key: Value" form and "Key=Value" are accepted.
+ */
+public final class SkinIniParser {
+
+    private static final int MAX_COMBO_COLOURS = 8;
+    private static final long INVALID_COLOUR = -1;  // Outside the packed int range, so no colour can match it
+
+    private enum Section { NONE, GENERAL, COLOURS, FONTS, MANIA, OTHER }
+
+    private final byte[] data;
+    private final SkinIni.Builder builder = SkinIni.builder();
+    private final int[] comboColours = new int[MAX_COMBO_COLOURS];
+    private int definedComboColours;  // Bit i set if Combo(i + 1) was given
+
+    private Section section = Section.NONE;
+    private int maniaKeys = -1;
+    private Map<String, String> maniaProperties;
+
+    private SkinIniParser(byte[] data) {
+        this.data = data;
+    }
+
+    public static SkinIni parse(Path file) throws IOException {
+        return parse(Files.readAllBytes(file));
+    }
+
+    public static SkinIni parse(byte[] data) {
+        return new SkinIniParser(data).parse();
+    }
+
+    private SkinIni parse() {
+        int pos = startsWithBom() ? 3 : 0;
+        int length = data.length;
+
+        while (pos < length) {
+            int lineEnd = pos;
+            while (lineEnd < length && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            parseLine(pos, lineEnd);
+            pos = lineEnd + 1;
+        }
+
+        finishManiaSection();
+        return builder.comboColours(collectComboColours()).build();
+    }
+
+    private void parseLine(int start, int end) {
+        start = skipWhitespace(start, end);
+        end = trimEnd(start, end);
+        if (start == end || startsWith(start, end, "//")) {
+            return;
+        }
+
+        if (data[start] == '[') {
+            int close = indexOf((byte) ']', start + 1, end);
+            if (close > 0) {
+                enterSection(start + 1, close);
+            }
+            return;
+        }
+
+        // Trailing comments, only when separated by whitespace so values like URLs survive
+        for (int i = start + 1; i < end - 1; i++) {
+            if (data[i] == '/' && data[i + 1] == '/' && isWhitespace(data[i - 1])) {
+                end = trimEnd(start, i);
+                break;
+            }
+        }
+
+        int separator = -1;
+        for (int i = start; i < end; i++) {
+            if (data[i] == ':' || data[i] == '=') {
+                separator = i;
+                break;
+            }
+        }
+        if (separator <= start) {
+            return;
+        }
+
+        int keyEnd = trimEnd(start, separator);
+        int valueStart = skipWhitespace(separator + 1, end);
+
+        switch (section) {
+            case GENERAL -> parseGeneral(start, keyEnd, valueStart, end);
+            case COLOURS -> parseColours(start, keyEnd, valueStart, end);
+            case FONTS -> parseFonts(start, keyEnd, valueStart, end);
+            case MANIA -> parseMania(start, keyEnd, valueStart, end);
+            default -> { }
+        }
+    }
+
+    private void enterSection(int start, int end) {
+        finishManiaSection();
+
+        if (keyEquals(start, end, "General")) {
+            section = Section.GENERAL;
+        } else if (keyEquals(start, end, "Colours") || keyEquals(start, end, "Colors")) {
+            section = Section.COLOURS;
+        } else if (keyEquals(start, end, "Fonts")) {
+            section = Section.FONTS;
+        } else if (keyEquals(start, end, "Mania")) {
+            section = Section.MANIA;
+            maniaKeys = -1;
+            maniaProperties = new LinkedHashMap<>();
+        } else {
+            section = Section.OTHER;
+        }
+    }
+
+    private void parseGeneral(int ks, int ke, int vs, int ve) {
+        if (keyEquals(ks, ke, "Name")) {
+            if (vs < ve) {
+                builder.name(string(vs, ve));
+            }
+        } else if (keyEquals(ks, ke, "Author")) {
+            builder.author(string(vs, ve));
+        } else if (keyEquals(ks, ke, "Version")) {
+            builder.version(string(vs, ve));
+        } else if (keyEquals(ks, ke, "AnimationFramerate")) {
+            builder.animationFramerate(parseDouble(vs, ve, -1));
+        } else if (keyEquals(ks, ke, "AllowSliderBallTint")) {
+            builder.allowSliderBallTint(parseBoolean(vs, ve, false));
+        } else if (keyEquals(ks, ke, "ComboBurstRandom")) {
+            builder.comboBurstRandom(parseBoolean(vs, ve, false));
+        } else if (keyEquals(ks, ke, "CursorCentre")) {
+            builder.cursorCentre(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "CursorExpand")) {
+            builder.cursorExpand(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "CursorRotate")) {
+            builder.cursorRotate(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "CursorTrailRotate")) {
+            builder.cursorTrailRotate(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "HitCircleOverlayAboveNumber") || keyEquals(ks, ke, "HitCircleOverlayAboveNumer")) {
+            builder.hitCircleOverlayAboveNumber(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "LayeredHitSounds")) {
+            builder.layeredHitSounds(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "SliderBallFlip")) {
+            builder.sliderBallFlip(parseBoolean(vs, ve, true));
+        } else if (keyEquals(ks, ke, "SliderStyle")) {
+            builder.sliderStyle(parseInt(vs, ve, 2));
+        } else if (keyEquals(ks, ke, "SpinnerFadePlayfield")) {
+            builder.spinnerFadePlayfield(parseBoolean(vs, ve, false));
+        } else if (keyEquals(ks, ke, "SpinnerNoBlink")) {
+            builder.spinnerNoBlink(parseBoolean(vs, ve, false));
+        }
+    }
+
+    private void parseColours(int ks, int ke, int vs, int ve) {
+        if (ke - ks == 6 && keyEquals(ks, ks + 5, "Combo")) {
+            int index = data[ks + 5] - '1';
+            long colour = parseColour(vs, ve);
+            if (index >= 0 && index < MAX_COMBO_COLOURS && colour != INVALID_COLOUR) {
+                comboColours[index] = (int) colour;
+                definedComboColours |= 1 << index;
+            }
+            return;
+        }
+
+        long parsed = parseColour(vs, ve);
+        if (parsed == INVALID_COLOUR) {
+            return;
+        }
+        int colour = (int) parsed;
+        if (keyEquals(ks, ke, "SliderBorder")) {
+            builder.sliderBorder(colour);
+        } else if (keyEquals(ks, ke, "SliderTrackOverride")) {
+            builder.sliderTrackOverride(colour);
+        } else if (keyEquals(ks, ke, "SliderBall")) {
+            builder.sliderBall(colour);
+        } else if (keyEquals(ks, ke, "SpinnerBackground")) {
+            builder.spinnerBackground(colour);
+        } else if (keyEquals(ks, ke, "MenuGlow")) {
+            builder.menuGlow(colour);
+        } else if (keyEquals(ks, ke, "StarBreakAdditive")) {
+            builder.starBreakAdditive(colour);
+        } else if (keyEquals(ks, ke, "InputOverlayText")) {
+            builder.inputOverlayText(colour);
+        } else if (keyEquals(ks, ke, "SongSelectActiveText")) {
+            builder.songSelectActiveText(colour);
+        } else if (keyEquals(ks, ke, "SongSelectInactiveText")) {
+            builder.songSelectInactiveText(colour);
+        }
+    }
+
+    private void parseFonts(int ks, int ke, int vs, int ve) {
+        if (keyEquals(ks, ke, "HitCirclePrefix")) {
+            builder.hitCirclePrefix(path(vs, ve));
+        } else if (keyEquals(ks, ke, "HitCircleOverlap")) {
+            builder.hitCircleOverlap(parseInt(vs, ve, -2));
+        } else if (keyEquals(ks, ke, "ScorePrefix")) {
+            builder.scorePrefix(path(vs, ve));
+        } else if (keyEquals(ks, ke, "ScoreOverlap")) {
+            builder.scoreOverlap(parseInt(vs, ve, 0));
+        } else if (keyEquals(ks, ke, "ComboPrefix")) {
+            builder.comboPrefix(path(vs, ve));
+        } else if (keyEquals(ks, ke, "ComboOverlap")) {
+            builder.comboOverlap(parseInt(vs, ve, 0));
+        }
+    }
+
+    private void parseMania(int ks, int ke, int vs, int ve) {
+        if (keyEquals(ks, ke, "Keys")) {
+            maniaKeys = parseInt(vs, ve, -1);
+        } else {
+            maniaProperties.put(string(ks, ke), string(vs, ve));
+        }
+    }
+
+    private void finishManiaSection() {
+        if (section == Section.MANIA && maniaKeys > 0) {
+            builder.addManiaConfig(new SkinIni.ManiaConfig(maniaKeys, maniaProperties));
+        }
+        maniaKeys = -1;
+        maniaProperties = null;
+    }
+
+    private int[] collectComboColours() {
+        int[] result = new int[Integer.bitCount(definedComboColours)];
+        int i = 0;
+        for (int index = 0; index < MAX_COMBO_COLOURS; index++) {
+            if ((definedComboColours & (1 << index)) != 0) {
+                result[i++] = comboColours[index];
+            }
+        }
+        return result;
+    }
+
+    // --- Value parsing on byte ranges ---
+
+    /**
+     * Parses "R,G,B" or "R,G,B,A" into a packed colour. Returns INVALID_COLOUR if fewer
+     * than three components are valid.
+     */
+    private long parseColour(int start, int end) {
+        int r = 0, g = 0, b = 0, a = 255;
+        int count = 0;
+        int pos = start;
+
+        while (count < 4) {
+            int comma = indexOf((byte) ',', pos, end);
+            int componentEnd = comma < 0 ? end : comma;
+            int value = parseInt(skipWhitespace(pos, componentEnd), trimEnd(pos, componentEnd), Integer.MIN_VALUE);
+            if (value == Integer.MIN_VALUE) {
+                return INVALID_COLOUR;
+            }
+            value = Math.max(0, Math.min(255, value));
+            switch (count++) {
+                case 0 -> r = value;
+                case 1 -> g = value;
+                case 2 -> b = value;
+                default -> a = value;
+            }
+            if (comma < 0) {
+                break;
+            }
+            pos = comma + 1;
+        }
+
+        if (count < 3) {
+            return INVALID_COLOUR;
+        }
+        return SkinIni.argb(r, g, b, a) & 0xFFFFFFFFL;
+    }
+
+    private int parseInt(int start, int end, int fallback) {
+        if (start >= end) {
+            return fallback;
+        }
+
+        boolean negative = data[start] == '-';
+        int pos = negative || data[start] == '+' ? start + 1 : start;
+        if (pos >= end) {
+            return fallback;
+        }
+
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = data[pos] - '0';
+            if (digit < 0 || digit > 9) {
+                // osu! tolerates trailing junk such as "2.5"; keep the integer part
+                if (data[pos] == '.') {
+                    break;
+                }
+                return fallback;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                return fallback;
+            }
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private double parseDouble(int start, int end, double fallback) {
+        if (start >= end) {
+            return fallback;
+        }
+
+        boolean negative = data[start] == '-';
+        int pos = negative ? start + 1 : start;
+        double value = 0;
+        double scale = 0;
+        boolean digits = false;
+
+        for (; pos < end; pos++) {
+            byte c = data[pos];
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (scale == 0) {
+                    value = value * 10 + (c - '0');
+                } else {
+                    value += (c - '0') * scale;
+                    scale /= 10;
+                }
+            } else if ((c == '.' || c == ',') && scale == 0) {
+                scale = 0.1;
+            } else {
+                return fallback;
+            }
+        }
+        if (!digits) {
+            return fallback;
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean parseBoolean(int start, int end, boolean fallback) {
+        if (keyEquals(start, end, "true")) {
+            return true;
+        }
+        if (keyEquals(start, end, "false")) {
+            return false;
+        }
+        int value = parseInt(start, end, Integer.MIN_VALUE);
+        return value == Integer.MIN_VALUE ? fallback : value != 0;
+    }
+
+    private String string(int start, int end) {
+        return new String(data, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Font prefixes are relative paths and may use either separator.
+     */
+    private String path(int start, int end) {
+        return string(start, end).replace('\\', '/');
+    }
+
+    // --- Byte range helpers ---
+
+    private boolean keyEquals(int start, int end, String key) {
+        if (end - start != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            int a = data[start + i];
+            int b = key.charAt(i);
+            if (a != b && toLowerAscii(a) != toLowerAscii(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean startsWith(int start, int end, String prefix) {
+        return end - start >= prefix.length() && keyEquals(start, start + prefix.length(), prefix);
+    }
+
+    private int indexOf(byte b, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (data[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipWhitespace(int start, int end) {
+        while (start < end && isWhitespace(data[start])) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && isWhitespace(data[end - 1])) {
+            end--;
+        }
+        return end;
+    }
+
+    private boolean startsWithBom() {
+        return data.length >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        // Bytes of multi-byte UTF-8 characters are negative and never whitespace
+        return b >= 0 && b <= ' ';
+    }
+
+    private static int toLowerAscii(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+}
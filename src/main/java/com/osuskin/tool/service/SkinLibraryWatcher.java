@@ -0,0 +1,184 @@
+package com.osuskin.tool.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the osu! skins directory and its first-level skin folders for changes.
+ * Events are batched over a short window and reported as the set of affected
+ * first-level entries, so listeners only need to rescan the skins that changed.
+ */
+public class SkinLibraryWatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkinLibraryWatcher.class);
+    private static final long DEFAULT_BATCH_WINDOW_MS = 500;
+
+    /**
+     * Receives batched change notifications on the watcher thread.
+     */
+    public interface Listener {
+        /**
+         * Called with the first-level entries of the skins directory that were
+         * created, modified or deleted during the last batch window.
+         */
+        void onEntriesChanged(Set<Path> changedEntries);
+
+        /**
+         * Called when events were lost and the whole library should be rescanned.
+         */
+        default void onOverflow() {
+        }
+    }
+
+    private final Path skinsDirectory;
+    private final Listener listener;
+    private final long batchWindowMillis;
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+    private Thread watchThread;
+    private volatile boolean running = false;
+
+    public SkinLibraryWatcher(Path skinsDirectory, Listener listener) {
+        this(skinsDirectory, listener, DEFAULT_BATCH_WINDOW_MS);
+    }
+
+    public SkinLibraryWatcher(Path skinsDirectory, Listener listener, long batchWindowMillis) {
+        this.skinsDirectory = skinsDirectory;
+        this.listener = listener;
+        this.batchWindowMillis = batchWindowMillis;
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+
+        watchService = skinsDirectory.getFileSystem().newWatchService();
+        register(skinsDirectory);
+        try (Stream<Path> entries = Files.list(skinsDirectory)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                if (Files.isDirectory(entry)) {
+                    register(entry);
+                }
+            }
+        }
+
+        running = true;
+        watchThread = new Thread(this::watchLoop, "skin-library-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        logger.info("Watching {} directories under: {}", watchedDirectories.size(), skinsDirectory);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        watchThread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close watch service", e);
+        }
+        watchedDirectories.clear();
+        logger.info("Stopped watching: {}", skinsDirectory);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Path getSkinsDirectory() {
+        return skinsDirectory;
+    }
+
+    private void register(Path directory) {
+        try {
+            WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            watchedDirectories.put(key, directory);
+        } catch (IOException e) {
+            logger.debug("Could not watch directory: {}", directory, e);
+        }
+    }
+
+    private void watchLoop() {
+        while (running) {
+            try {
+                WatchKey key = watchService.take();
+                Set<Path> changedEntries = new LinkedHashSet<>();
+                boolean overflow = collectEvents(key, changedEntries);
+
+                // Keep collecting until the batch window has passed
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    key = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        break;
+                    }
+                    overflow |= collectEvents(key, changedEntries);
+                }
+
+                if (overflow) {
+                    logger.info("Watch events overflowed, requesting full rescan");
+                    listener.onOverflow();
+                } else if (!changedEntries.isEmpty()) {
+                    logger.debug("Detected changes in {} skin entries", changedEntries.size());
+                    listener.onEntriesChanged(changedEntries);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Error while processing skin directory changes", e);
+            }
+        }
+    }
+
+    /**
+     * Maps the events of a key to first-level entries. Returns true on overflow.
+     */
+    private boolean collectEvents(WatchKey key, Set<Path> changedEntries) {
+        Path directory = watchedDirectories.get(key);
+        boolean overflow = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+
+            if (directory.equals(skinsDirectory)) {
+                Path entry = directory.resolve((Path) event.context());
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(entry)) {
+                    register(entry);
+                }
+                changedEntries.add(entry);
+            } else {
+                // Any change inside a skin folder affects that skin only
+                changedEntries.add(directory);
+            }
+        }
+
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+        return overflow;
+    }
+}
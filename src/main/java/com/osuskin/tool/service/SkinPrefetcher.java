@@ -0,0 +1,128 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.Skin;
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Low-priority background warming of the skins next to the selected one, so that
+ * moving one row up or down previews without a visible decode. For each skin the
+ * directory index is built into the shared {@link SkinFileIndex} cache and the core
+ * gameplay textures are decoded into the {@link TextureCache}, unpinned, so the
+ * cache may still evict them. Each round stops at a small byte budget.
+ * <p>
+ * A single minimum-priority thread does the work, and {@link #cancel()} stops the
+ * current round between two decodes, so foreground loads always go first.
+ */
+public class SkinPrefetcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkinPrefetcher.class);
+
+    public static final long MAX_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    public static final List<String> CORE_ELEMENTS;
+
+    static {
+        List<String> elements = new ArrayList<>(List.of("hitcircle", "hitcircleoverlay", "approachcircle", "cursor"));
+        for (int i = 0; i < 10; i++) {
+            elements.add("default-" + i);
+        }
+        CORE_ELEMENTS = List.copyOf(elements);
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "skin-prefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private final TextureCache textureCache = TextureCache.getInstance();
+    private final AtomicInteger round = new AtomicInteger();  // Bumped to cancel the running round
+
+    /**
+     * Warm the given skins in order, replacing any round still running. The
+     * future completes when the round is done, cancelled or out of budget.
+     */
+    public CompletableFuture<Void> prefetch(List<Skin> skins) {
+        Map<String, Double> elements = new LinkedHashMap<>();
+        for (String element : CORE_ELEMENTS) {
+            elements.put(element, SkinElementLoader.FULL_SIZE);
+        }
+        return prefetch(skins, elements);
+    }
+
+    /**
+     * Warm the given skins, decoding each element at the render scale the preview
+     * will load it at, so the preview hits the same cache entries.
+     */
+    public CompletableFuture<Void> prefetch(List<Skin> skins, Map<String, Double> elementScales) {
+        int current = round.incrementAndGet();
+        List<Skin> queued = List.copyOf(skins);
+        Map<String, Double> elements = new LinkedHashMap<>(elementScales);
+        return CompletableFuture.runAsync(() -> run(current, queued, elements), executor);
+    }
+
+    /**
+     * Stop the running round, if any, before its next decode.
+     */
+    public void cancel() {
+        round.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Bytes one round may decode: a small share of the texture cache, so warming
+     * neighbours never pushes out the textures of skins viewed recently.
+     */
+    long getBudgetBytes() {
+        return Math.min(MAX_BUDGET_BYTES, textureCache.getBudgetBytes() / 8);
+    }
+
+    private void run(int current, List<Skin> skins, Map<String, Double> elements) {
+        long budget = getBudgetBytes();
+        long decoded = 0;
+        for (Skin skin : skins) {
+            if (round.get() != current) {
+                return;
+            }
+            if (!skin.isVirtual()) {
+                SkinFileIndex.cached(skin.getDirectoryPathAsPath());
+            }
+
+            // The loader is closed at the end, which leaves the textures cached but unpinned
+            try (SkinElementLoader loader = SkinElementLoader.forSkin(skin)) {
+                for (Map.Entry<String, Double> element : elements.entrySet()) {
+                    if (round.get() != current) {
+                        return;
+                    }
+                    if (decoded >= budget) {
+                        logger.debug("Prefetch budget of {} bytes used up", budget);
+                        return;
+                    }
+                    Image image = loader.loadImage(element.getKey(), element.getValue());
+                    if (image != null) {
+                        decoded += TextureCache.estimateBytes(image);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Could not prefetch skin: {}", skin.getName(), e);
+            }
+            logger.debug("Prefetched skin: {}", skin.getName());
+        }
+    }
+}
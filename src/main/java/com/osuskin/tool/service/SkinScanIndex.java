@@ -0,0 +1,130 @@
+package com.osuskin.tool.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osuskin.tool.model.ScanIndexEntry;
+import com.osuskin.tool.model.Skin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent index of scanned skin directories stored in the cache directory.
+ * Entries are reused as long as a directory's modification time and entry count
+ * are unchanged, so a refresh only rescans directories that were modified.
+ */
+public class SkinScanIndex {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SkinScanIndex.class);
+    private static final String INDEX_FILE_NAME = "scan-index-v3.json";  // Bump when the cached Skin model changes
+    
+    private final Path indexFile;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ScanIndexEntry> entries = new ConcurrentHashMap<>();
+    private boolean loaded = false;
+    
+    public SkinScanIndex(Path cacheDirectory) {
+        this.indexFile = cacheDirectory.resolve(INDEX_FILE_NAME);
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+    
+    /**
+     * Load the index from disk once. A missing or unreadable index starts empty.
+     */
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        
+        try {
+            Map<String, ScanIndexEntry> stored = objectMapper.readValue(indexFile.toFile(),
+                new TypeReference<Map<String, ScanIndexEntry>>() {});
+            entries.putAll(stored);
+            logger.info("Loaded scan index with {} entries from: {}", entries.size(), indexFile);
+        } catch (IOException e) {
+            logger.warn("Failed to read scan index, starting with an empty index: {}", indexFile, e);
+        }
+    }
+    
+    public synchronized void save() {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            objectMapper.writeValue(indexFile.toFile(), entries);
+            logger.debug("Saved scan index with {} entries to: {}", entries.size(), indexFile);
+        } catch (IOException e) {
+            logger.warn("Failed to save scan index: {}", indexFile, e);
+        }
+    }
+    
+    /**
+     * Build the fingerprint of a directory from its modification time and the
+     * number of entries already enumerated by the caller.
+     */
+    public static Fingerprint fingerprint(Path directory, int entryCount) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(directory, BasicFileAttributes.class);
+        return new Fingerprint(attrs.lastModifiedTime().toMillis(), entryCount);
+    }
+    
+    /**
+     * Build the fingerprint of a compressed skin from its modification time and
+     * size. The size takes the place of the entry count, so the archive is not opened.
+     */
+    public static Fingerprint fingerprintArchive(Path archive) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(archive, BasicFileAttributes.class);
+        return new Fingerprint(attrs.lastModifiedTime().toMillis(), (int) Math.min(attrs.size(), Integer.MAX_VALUE));
+    }
+    
+    /**
+     * Returns the cached entry for a directory if its fingerprint still matches.
+     */
+    public ScanIndexEntry lookup(Path directory, Fingerprint fingerprint) {
+        ScanIndexEntry entry = entries.get(directory.toString());
+        if (entry != null && entry.matches(fingerprint.lastModified, fingerprint.fileCount)) {
+            return entry;
+        }
+        return null;
+    }
+    
+    public void put(Path directory, Fingerprint fingerprint, Skin skin) {
+        entries.put(directory.toString(), new ScanIndexEntry(fingerprint.lastModified, fingerprint.fileCount, skin));
+    }
+    
+    public void remove(Path directory) {
+        entries.remove(directory.toString());
+    }
+    
+    /**
+     * Drop entries for directories that no longer exist in the skins folder.
+     */
+    public void retainOnly(Set<String> directoryPaths) {
+        entries.keySet().retainAll(directoryPaths);
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public static class Fingerprint {
+        final long lastModified;
+        final int fileCount;
+        
+        Fingerprint(long lastModified, int fileCount) {
+            this.lastModified = lastModified;
+            this.fileCount = fileCount;
+        }
+    }
+}
@@ -1,21 +1,33 @@
 package com.osuskin.tool.service;
 
 import com.osuskin.tool.model.Configuration;
+import com.osuskin.tool.model.ScanIndexEntry;
 import com.osuskin.tool.model.Skin;
 import com.osuskin.tool.model.SkinElement;
+import com.osuskin.tool.model.SkinIni;
 import com.osuskin.tool.util.ConfigurationManager;
 import javafx.concurrent.Task;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 public class SkinScannerService {
@@ -26,9 +38,14 @@ public class SkinScannerService {
     private static final Set<String> IMAGE_EXTENSIONS = Set.of(".png", ".jpg", ".jpeg");
     private static final Set<String> AUDIO_EXTENSIONS = Set.of(".wav", ".mp3", ".ogg");
     private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(".zip", ".osk", ".tar", ".tar.gz", ".7z");
+    private static final List<String> PREVIEW_IMAGE_NAMES = List.of(
+        "menu-back.png", "menu-background.png", "preview.png", "screenshot.png", "skin-preview.png");
     
     private final ConfigurationManager configurationManager;
-    private List<Path> compressedSkinFiles = new ArrayList<>();
+    private final List<Path> compressedSkinFiles = new CopyOnWriteArrayList<>();
+    private SkinScanIndex scanIndex;
+    private final ZipSkinExtractor zipExtractor = new ZipSkinExtractor();
+    private final TarSkinExtractor tarExtractor = new TarSkinExtractor();
     
     public SkinScannerService(ConfigurationManager configurationManager) {
         this.configurationManager = configurationManager;
@@ -43,7 +60,33 @@ public class SkinScannerService {
         };
     }
     
+    /**
+     * Create a scan task that streams skins to the given consumer in small batches
+     * on the FX thread while the scan is running, and reports real progress.
+     */
+    public Task<List<Skin>> createStreamingScanTask(Consumer<List<Skin>> batchConsumer) {
+        return new StreamingScanTask(this, batchConsumer);
+    }
+    
+    /**
+     * Receives per-directory scan results while a scan is running. Callbacks may be
+     * invoked concurrently from scan worker threads.
+     */
+    public interface ScanListener {
+        void onScanStarted(int totalDirectories);
+        
+        /**
+         * Called once for every directory that finished scanning.
+         * The skin is null if the directory is not a skin.
+         */
+        void onDirectoryScanned(Skin skin);
+    }
+    
     public List<Skin> scanSkins() throws IOException {
+        return scanSkins(null);
+    }
+    
+    public List<Skin> scanSkins(ScanListener listener) throws IOException {
         Configuration config = configurationManager.getConfiguration();
         Path skinsDirectory = config.getOsuSkinsDirectoryPath();
         
@@ -102,21 +145,15 @@ public class SkinScannerService {
             skins.add(skinContainer);
         }
         
-        // Then scan other skins
+        // Then collect the remaining skin directories and compressed files
+        List<Path> skinDirectories = new ArrayList<>();
         try (Stream<Path> entries = Files.walk(skinsDirectory, 1)) {
             entries
                 .filter(path -> !path.equals(skinsDirectory))
                 .filter(path -> !path.equals(finalSkinContainerPath))  // Skip Skin Container, already added
                 .forEach(entry -> {
-                    if (Files.isDirectory(entry) && isSkinDirectory(entry)) {
-                        try {
-                            Skin skin = scanSingleSkin(entry);
-                            if (skin != null) {
-                                skins.add(skin);
-                            }
-                        } catch (Exception e) {
-                            logger.warn("Failed to scan skin directory: {}", entry, e);
-                        }
+                    if (Files.isDirectory(entry)) {
+                        skinDirectories.add(entry);
                     } else if (Files.isRegularFile(entry) && isCompressedSkinFile(entry)) {
                         compressedSkinFiles.add(entry);
                         logger.debug("Found compressed skin file: {}", entry.getFileName());
@@ -124,31 +161,287 @@ public class SkinScannerService {
                 });
         }
         
+        // Archives are listed as virtual skins straight from their central directory
+        List<Path> scanTargets = new ArrayList<>(skinDirectories);
+        if (config.isIndexArchives()) {
+            compressedSkinFiles.stream()
+                .filter(SkinArchive::isSupported)
+                .forEach(scanTargets::add);
+        }
+        
+        if (listener != null) {
+            listener.onScanStarted(scanTargets.size() + 1);
+            listener.onDirectoryScanned(skins.get(0));  // Skin Container
+        }
+        
+        SkinScanIndex index = getScanIndex();
+        int threadCount = Math.min(config.getScanThreadCount(), scanTargets.size());
+        if (threadCount > 1) {
+            skins.addAll(scanEntriesInParallel(scanTargets, threadCount, index, listener));
+        } else {
+            for (Path entry : scanTargets) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Skin scan interrupted");
+                }
+                Skin skin = scanEntry(entry, index);
+                if (listener != null) {
+                    listener.onDirectoryScanned(skin);
+                }
+                if (skin != null) {
+                    skins.add(skin);
+                }
+            }
+        }
+        
+        if (index != null) {
+            Set<String> scannedPaths = new HashSet<>();
+            scanTargets.forEach(entry -> scannedPaths.add(entry.toString()));
+            index.retainOnly(scannedPaths);
+            index.save();
+        }
+        
         // Update last scan time
         config.setLastScanTime(LocalDateTime.now());
         configurationManager.saveConfiguration();
         
-        logger.info("Skin scan completed. Found {} extracted skins, {} compressed skin files", 
+        logger.info("Skin scan completed. Found {} skins, {} compressed skin files", 
                    skins.size(), compressedSkinFiles.size());
         return skins;
     }
     
-    private boolean isSkinDirectory(Path directory) {
-        try (Stream<Path> files = Files.list(directory)) {
-            return files.anyMatch(this::isSkinFile);
+    /**
+     * Rescan first-level entries of the skins directory after they changed on disk.
+     * Returns the updated skin for each entry, or null if the entry was removed or
+     * is not a skin. The compressed skin list and scan index are updated as well.
+     */
+    public Map<Path, Skin> rescanEntries(Collection<Path> entries) {
+        SkinScanIndex index = getScanIndex();
+        boolean indexArchives = configurationManager.getConfiguration().isIndexArchives();
+        Map<Path, Skin> results = new LinkedHashMap<>();
+        
+        for (Path entry : entries) {
+            compressedSkinFiles.remove(entry);
+            
+            if (Files.isDirectory(entry)) {
+                results.put(entry, scanSkinDirectory(entry, index));
+            } else if (Files.isRegularFile(entry) && isCompressedSkinFile(entry)) {
+                compressedSkinFiles.add(entry);
+                boolean virtual = indexArchives && SkinArchive.isSupported(entry);
+                results.put(entry, virtual ? scanArchive(entry, index) : null);
+            } else {
+                if (index != null) {
+                    index.remove(entry);
+                }
+                results.put(entry, null);
+            }
+        }
+        
+        // Archives whose extracted folder just appeared are no longer pending,
+        // and their virtual skins are replaced by the extracted ones
+        for (Path file : compressedSkinFiles) {
+            if (!isCompressedSkinFile(file)) {
+                compressedSkinFiles.remove(file);
+                if (index != null) {
+                    index.remove(file);
+                }
+                results.put(file, null);
+            }
+        }
+        
+        if (index != null) {
+            index.save();
+        }
+        return results;
+    }
+    
+    /**
+     * Scans the given directories on a bounded worker pool. Results are collected
+     * in submission order so the output matches a sequential scan.
+     */
+    private List<Skin> scanEntriesInParallel(List<Path> entries, int threadCount,
+                                             SkinScanIndex index, ScanListener listener) throws IOException {
+        logger.debug("Scanning {} entries with {} worker threads", entries.size(), threadCount);
+        
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "skin-scan-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        try {
+            List<Future<Skin>> futures = new ArrayList<>(entries.size());
+            for (Path entry : entries) {
+                futures.add(executor.submit(() -> {
+                    Skin skin = scanEntry(entry, index);
+                    if (listener != null) {
+                        listener.onDirectoryScanned(skin);
+                    }
+                    return skin;
+                }));
+            }
+            
+            List<Skin> skins = new ArrayList<>(entries.size());
+            for (Future<Skin> future : futures) {
+                Skin skin = future.get();
+                if (skin != null) {
+                    skins.add(skin);
+                }
+            }
+            return skins;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Skin scan interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Skin scan worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Skin scanEntry(Path entry, SkinScanIndex index) {
+        return Files.isDirectory(entry) ? scanSkinDirectory(entry, index) : scanArchive(entry, index);
+    }
+    
+    /**
+     * Scans a single entry of the skins folder, returning null if it is not a skin
+     * or could not be read. Directories whose fingerprint matches the scan index
+     * are served from the index without being rescanned.
+     */
+    private Skin scanSkinDirectory(Path directory, SkinScanIndex index) {
+        SkinDirectoryListing listing;
+        try {
+            listing = SkinDirectoryListing.read(directory);
         } catch (IOException e) {
-            logger.debug("Could not check directory: {}", directory, e);
-            return false;
+            logger.debug("Could not list directory: {}", directory, e);
+            return null;
+        }
+        
+        SkinScanIndex.Fingerprint fingerprint = null;
+        if (index != null) {
+            try {
+                fingerprint = SkinScanIndex.fingerprint(directory, listing.size());
+                ScanIndexEntry cached = index.lookup(directory, fingerprint);
+                if (cached != null) {
+                    logger.trace("Using indexed scan result for: {}", directory);
+                    return cached.getSkin();
+                }
+            } catch (IOException e) {
+                logger.debug("Could not fingerprint directory: {}", directory, e);
+            }
+        }
+        
+        if (!isSkinDirectory(listing)) {
+            if (fingerprint != null) {
+                index.put(directory, fingerprint, null);
+            }
+            return null;
+        }
+        
+        try {
+            Skin skin = scanSingleSkin(listing);
+            if (fingerprint != null) {
+                index.put(directory, fingerprint, skin);
+            }
+            return skin;
+        } catch (Exception e) {
+            logger.warn("Failed to scan skin directory: {}", directory, e);
+            return null;
         }
     }
     
-    private boolean isSkinFile(Path file) {
-        if (!Files.isRegularFile(file)) {
-            return false;
+    /**
+     * Builds a virtual skin from a compressed skin's central directory and skin.ini,
+     * without extracting anything. Returns null if the archive cannot be read.
+     */
+    private Skin scanArchive(Path archivePath, SkinScanIndex index) {
+        SkinScanIndex.Fingerprint fingerprint = null;
+        if (index != null) {
+            try {
+                fingerprint = SkinScanIndex.fingerprintArchive(archivePath);
+                ScanIndexEntry cached = index.lookup(archivePath, fingerprint);
+                if (cached != null) {
+                    logger.trace("Using indexed scan result for: {}", archivePath);
+                    return cached.getSkin();
+                }
+            } catch (IOException e) {
+                logger.debug("Could not fingerprint archive: {}", archivePath, e);
+            }
         }
         
-        String fileName = file.getFileName().toString();
+        try (SkinArchive archive = SkinArchive.open(archivePath)) {
+            Skin skin = scanVirtualSkin(archive);
+            if (fingerprint != null) {
+                index.put(archivePath, fingerprint, skin);
+            }
+            return skin;
+        } catch (IOException e) {
+            logger.warn("Failed to read compressed skin: {}", archivePath, e);
+            return null;
+        }
+    }
+    
+    private Skin scanVirtualSkin(SkinArchive archive) throws IOException {
+        Path archivePath = archive.getArchivePath();
+        String fileName = archivePath.getFileName().toString();
+        Skin skin = new Skin(fileName.substring(0, fileName.lastIndexOf('.')), archivePath);
+        skin.setArchivePath(archivePath.toString());
         
+        ZipEntry skinIni = archive.findFile("skin.ini");
+        if (skinIni != null) {
+            applySkinIni(skin, SkinIniParser.parse(archive.readFile(skinIni)));
+        }
+        
+        long totalSize = 0;
+        for (ZipEntry entry : archive.getFiles()) {
+            long size = Math.max(0, entry.getSize());  // Uncompressed size from the central directory
+            totalSize += size;
+            
+            String entryName = archive.getFileName(entry);
+            String lowerFileName = entryName.toLowerCase();
+            if (!lowerFileName.equals("skin.ini") && shouldIncludeFile(lowerFileName)) {
+                // Elements point into the archive; they are read through SkinArchive, never from disk
+                skin.addElement(createElement(archivePath.resolve(entryName), entryName, lowerFileName, size));
+            }
+        }
+        
+        skin.setFileCount(archive.getFiles().size());
+        skin.setTotalSize(totalSize);
+        skin.setLastModified(LocalDateTime.ofInstant(
+            Files.getLastModifiedTime(archivePath).toInstant(), ZoneId.systemDefault()));
+        
+        logger.debug("Indexed compressed skin: {} ({} elements)", skin.getName(), skin.getElementCount());
+        return skin;
+    }
+    
+    /**
+     * Returns the persistent scan index, loading it on first use.
+     * Returns null if no cache directory is configured. Synchronized because the
+     * library watcher and a scan can both ask first, and two loaded copies would
+     * each save over the other's updates.
+     */
+    private synchronized SkinScanIndex getScanIndex() {
+        if (scanIndex == null) {
+            Path cacheDirectory = configurationManager.getCacheDirectory();
+            if (cacheDirectory == null) {
+                return null;
+            }
+            scanIndex = new SkinScanIndex(cacheDirectory);
+            scanIndex.load();
+        }
+        return scanIndex;
+    }
+    
+    private boolean isSkinDirectory(SkinDirectoryListing listing) {
+        for (int i = 0; i < listing.size(); i++) {
+            if (listing.isRegularFile(i) && isSkinFile(listing.getFileName(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSkinFile(String fileName) {
         // Check for skin.ini
         if (SKIN_INI_NAMES.contains(fileName)) {
             return true;
@@ -165,147 +458,108 @@ public class SkinScannerService {
     }
     
     private Skin scanSingleSkin(Path skinDirectory) throws IOException {
+        return scanSingleSkin(SkinDirectoryListing.read(skinDirectory));
+    }
+    
+    private Skin scanSingleSkin(SkinDirectoryListing listing) {
+        Path skinDirectory = listing.getDirectory();
         String skinName = skinDirectory.getFileName().toString();
         logger.debug("Scanning skin: {}", skinName);
         
         Skin skin = new Skin(skinName, skinDirectory);
         
         // Get directory stats
-        DirectoryStats stats = calculateDirectoryStats(skinDirectory);
+        DirectoryStats stats = calculateDirectoryStats(listing);
         skin.setFileCount(stats.fileCount);
         skin.setTotalSize(stats.totalSize);
         skin.setLastModified(stats.lastModified);
         
         // Parse skin.ini if present
-        parseSkinIni(skin, skinDirectory);
+        parseSkinIni(skin, listing);
         
         // Scan for skin elements
-        scanSkinElements(skin, skinDirectory);
+        scanSkinElements(skin, listing);
         
         // Find preview image
-        findPreviewImage(skin, skinDirectory);
+        findPreviewImage(skin, listing);
         
         logger.debug("Completed scanning skin: {} ({} elements)", skinName, skin.getElementCount());
         return skin;
     }
     
-    private void parseSkinIni(Skin skin, Path skinDirectory) {
-        for (String iniFileName : SKIN_INI_NAMES) {
-            Path iniPath = skinDirectory.resolve(iniFileName);
-            if (Files.exists(iniPath)) {
-                try {
-                    List<String> lines = Files.readAllLines(iniPath);
-                    parseSkinIniContent(skin, lines);
-                    break;
-                } catch (IOException e) {
-                    logger.debug("Could not read skin.ini from: {}", iniPath, e);
-                }
+    private void parseSkinIni(Skin skin, SkinDirectoryListing listing) {
+        for (int i = 0; i < listing.size(); i++) {
+            if (!SKIN_INI_NAMES.contains(listing.getFileName(i)) || !listing.isRegularFile(i)) {
+                continue;
             }
+            
+            Path iniPath = listing.getEntries().get(i);
+            try {
+                applySkinIni(skin, SkinIniParser.parse(iniPath));
+                break;
+            } catch (IOException e) {
+                logger.debug("Could not read skin.ini from: {}", iniPath, e);
+            }
+        }
+    }
+    
+    private void applySkinIni(Skin skin, SkinIni ini) {
+        skin.setSkinIni(ini);
+        if (ini.getName() != null && !ini.getName().isEmpty()) {
+            skin.setName(ini.getName());
+        }
+        skin.setAuthor(ini.getAuthor());
+        skin.setVersion(ini.getVersion());
+        
+        for (int i = 0; i < ini.getComboColourCount(); i++) {
+            int colour = ini.getComboColour(i);
+            skin.addComboColor(SkinIni.red(colour), SkinIni.green(colour), SkinIni.blue(colour));
         }
+        logger.debug("Parsed skin.ini: {}", ini);
     }
     
-    private void parseSkinIniContent(Skin skin, List<String> lines) {
-        String currentSection = "";
+    private void scanSkinElements(Skin skin, SkinDirectoryListing listing) {
+        // For Skin Container, we need ALL files for proper selection
+        boolean isSkinContainer = skin.getName().equals("Skin Container");
         
-        for (String line : lines) {
-            line = line.trim();
-            
-            if (line.isEmpty() || line.startsWith("//")) {
+        for (int i = 0; i < listing.size(); i++) {
+            if (!listing.isRegularFile(i)) {
                 continue;
             }
             
-            if (line.startsWith("[") && line.endsWith("]")) {
-                currentSection = line.substring(1, line.length() - 1);
+            Path file = listing.getEntries().get(i);
+            String fileName = listing.getFileName(i);
+            String lowerFileName = fileName.toLowerCase();
+            
+            // Skip skin.ini as it's metadata, not an element
+            if (lowerFileName.equals("skin.ini")) {
                 continue;
             }
             
-            if (line.contains("=")) {
-                String[] parts = line.split("=", 2);
-                if (parts.length == 2) {
-                    String key = parts[0].trim();
-                    String value = parts[1].trim();
-                    
-                    parseSkinIniProperty(skin, currentSection, key, value);
-                }
+            // For skin container or selection purposes, include ALL files
+            // For normal skins, only scan files we might need for preview
+            if (isSkinContainer || shouldIncludeFile(lowerFileName)) {
+                skin.addElement(createElement(file, fileName, lowerFileName, listing.getAttributes(i).size()));
+                logger.trace("Found skin element: {}", fileName);
             }
         }
     }
     
-    private void parseSkinIniProperty(Skin skin, String section, String key, String value) {
-        if ("General".equalsIgnoreCase(section)) {
-            switch (key.toLowerCase()) {
-                case "name" -> skin.setName(value.isEmpty() ? skin.getName() : value);
-                case "author" -> skin.setAuthor(value);
-                case "version" -> skin.setVersion(value);
-            }
-        } else if ("Colours".equalsIgnoreCase(section) || "Colors".equalsIgnoreCase(section)) {
-            // Parse combo colors (Combo1, Combo2, etc.)
-            if (key.toLowerCase().startsWith("combo")) {
-                try {
-                    // Parse RGB values (format: "R,G,B" or "R , G , B")
-                    String[] rgb = value.split(",");
-                    if (rgb.length == 3) {
-                        int r = Integer.parseInt(rgb[0].trim());
-                        int g = Integer.parseInt(rgb[1].trim());
-                        int b = Integer.parseInt(rgb[2].trim());
-                        
-                        // Clamp values to 0-255
-                        r = Math.max(0, Math.min(255, r));
-                        g = Math.max(0, Math.min(255, g));
-                        b = Math.max(0, Math.min(255, b));
-                        
-                        skin.addComboColor(r, g, b);
-                        logger.debug("Added combo color: RGB({},{},{})", r, g, b);
-                    }
-                } catch (NumberFormatException e) {
-                    logger.warn("Invalid combo color format in skin.ini: {} = {}", key, value);
-                }
-            }
-        }
-    }
-    
-    private void scanSkinElements(Skin skin, Path skinDirectory) throws IOException {
-        // For Skin Container, we need ALL files for proper selection
-        boolean isSkinContainer = skin.getName().equals("Skin Container");
-        
-        try (Stream<Path> files = Files.list(skinDirectory)) {
-            files
-                .filter(Files::isRegularFile)
-                .forEach(file -> {
-                    String fileName = file.getFileName().toString();
-                    String lowerFileName = fileName.toLowerCase();
-                    
-                    // Skip skin.ini as it's metadata, not an element
-                    if (lowerFileName.equals("skin.ini")) {
-                        return;
-                    }
-                    
-                    // For skin container or selection purposes, include ALL files
-                    // For normal skins, only scan files we might need for preview
-                    if (isSkinContainer || shouldIncludeFile(lowerFileName)) {
-                        SkinElement.ElementType elementType = SkinElement.ElementType.fromFileName(lowerFileName);
-                        
-                        try {
-                            SkinElement element;
-                            if (elementType != null) {
-                                element = new SkinElement(elementType, file);
-                            } else {
-                                // Create element without type but with actual filename
-                                element = new SkinElement();
-                                element.setFilePath(file.toString());
-                                element.setFileName(fileName); // Use original case
-                                element.setExists(true);
-                            }
-                            element.setFileSize(Files.size(file));
-                            skin.addElement(element);
-                            
-                            logger.trace("Found skin element: {}", fileName);
-                        } catch (IOException e) {
-                            logger.debug("Could not get file size for: {}", file, e);
-                        }
-                    }
-                });
-        }
+    private SkinElement createElement(Path file, String fileName, String lowerFileName, long fileSize) {
+        SkinElement.ElementType elementType = SkinElement.ElementType.fromFileName(lowerFileName);
+        
+        SkinElement element;
+        if (elementType != null) {
+            element = new SkinElement(elementType, file);
+        } else {
+            // Create element without type but with actual filename
+            element = new SkinElement();
+            element.setFilePath(file.toString());
+            element.setFileName(fileName); // Use original case
+            element.setExists(true);
+        }
+        element.setFileSize(fileSize);
+        return element;
     }
     
     private boolean shouldIncludeFile(String lowerFileName) {
@@ -328,14 +582,16 @@ public class SkinScannerService {
             skin.setSpecial(true);
         }
         
+        SkinDirectoryListing listing = SkinDirectoryListing.read(skinDirectory);
+        
         // Parse skin.ini if present
-        parseSkinIni(skin, skinDirectory);
+        parseSkinIni(skin, listing);
         
         // Scan for skin elements
-        scanSkinElements(skin, skinDirectory);
+        scanSkinElements(skin, listing);
         
         // Find preview image
-        findPreviewImage(skin, skinDirectory);
+        findPreviewImage(skin, listing);
         
         // Set basic statistics
         skin.setFileCount(skin.getElements().size());
@@ -347,67 +603,56 @@ public class SkinScannerService {
         return skin;
     }
     
-    private void findPreviewImage(Skin skin, Path skinDirectory) {
-        // Look for common preview image names
-        String[] previewNames = {
-            "menu-back.png", "menu-background.png", "preview.png", 
-            "screenshot.png", "skin-preview.png"
-        };
+    private void findPreviewImage(Skin skin, SkinDirectoryListing listing) {
+        // Look for common preview image names, in order of preference
+        int bestRank = PREVIEW_IMAGE_NAMES.size();
+        Path firstLargeImage = null;
         
-        for (String previewName : previewNames) {
-            Path previewPath = skinDirectory.resolve(previewName);
-            if (Files.exists(previewPath)) {
-                skin.setPreviewImagePathAsPath(previewPath);
-                break;
+        for (int i = 0; i < listing.size(); i++) {
+            if (!listing.isRegularFile(i)) {
+                continue;
+            }
+            
+            String lowerFileName = listing.getFileName(i).toLowerCase();
+            int rank = PREVIEW_IMAGE_NAMES.indexOf(lowerFileName);
+            if (rank >= 0 && rank < bestRank) {
+                bestRank = rank;
+                skin.setPreviewImagePathAsPath(listing.getEntries().get(i));
+            }
+            
+            // If no specific preview is found, use the first large image
+            if (firstLargeImage == null && isImageFile(lowerFileName)
+                    && listing.getAttributes(i).size() > 10000) { // At least 10KB
+                firstLargeImage = listing.getEntries().get(i);
             }
         }
         
-        // If no specific preview found, use the first large image
-        if (skin.getPreviewImagePathAsPath() == null) {
-            try (Stream<Path> files = Files.list(skinDirectory)) {
-                Optional<Path> firstImage = files
-                    .filter(Files::isRegularFile)
-                    .filter(this::isImageFile)
-                    .filter(this::isLargeEnoughForPreview)
-                    .findFirst();
-                
-                firstImage.ifPresent(skin::setPreviewImagePathAsPath);
-            } catch (IOException e) {
-                logger.debug("Could not search for preview image in: {}", skinDirectory, e);
-            }
+        if (skin.getPreviewImagePathAsPath() == null && firstLargeImage != null) {
+            skin.setPreviewImagePathAsPath(firstLargeImage);
         }
     }
     
-    private boolean isImageFile(Path file) {
-        String fileName = file.getFileName().toString().toLowerCase();
-        return IMAGE_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    private boolean isImageFile(String lowerFileName) {
+        return IMAGE_EXTENSIONS.stream().anyMatch(lowerFileName::endsWith);
     }
     
-    private boolean isLargeEnoughForPreview(Path file) {
-        try {
-            return Files.size(file) > 10000; // At least 10KB
-        } catch (IOException e) {
-            return false;
-        }
-    }
-    
-    private DirectoryStats calculateDirectoryStats(Path directory) throws IOException {
+    private DirectoryStats calculateDirectoryStats(SkinDirectoryListing listing) {
         DirectoryStats stats = new DirectoryStats();
         
-        Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                stats.fileCount++;
-                stats.totalSize += attrs.size();
-                
-                LocalDateTime fileTime = LocalDateTime.ofInstant(attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault());
-                if (stats.lastModified == null || fileTime.isAfter(stats.lastModified)) {
-                    stats.lastModified = fileTime;
-                }
-                
-                return FileVisitResult.CONTINUE;
+        for (int i = 0; i < listing.size(); i++) {
+            BasicFileAttributes attrs = listing.getAttributes(i);
+            if (attrs == null) {
+                continue;
             }
-        });
+            
+            stats.fileCount++;
+            stats.totalSize += attrs.size();
+            
+            LocalDateTime fileTime = LocalDateTime.ofInstant(attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault());
+            if (stats.lastModified == null || fileTime.isAfter(stats.lastModified)) {
+                stats.lastModified = fileTime;
+            }
+        }
         
         return stats;
     }
@@ -424,13 +669,8 @@ public class SkinScannerService {
             return false;
         }
         
-        // Check if this compressed file has already been extracted
-        String originalFileName = file.getFileName().toString();
-        String extractedDirName = originalFileName.substring(0, originalFileName.lastIndexOf('.'));
-        Path extractedDir = file.getParent().resolve(extractedDirName);
-        
         // Only consider it a "compressed skin file" if it hasn't been extracted yet
-        return !Files.exists(extractedDir);
+        return !Files.exists(getExtractionPath(file));
     }
     
     public List<Path> getCompressedSkinFiles() {
@@ -457,13 +697,7 @@ public class SkinScannerService {
             entries
                 .filter(Files::isRegularFile)
                 .filter(this::isCompressedFormat)
-                .filter(file -> {
-                    // Only include files that haven't been extracted yet
-                    String originalFileName = file.getFileName().toString();
-                    String extractedDirName = originalFileName.substring(0, originalFileName.lastIndexOf('.'));
-                    Path extractedDir = file.getParent().resolve(extractedDirName);
-                    return !Files.exists(extractedDir);
-                })
+                .filter(file -> !Files.exists(getExtractionPath(file)))  // Not extracted yet
                 .forEach(extractable::add);
         } catch (IOException e) {
             logger.error("Error finding extractable compressed files", e);
@@ -478,6 +712,31 @@ public class SkinScannerService {
     }
     
     public boolean extractCompressedSkin(Path compressedFile) throws IOException {
+        return extractCompressedSkin(compressedFile, null);
+    }
+    
+    /**
+     * Directory a compressed skin is extracted to, next to the archive.
+     */
+    public Path getExtractionPath(Path compressedFile) {
+        return compressedFile.resolveSibling(getSkinName(compressedFile.getFileName().toString()));
+    }
+    
+    /**
+     * Archive file name without its extension, treating ".tar.gz" as one extension.
+     */
+    private static String getSkinName(String fileName) {
+        if (fileName.toLowerCase().endsWith(".tar.gz")) {
+            return fileName.substring(0, fileName.length() - ".tar.gz".length());
+        }
+        return fileName.substring(0, fileName.lastIndexOf('.'));
+    }
+    
+    /**
+     * Extract a compressed skin, reporting processed compressed bytes to the progress consumer.
+     * A partially extracted directory is removed if extraction fails or is interrupted.
+     */
+    public boolean extractCompressedSkin(Path compressedFile, LongConsumer progress) throws IOException {
         if (!Files.exists(compressedFile)) {
             logger.warn("Compressed file does not exist: {}", compressedFile);
             return false;
@@ -492,8 +751,16 @@ public class SkinScannerService {
         }
         
         String fileName = compressedFile.getFileName().toString();
-        String skinName = fileName.substring(0, fileName.lastIndexOf('.'));
-        Path extractPath = skinsDirectory.resolve(skinName);
+        String extension = fileName.toLowerCase();
+        boolean isZip = extension.endsWith(".zip") || extension.endsWith(".osk");
+        boolean isTar = extension.endsWith(".tar") || extension.endsWith(".tar.gz");
+        if (!isZip && !isTar) {
+            // Checked before creating the directory, which would mark the archive as extracted
+            logger.warn("Unsupported compressed file format: {}", fileName);
+            return false;
+        }
+        
+        Path extractPath = skinsDirectory.resolve(getSkinName(fileName));
         
         // Create extraction directory
         if (Files.exists(extractPath)) {
@@ -501,170 +768,58 @@ public class SkinScannerService {
             return false;
         }
         
+        boolean completed = false;
         try {
             Files.createDirectories(extractPath);
             
-            String extension = fileName.toLowerCase();
-            if (extension.endsWith(".zip") || extension.endsWith(".osk")) {
-                return extractZipFile(compressedFile, extractPath);
-            }
-            // Add support for other formats if needed
-            
-            logger.warn("Unsupported compressed file format: {}", fileName);
-            return false;
+            boolean result = isZip
+                ? extractZipFile(compressedFile, extractPath, progress)
+                : extractTarFile(compressedFile, extractPath, progress);
+            completed = true;
+            return result;
             
+        } catch (InterruptedIOException e) {
+            logger.info("Extraction cancelled, removing partial output: {}", extractPath);
+            throw e;
         } catch (IOException e) {
             logger.error("Failed to extract compressed skin: {}", compressedFile, e);
-            if (Files.exists(extractPath)) {
-                try {
-                    Files.walk(extractPath)
-                        .sorted(Comparator.reverseOrder())
-                        .forEach(path -> {
-                            try {
-                                Files.delete(path);
-                            } catch (IOException ex) {
-                                logger.debug("Failed to cleanup: {}", path);
-                            }
-                        });
-                } catch (IOException ex) {
-                    logger.debug("Failed to cleanup directory: {}", extractPath);
-                }
-            }
             throw e;
+        } finally {
+            // Also after unchecked errors, so no half-extracted skin is left behind
+            if (!completed) {
+                deletePartialOutput(extractPath);
+            }
         }
     }
     
-    private boolean extractZipFile(Path zipFile, Path extractPath) throws IOException {
-        try (ZipFile zip = new ZipFile(zipFile.toFile())) {
-            // Analyze ZIP structure to detect nested folder pattern
-            String rootFolderToStrip = detectRootFolder(zip);
-            
-            zip.stream().forEach(entry -> {
-                try {
-                    String entryName = entry.getName();
-                    
-                    // Skip the root folder if we detected one to strip
-                    if (rootFolderToStrip != null && entryName.startsWith(rootFolderToStrip)) {
-                        // Remove the root folder prefix
-                        entryName = entryName.substring(rootFolderToStrip.length());
-                        
-                        // Skip if this results in an empty path (the root folder entry itself)
-                        if (entryName.isEmpty()) {
-                            return;
-                        }
-                    }
-                    
-                    Path entryPath = extractPath.resolve(entryName);
-                    if (entry.isDirectory()) {
-                        Files.createDirectories(entryPath);
-                    } else {
-                        Files.createDirectories(entryPath.getParent());
-                        try (InputStream in = zip.getInputStream(entry)) {
-                            Files.copy(in, entryPath);
-                        }
+    private void deletePartialOutput(Path extractPath) {
+        if (!Files.exists(extractPath)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(extractPath)) {
+            paths.sorted(Comparator.reverseOrder())
+                .forEach(path -> {
+                    try {
+                        Files.delete(path);
+                    } catch (IOException ex) {
+                        logger.debug("Failed to cleanup: {}", path);
                     }
-                } catch (IOException e) {
-                    logger.error("Failed to extract entry: {}", entry.getName(), e);
-                }
-            });
+                });
+        } catch (IOException | UncheckedIOException ex) {
+            logger.debug("Failed to cleanup directory: {}", extractPath);
         }
-        
-        logger.info("Successfully extracted skin: {} -> {}", zipFile.getFileName(), extractPath.getFileName());
-        return true;
     }
     
-    /**
-     * Detects if a ZIP file has all its content in a single root folder that should be stripped.
-     * Returns the folder prefix to strip, or null if no stripping is needed.
-     */
-    private String detectRootFolder(ZipFile zip) {
-        List<String> entryNames = zip.stream()
-            .map(entry -> entry.getName())
-            .filter(name -> !name.isEmpty())
-            .toList();
-            
-        if (entryNames.isEmpty()) {
-            return null;
-        }
-        
-        // Find potential root folder - look for entries that contain skin files
-        Set<String> potentialRootFolders = new HashSet<>();
-        boolean hasRootLevelSkinFiles = false;
-        
-        for (String entryName : entryNames) {
-            // Check if this entry contains skin-related files at root level
-            if (!entryName.contains("/") && isSkinRelatedFile(entryName)) {
-                hasRootLevelSkinFiles = true;
-                break;
-            }
-            
-            // Check for skin files in subdirectories
-            if (entryName.contains("/")) {
-                String[] parts = entryName.split("/");
-                if (parts.length >= 2 && isSkinRelatedFile(parts[parts.length - 1])) {
-                    potentialRootFolders.add(parts[0] + "/");
-                }
-            }
-        }
-        
-        // If there are skin files at root level, don't strip anything
-        if (hasRootLevelSkinFiles) {
-            return null;
-        }
-        
-        // If all skin files are in a single subdirectory, strip that directory
-        if (potentialRootFolders.size() == 1) {
-            String rootFolder = potentialRootFolders.iterator().next();
-            
-            // Verify that most entries are in this folder
-            long entriesInRoot = entryNames.stream()
-                .filter(name -> name.startsWith(rootFolder))
-                .count();
-                
-            // If more than 80% of entries are in this folder, strip it
-            if (entriesInRoot > entryNames.size() * 0.8) {
-                logger.debug("Detected nested folder structure, will strip root folder: {}", rootFolder);
-                return rootFolder;
-            }
-        }
-        
-        return null;
+    private boolean extractZipFile(Path zipFile, Path extractPath, LongConsumer progress) throws IOException {
+        zipExtractor.extract(zipFile, extractPath, progress);
+        logger.info("Successfully extracted skin: {} -> {}", zipFile.getFileName(), extractPath.getFileName());
+        return true;
     }
     
-    /**
-     * Checks if a filename is related to osu! skin files
-     */
-    private boolean isSkinRelatedFile(String filename) {
-        if (filename == null || filename.isEmpty()) {
-            return false;
-        }
-        
-        String lowerName = filename.toLowerCase();
-        
-        // Check for skin.ini
-        if (SKIN_INI_NAMES.stream().anyMatch(name -> name.toLowerCase().equals(lowerName))) {
-            return true;
-        }
-        
-        // Check for common skin elements
-        for (SkinElement.ElementType elementType : SkinElement.ElementType.values()) {
-            if (elementType.getFileName().toLowerCase().equals(lowerName)) {
-                return true;
-            }
-        }
-        
-        // Check for common skin file patterns
-        return lowerName.startsWith("hitcircle") ||
-               lowerName.startsWith("cursor") ||
-               lowerName.startsWith("slider") ||
-               lowerName.startsWith("spinner") ||
-               lowerName.startsWith("menu-") ||
-               lowerName.startsWith("score-") ||
-               lowerName.startsWith("ranking-") ||
-               lowerName.contains("hitnormal") ||
-               lowerName.contains("hitclap") ||
-               lowerName.contains("hitfinish") ||
-               lowerName.contains("hitwhistle");
+    private boolean extractTarFile(Path tarFile, Path extractPath, LongConsumer progress) throws IOException {
+        tarExtractor.extract(tarFile, extractPath, progress);
+        logger.info("Successfully extracted skin: {} -> {}", tarFile.getFileName(), extractPath.getFileName());
+        return true;
     }
     
     private static class DirectoryStats {
@@ -0,0 +1,114 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.Skin;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Scan task that publishes skins to the UI in small batches as soon as they are
+ * scanned, and reports progress (directories done out of total), throughput and ETA.
+ */
+public class StreamingScanTask extends Task<List<Skin>> implements SkinScannerService.ScanListener {
+
+    private static final int BATCH_SIZE = 25;
+    private static final long BATCH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final SkinScannerService scannerService;
+    private final Consumer<List<Skin>> batchConsumer;
+
+    private final Object lock = new Object();
+    private List<Skin> pendingBatch = new ArrayList<>();
+    private long lastFlushNanos;
+    private long startNanos;
+    private int totalDirectories;
+    private int scannedDirectories;
+
+    public StreamingScanTask(SkinScannerService scannerService, Consumer<List<Skin>> batchConsumer) {
+        this.scannerService = scannerService;
+        this.batchConsumer = batchConsumer;
+    }
+
+    @Override
+    protected List<Skin> call() throws Exception {
+        updateMessage("Scanning skins...");
+        List<Skin> skins = scannerService.scanSkins(this);
+        flush();
+        return skins;
+    }
+
+    @Override
+    public void onScanStarted(int totalDirectories) {
+        synchronized (lock) {
+            this.totalDirectories = totalDirectories;
+            this.scannedDirectories = 0;
+            this.startNanos = System.nanoTime();
+            this.lastFlushNanos = startNanos;
+        }
+        updateProgress(0, totalDirectories);
+    }
+
+    @Override
+    public void onDirectoryScanned(Skin skin) {
+        List<Skin> batch = null;
+        int done;
+        int total;
+        long elapsedNanos;
+
+        synchronized (lock) {
+            done = ++scannedDirectories;
+            total = totalDirectories;
+            long now = System.nanoTime();
+            elapsedNanos = now - startNanos;
+
+            if (skin != null) {
+                pendingBatch.add(skin);
+            }
+            if (!pendingBatch.isEmpty() && (pendingBatch.size() >= BATCH_SIZE
+                    || now - lastFlushNanos >= BATCH_INTERVAL_NANOS)) {
+                batch = pendingBatch;
+                pendingBatch = new ArrayList<>();
+                lastFlushNanos = now;
+            }
+        }
+
+        if (batch != null) {
+            publish(batch);
+        }
+
+        updateProgress(done, total);
+        updateMessage(formatProgress(done, total, elapsedNanos));
+    }
+
+    private void flush() {
+        List<Skin> batch;
+        synchronized (lock) {
+            batch = pendingBatch;
+            pendingBatch = new ArrayList<>();
+        }
+        if (!batch.isEmpty()) {
+            publish(batch);
+        }
+    }
+
+    private void publish(List<Skin> batch) {
+        if (batchConsumer != null) {
+            Platform.runLater(() -> batchConsumer.accept(batch));
+        }
+    }
+
+    static String formatProgress(int done, int total, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        if (elapsedSeconds <= 0) {
+            return String.format("Scanning skins... %d/%d", done, total);
+        }
+
+        double skinsPerSecond = done / elapsedSeconds;
+        long etaSeconds = skinsPerSecond > 0 ? Math.round((total - done) / skinsPerSecond) : 0;
+        return String.format("Scanning skins... %d/%d (%.0f/s, ETA %ds)", done, total, skinsPerSecond, etaSeconds);
+    }
+}
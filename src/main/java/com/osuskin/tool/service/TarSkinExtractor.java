@@ -0,0 +1,425 @@
+package com.osuskin.tool.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Extracts .tar and .tar.gz skins in a single streaming pass through one fixed-size
+ * buffer; entry data goes straight from the (inflated) stream to its target file.
+ * Understands ustar, GNU long names and PAX path/size records. Links and special
+ * files are skipped. A tar has no central directory, so the wrapping root folder is
+ * detected after the pass, from the names seen, and stripped by moving its contents up.
+ */
+public class TarSkinExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TarSkinExtractor.class);
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_METADATA_SIZE = 1024 * 1024;  // Long names and PAX headers
+
+    private static final byte TYPE_FILE = '0';
+    private static final byte TYPE_FILE_OLD = 0;
+    private static final byte TYPE_CONTIGUOUS = '7';
+    private static final byte TYPE_DIRECTORY = '5';
+    private static final byte TYPE_GNU_LONG_NAME = 'L';
+    private static final byte TYPE_PAX_HEADER = 'x';
+
+    /**
+     * Extract a tar or gzip-compressed tar into the target directory, stripping a
+     * single wrapping root folder. Compression is detected from the file content.
+     * Returns the number of files written.
+     */
+    public int extract(Path tarFile, Path extractPath) throws IOException {
+        return extract(tarFile, extractPath, null);
+    }
+
+    /**
+     * Extract as above, reporting the bytes read from the archive file to the
+     * progress consumer.
+     */
+    public int extract(Path tarFile, Path extractPath, LongConsumer progress) throws IOException {
+        Path root = extractPath.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        List<String> entryNames = new ArrayList<>();
+        int extracted = 0;
+
+        try (InputStream in = openArchive(tarFile, progress)) {
+            String longName = null;
+            long paxSize = -1;
+
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Extraction interrupted");
+                }
+                if (!readBlock(in, buffer)) {
+                    break;  // Archive ended without the trailing zero blocks
+                }
+                if (isZeroBlock(buffer)) {
+                    break;
+                }
+                verifyChecksum(buffer);
+
+                byte type = buffer[156];
+                long size = paxSize >= 0 ? paxSize : parseNumber(buffer, 124, 12);
+                String name = longName != null ? longName : readName(buffer);
+                longName = null;
+                paxSize = -1;
+
+                if (type == TYPE_GNU_LONG_NAME || type == TYPE_PAX_HEADER) {
+                    byte[] metadata = readMetadata(in, size, buffer);
+                    if (type == TYPE_GNU_LONG_NAME) {
+                        longName = trimNul(metadata);
+                    } else {
+                        longName = readPaxRecord(metadata, "path");
+                        String sizeRecord = readPaxRecord(metadata, "size");
+                        paxSize = sizeRecord != null ? parsePaxSize(sizeRecord) : -1;
+                    }
+                    continue;
+                }
+
+                name = normalizeName(name);
+                boolean isFile = type == TYPE_FILE || type == TYPE_FILE_OLD || type == TYPE_CONTIGUOUS;
+                boolean isDirectory = type == TYPE_DIRECTORY || (isFile && name.endsWith("/"));
+                Path target = name.isEmpty() ? null : root.resolve(name).normalize();
+
+                if (target == null || (!isFile && !isDirectory)) {
+                    skip(in, padded(size), buffer);
+                    continue;
+                }
+                if (!target.startsWith(root) || target.equals(root)) {
+                    logger.warn("Skipping entry outside the extraction directory: {}", name);
+                    skip(in, padded(size), buffer);
+                    continue;
+                }
+
+                if (isDirectory) {
+                    Files.createDirectories(target);
+                    entryNames.add(name.endsWith("/") ? name : name + "/");
+                    skip(in, padded(size), buffer);
+                    continue;
+                }
+
+                entryNames.add(name);
+                Files.createDirectories(target.getParent());
+                if (writeFile(in, target, size, buffer)) {
+                    extracted++;
+                }
+                skip(in, padded(size) - size, buffer);
+            }
+        }
+
+        String rootFolderToStrip = SkinArchive.detectRootFolder(entryNames);
+        if (rootFolderToStrip != null) {
+            stripRootFolder(root, rootFolderToStrip);
+        }
+
+        logger.debug("Extracted {} files from {}", extracted, tarFile.getFileName());
+        return extracted;
+    }
+
+    private static InputStream openArchive(Path tarFile, LongConsumer progress) throws IOException {
+        InputStream in = new BufferedInputStream(new ProgressInputStream(Files.newInputStream(tarFile), progress),
+                                                 BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int first = in.read();
+            int second = in.read();
+            in.reset();
+            if (first == 0x1f && second == 0x8b) {
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copy an entry's data to its file. A file that cannot be created is logged and its
+     * data skipped, like a failed ZIP entry; a broken archive stream fails the extraction.
+     */
+    private static boolean writeFile(InputStream in, Path target, long size, byte[] buffer) throws IOException {
+        OutputStream out;
+        try {
+            out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            logger.error("Failed to extract entry: {}", target, e);
+            skip(in, size, buffer);
+            return false;
+        }
+
+        try (out) {
+            long remaining = size;
+            while (remaining > 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Extraction interrupted");
+                }
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of archive in entry: " + target.getFileName());
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move the root folder's contents into the extraction directory. The folder is
+     * renamed first, so a child with the folder's own name does not collide with it.
+     */
+    private static void stripRootFolder(Path root, String rootFolder) throws IOException {
+        Path folder = root.resolve(rootFolder);
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+
+        Path staging = root.resolve(".strip-" + System.nanoTime());
+        Files.move(folder, staging);
+        try (Stream<Path> children = Files.list(staging)) {
+            for (Path child : (Iterable<Path>) children::iterator) {
+                Path target = root.resolve(child.getFileName().toString());
+                if (Files.exists(target)) {
+                    logger.warn("Skipping {}, it conflicts with a file outside the root folder", child.getFileName());
+                    continue;
+                }
+                Files.move(child, target);
+            }
+        }
+
+        try (Stream<Path> leftovers = Files.walk(staging)) {
+            for (Path path : (Iterable<Path>) leftovers.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static boolean readBlock(InputStream in, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < BLOCK_SIZE) {
+            int read = in.read(buffer, offset, BLOCK_SIZE - offset);
+            if (read < 0) {
+                if (offset == 0) {
+                    return false;
+                }
+                throw new EOFException("Truncated tar header");
+            }
+            offset += read;
+        }
+        return true;
+    }
+
+    private static byte[] readMetadata(InputStream in, long size, byte[] buffer) throws IOException {
+        if (size < 0 || size > MAX_METADATA_SIZE) {
+            throw new IOException("Tar metadata entry too large: " + size);
+        }
+        byte[] metadata = in.readNBytes((int) size);
+        if (metadata.length < size) {
+            throw new EOFException("Truncated tar metadata entry");
+        }
+        skip(in, padded(size) - size, buffer);
+        return metadata;
+    }
+
+    private static void skip(InputStream in, long count, byte[] buffer) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new EOFException("Unexpected end of archive");
+            }
+            remaining -= read;
+        }
+    }
+
+    private static long padded(long size) {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+    }
+
+    private static boolean isZeroBlock(byte[] block) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (block[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void verifyChecksum(byte[] header) throws IOException {
+        long expected = parseNumber(header, 148, 8);
+        long sum = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            sum += (i >= 148 && i < 156) ? ' ' : (header[i] & 0xFF);
+        }
+        if (sum != expected) {
+            throw new IOException("Invalid tar header checksum");
+        }
+    }
+
+    /**
+     * Name from a header, joined with the ustar prefix field when present.
+     */
+    private static String readName(byte[] header) {
+        String name = readString(header, 0, 100);
+        boolean posixUstar = header[257] == 'u' && header[258] == 's' && header[259] == 't'
+                && header[260] == 'a' && header[261] == 'r' && header[262] == 0;
+        if (posixUstar) {
+            String prefix = readString(header, 345, 155);
+            if (!prefix.isEmpty()) {
+                return prefix + "/" + name;
+            }
+        }
+        return name;
+    }
+
+    private static String normalizeName(String name) {
+        String normalized = name.replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized;
+    }
+
+    /**
+     * Octal number field, or a base-256 number when the high bit of the first byte is set.
+     */
+    static long parseNumber(byte[] header, int offset, int length) {
+        if ((header[offset] & 0x80) != 0) {
+            long value = header[offset] & 0x7F;
+            for (int i = 1; i < length; i++) {
+                value = (value << 8) | (header[offset + i] & 0xFF);
+            }
+            return value;
+        }
+
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            byte b = header[i];
+            if (b == 0) {
+                break;
+            }
+            if (b >= '0' && b <= '7') {
+                value = (value << 3) + (b - '0');
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Size from a PAX record, which must be a non-negative decimal number.
+     */
+    static long parsePaxSize(String record) throws IOException {
+        long size;
+        try {
+            size = Long.parseLong(record.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid PAX size: " + record, e);
+        }
+        if (size < 0) {
+            throw new IOException("Invalid PAX size: " + record);
+        }
+        return size;
+    }
+
+    private static String readString(byte[] header, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && header[end] != 0) {
+            end++;
+        }
+        return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static String trimNul(byte[] bytes) {
+        return readString(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Value of a PAX extended header record ("length key=value\n"), or null if absent.
+     */
+    static String readPaxRecord(byte[] records, String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int position = 0;
+        while (position < records.length) {
+            int space = position;
+            int length = 0;
+            while (space < records.length && records[space] >= '0' && records[space] <= '9') {
+                length = length * 10 + (records[space] - '0');
+                space++;
+            }
+            if (space >= records.length || records[space] != ' ' || length <= 0
+                    || position + length > records.length) {
+                return null;
+            }
+
+            int keyStart = space + 1;
+            int recordEnd = position + length - 1;  // The trailing newline
+            int equals = keyStart;
+            while (equals < recordEnd && records[equals] != '=') {
+                equals++;
+            }
+            if (equals - keyStart == keyBytes.length
+                    && Arrays.equals(records, keyStart, equals, keyBytes, 0, keyBytes.length)) {
+                return new String(records, equals + 1, recordEnd - equals - 1, StandardCharsets.UTF_8);
+            }
+            position += length;
+        }
+        return null;
+    }
+
+    /**
+     * Reports the bytes read from the archive file.
+     */
+    private static class ProgressInputStream extends FilterInputStream {
+        private final LongConsumer progress;
+
+        ProgressInputStream(InputStream in, LongConsumer progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0 && progress != null) {
+                progress.accept(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0 && progress != null) {
+                progress.accept(read);
+            }
+            return read;
+        }
+    }
+}
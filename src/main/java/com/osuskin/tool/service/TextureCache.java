@@ -0,0 +1,166 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of decoded skin textures, bounded by the decoded pixel bytes
+ * it holds. Least recently used entries are evicted once the budget is exceeded.
+ * Entries pinned by an open {@link SkinElementLoader} are never evicted, so the
+ * active renderer keeps its textures; the budget may be exceeded by pinned entries alone.
+ */
+public class TextureCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextureCache.class);
+
+    public static final long DEFAULT_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    private static final TextureCache INSTANCE = new TextureCache(DEFAULT_BUDGET_BYTES);
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);  // Access order
+    private long budgetBytes;
+    private long usedBytes;
+    private long pinnedBytes;
+
+    TextureCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    public static TextureCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Look up a texture and pin it. Returns null on a miss.
+     */
+    public synchronized Image acquire(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        pin(entry);
+        return entry.image;
+    }
+
+    /**
+     * Add a texture pinned once, evicting unpinned entries to stay within the budget.
+     * If the key is already cached the existing texture is pinned and returned instead.
+     */
+    public synchronized Image putAndAcquire(String key, Image image) {
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            pin(existing);
+            return existing.image;
+        }
+
+        Entry entry = new Entry(image, estimateBytes(image));
+        entries.put(key, entry);
+        usedBytes += entry.bytes;
+        pin(entry);
+        evictOverBudget();
+        return image;
+    }
+
+    /**
+     * Drop one pin of a texture. Unpinned textures stay cached until evicted.
+     */
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.pins == 0) {
+            return;
+        }
+        if (--entry.pins == 0) {
+            pinnedBytes -= entry.bytes;
+            evictOverBudget();
+        }
+    }
+
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = Math.max(0, budgetBytes);
+        evictOverBudget();
+        logger.info("Texture cache budget set to {} MB", this.budgetBytes / (1024 * 1024));
+    }
+
+    public synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized long getPinnedBytes() {
+        return pinnedBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Drop all unpinned textures.
+     */
+    public synchronized void trim() {
+        entries.values().removeIf(entry -> {
+            if (entry.pins > 0) {
+                return false;
+            }
+            usedBytes -= entry.bytes;
+            return true;
+        });
+    }
+
+    /**
+     * Decoded size of an image: JavaFX keeps 4 bytes per pixel.
+     */
+    static long estimateBytes(Image image) {
+        return (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4;
+    }
+
+    private void pin(Entry entry) {
+        if (entry.pins++ == 0) {
+            pinnedBytes += entry.bytes;
+        }
+    }
+
+    private void evictOverBudget() {
+        if (usedBytes <= budgetBytes) {
+            return;
+        }
+
+        int evicted = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes > budgetBytes && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.pins == 0) {
+                iterator.remove();
+                usedBytes -= entry.bytes;
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            logger.debug("Evicted {} textures, {} of {} bytes used ({} pinned)",
+                        evicted, usedBytes, budgetBytes, pinnedBytes);
+        }
+    }
+
+    private static class Entry {
+        final Image image;
+        final long bytes;
+        int pins;
+
+        Entry(Image image, long bytes) {
+            this.image = image;
+            this.bytes = bytes;
+        }
+    }
+}
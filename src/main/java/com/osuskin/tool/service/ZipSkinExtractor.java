@@ -0,0 +1,476 @@
+package com.osuskin.tool.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Extracts .osk/.zip skins on several worker threads. The central directory is
+ * read once to plan the extraction and create all directories up front; the files
+ * are then split into shares of similar compressed size, and each worker inflates
+ * its share through its own ZipFile handle. STORED entries, which osu! skins use
+ * for already-compressed PNGs and OGGs, skip the stream entirely: their bytes are
+ * transferred from the archive to the target file by the kernel and only read back
+ * through a direct buffer to check the CRC.
+ */
+public class ZipSkinExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZipSkinExtractor.class);
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int CRC_BUFFER_SIZE = 64 * 1024;
+    private static final long TRANSFER_CHUNK = 1024 * 1024;  // CRC is checked per chunk while it is still cached
+
+    private final int threadCount;
+
+    public ZipSkinExtractor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ZipSkinExtractor(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Extract a ZIP file into the target directory, stripping a single wrapping
+     * root folder. Entries that fail are logged and skipped.
+     * Returns the number of files written.
+     */
+    public int extract(Path zipFile, Path extractPath) throws IOException {
+        return extract(zipFile, extractPath, null);
+    }
+
+    /**
+     * Extract as above, reporting the compressed size of every processed entry to
+     * the progress consumer. The consumer may be called from several worker threads.
+     */
+    public int extract(Path zipFile, Path extractPath, LongConsumer progress) throws IOException {
+        List<PlannedFile> files = new ArrayList<>();
+        TreeSet<Path> directories = new TreeSet<>();
+        Path root = extractPath.toAbsolutePath().normalize();
+
+        Map<String, Long> storedOffsets = readStoredEntryOffsets(zipFile);
+        try (ZipFile zip = new ZipFile(zipFile.toFile())) {
+            String rootFolderToStrip = SkinArchive.detectRootFolder(zip);
+
+            zip.stream().forEach(entry -> {
+                String entryName = entry.getName();
+                if (rootFolderToStrip != null && entryName.startsWith(rootFolderToStrip)) {
+                    entryName = entryName.substring(rootFolderToStrip.length());
+                }
+                if (entryName.isEmpty()) {
+                    return;  // The root folder entry itself
+                }
+
+                Path target = root.resolve(entryName).normalize();
+                if (!target.startsWith(root)) {
+                    logger.warn("Skipping entry outside the extraction directory: {}", entry.getName());
+                    return;
+                }
+
+                if (entry.isDirectory()) {
+                    directories.add(target);
+                } else {
+                    directories.add(target.getParent());
+                    PlannedFile file = new PlannedFile(entry.getName(), target, entry.getCompressedSize());
+                    Long localHeaderOffset = storedOffsets.get(entry.getName());
+                    if (entry.getMethod() == ZipEntry.STORED && localHeaderOffset != null && entry.getSize() >= 0) {
+                        file.localHeaderOffset = localHeaderOffset;
+                        file.size = entry.getSize();
+                        file.crc = entry.getCrc();
+                    }
+                    files.add(file);
+                }
+            });
+        }
+
+        // Sorted, so parents come first and each createDirectories call is cheap
+        for (Path directory : directories) {
+            Files.createDirectories(directory);
+        }
+
+        int workers = Math.min(threadCount, files.size());
+        int extracted;
+        if (workers <= 1) {
+            extracted = extractShare(zipFile, files, progress);
+        } else {
+            extracted = extractInParallel(zipFile, partition(files, workers), progress);
+        }
+
+        logger.debug("Extracted {} of {} files from {} with {} worker(s)",
+                    extracted, files.size(), zipFile.getFileName(), Math.max(1, workers));
+        return extracted;
+    }
+
+    private int extractInParallel(Path zipFile, List<List<PlannedFile>> shares, LongConsumer progress)
+            throws IOException {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(shares.size(), runnable -> {
+            Thread thread = new Thread(runnable, "skin-extract-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(shares.size());
+            for (List<PlannedFile> share : shares) {
+                futures.add(executor.submit(() -> extractShare(zipFile, share, progress)));
+            }
+
+            int extracted = 0;
+            for (Future<Integer> future : futures) {
+                extracted += future.get();
+            }
+            return extracted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Extraction interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException("Extraction worker failed", cause);
+        } finally {
+            shutdownAndAwait(executor);
+        }
+    }
+
+    /**
+     * Interrupt the workers and wait until they have all stopped, so nothing is
+     * still writing when the caller cleans up after a failure or a cancel. Waits
+     * through interrupts, restoring the thread's interrupt status afterwards.
+     */
+    private static void shutdownAndAwait(ExecutorService executor) {
+        executor.shutdownNow();
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (!executor.isTerminated()) {
+                try {
+                    executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Extract one share of the files through a dedicated ZipFile handle, and a
+     * channel on the same archive for STORED entries.
+     */
+    private int extractShare(Path zipFile, List<PlannedFile> share, LongConsumer progress) throws IOException {
+        int extracted = 0;
+        ByteBuffer crcBuffer = null;
+        try (ZipFile zip = new ZipFile(zipFile.toFile());
+             FileChannel source = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+            for (PlannedFile file : share) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Extraction interrupted");
+                }
+
+                try {
+                    if (file.isStored()) {
+                        if (crcBuffer == null) {
+                            crcBuffer = ByteBuffer.allocateDirect(CRC_BUFFER_SIZE);
+                        }
+                        transferStored(source, file, crcBuffer);
+                    } else {
+                        ZipEntry entry = zip.getEntry(file.entryName);
+                        try (InputStream in = zip.getInputStream(entry)) {
+                            Files.copy(in, file.target);
+                        }
+                    }
+                    extracted++;
+                } catch (InterruptedIOException e) {
+                    throw e;
+                } catch (ClosedByInterruptException e) {
+                    throw new InterruptedIOException("Extraction interrupted");
+                } catch (IOException e) {
+                    logger.error("Failed to extract entry: {}", file.entryName, e);
+                }
+                if (progress != null) {
+                    progress.accept(Math.max(0, file.compressedSize));
+                }
+            }
+        }
+        return extracted;
+    }
+
+    /**
+     * Copy a STORED entry's data straight from the archive channel to the target,
+     * checking the CRC chunk by chunk. A file that fails the check is deleted.
+     */
+    private void transferStored(FileChannel source, PlannedFile file, ByteBuffer crcBuffer) throws IOException {
+        long dataOffset = readDataOffset(source, file.localHeaderOffset, crcBuffer);
+        if (dataOffset + file.size > source.size()) {
+            throw new ZipException("Entry data runs past the end of the archive: " + file.entryName);
+        }
+
+        CRC32 crc = new CRC32();
+        try (FileChannel target = FileChannel.open(file.target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            while (position < file.size) {
+                long chunk = Math.min(TRANSFER_CHUNK, file.size - position);
+                long transferred = 0;
+                while (transferred < chunk) {
+                    long count = source.transferTo(dataOffset + position + transferred, chunk - transferred, target);
+                    if (count <= 0) {
+                        throw new EOFException("Unexpected end of entry data: " + file.entryName);
+                    }
+                    transferred += count;
+                }
+                updateCrc(source, dataOffset + position, chunk, crc, crcBuffer);
+                position += chunk;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file.target);
+            throw e;
+        }
+
+        if (crc.getValue() != file.crc) {
+            Files.deleteIfExists(file.target);
+            throw new ZipException("CRC mismatch for entry: " + file.entryName);
+        }
+    }
+
+    private static void updateCrc(FileChannel source, long position, long length, CRC32 crc, ByteBuffer buffer)
+            throws IOException {
+        long end = position + length;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = source.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of archive");
+            }
+            buffer.flip();
+            crc.update(buffer);
+            position += read;
+        }
+    }
+
+    /**
+     * Offset of an entry's data, read from its local header. The name and extra
+     * lengths there can differ from the central directory, so they must be read.
+     */
+    private static long readDataOffset(FileChannel source, long localHeaderOffset, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        buffer.limit(LOCAL_HEADER_SIZE);
+        readFully(source, buffer, localHeaderOffset);
+        buffer.flip();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header at offset " + localHeaderOffset);
+        }
+        int nameLength = Short.toUnsignedInt(buffer.getShort(26));
+        int extraLength = Short.toUnsignedInt(buffer.getShort(28));
+        return localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    }
+
+    /**
+     * Local header offsets of the unencrypted STORED entries, by entry name, read
+     * from the central directory. ZipEntry does not expose these offsets. Returns an
+     * empty map if the directory cannot be parsed, so every entry is inflated as usual.
+     */
+    static Map<String, Long> readStoredEntryOffsets(Path zipFile) {
+        Map<String, Long> offsets = new HashMap<>();
+        try (FileChannel channel = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+            ByteBuffer directory = readCentralDirectory(channel);
+            while (directory.remaining() >= CENTRAL_HEADER_SIZE) {
+                int start = directory.position();
+                if (directory.getInt(start) != CENTRAL_HEADER_SIGNATURE) {
+                    break;
+                }
+                int flags = Short.toUnsignedInt(directory.getShort(start + 8));
+                int method = Short.toUnsignedInt(directory.getShort(start + 10));
+                long compressedSize = Integer.toUnsignedLong(directory.getInt(start + 20));
+                long size = Integer.toUnsignedLong(directory.getInt(start + 24));
+                int nameLength = Short.toUnsignedInt(directory.getShort(start + 28));
+                int extraLength = Short.toUnsignedInt(directory.getShort(start + 30));
+                int commentLength = Short.toUnsignedInt(directory.getShort(start + 32));
+                long localHeaderOffset = Integer.toUnsignedLong(directory.getInt(start + 42));
+                int next = start + CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+                if (next > directory.limit()) {
+                    break;
+                }
+
+                if (method == ZipEntry.STORED && (flags & 1) == 0) {
+                    if (localHeaderOffset == ZIP64_MAGIC) {
+                        localHeaderOffset = readZip64Offset(directory, start + CENTRAL_HEADER_SIZE + nameLength,
+                                                            extraLength, size == ZIP64_MAGIC, compressedSize == ZIP64_MAGIC);
+                    }
+                    if (localHeaderOffset >= 0) {
+                        byte[] name = new byte[nameLength];
+                        directory.get(start + CENTRAL_HEADER_SIZE, name);
+                        // ZipFile decodes every name as UTF-8 too, so the keys match its entries
+                        offsets.put(new String(name, StandardCharsets.UTF_8), localHeaderOffset);
+                    }
+                }
+                directory.position(next);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not read central directory of {}, inflating all entries", zipFile.getFileName(), e);
+            offsets.clear();
+        }
+        return offsets;
+    }
+
+    private static ByteBuffer readCentralDirectory(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        int tailSize = (int) Math.min(fileSize, END_SIZE + 0xFFFF);  // Record plus the longest comment
+        ByteBuffer tail = ByteBuffer.allocate(tailSize).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, tail, fileSize - tailSize);
+
+        int end = -1;
+        for (int i = tailSize - END_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIGNATURE) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            throw new ZipException("End of central directory not found");
+        }
+
+        long directorySize = Integer.toUnsignedLong(tail.getInt(end + 12));
+        long directoryOffset = Integer.toUnsignedLong(tail.getInt(end + 16));
+        if (directoryOffset == ZIP64_MAGIC || directorySize == ZIP64_MAGIC) {
+            int locator = end - ZIP64_LOCATOR_SIZE;
+            if (locator < 0 || tail.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+                throw new ZipException("ZIP64 locator not found");
+            }
+            ByteBuffer zip64End = ByteBuffer.allocate(56).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, zip64End, tail.getLong(locator + 8));
+            if (zip64End.getInt(0) != ZIP64_END_SIGNATURE) {
+                throw new ZipException("Invalid ZIP64 end of central directory");
+            }
+            directorySize = zip64End.getLong(40);
+            directoryOffset = zip64End.getLong(48);
+        }
+        if (directorySize > Integer.MAX_VALUE || directoryOffset + directorySize > fileSize) {
+            throw new ZipException("Invalid central directory bounds");
+        }
+
+        ByteBuffer directory = ByteBuffer.allocate((int) directorySize).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, directory, directoryOffset);
+        directory.flip();
+        return directory;
+    }
+
+    /**
+     * Local header offset from a ZIP64 extra field, whose values appear only for the
+     * header fields that overflowed, in a fixed order. Returns -1 if it is missing.
+     */
+    private static long readZip64Offset(ByteBuffer directory, int extraStart, int extraLength,
+                                        boolean hasSize, boolean hasCompressedSize) {
+        int position = extraStart;
+        int extraEnd = extraStart + extraLength;
+        while (position + 4 <= extraEnd) {
+            int id = Short.toUnsignedInt(directory.getShort(position));
+            int length = Short.toUnsignedInt(directory.getShort(position + 2));
+            if (id == ZIP64_EXTRA_ID) {
+                int field = position + 4 + (hasSize ? 8 : 0) + (hasCompressedSize ? 8 : 0);
+                return field + 8 <= position + 4 + length ? directory.getLong(field) : -1;
+            }
+            position += 4 + length;
+        }
+        return -1;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of archive");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Split the files into shares of similar compressed size, largest files first.
+     */
+    static List<List<PlannedFile>> partition(List<PlannedFile> files, int shareCount) {
+        List<PlannedFile> bySize = new ArrayList<>(files);
+        bySize.sort(Comparator.comparingLong((PlannedFile file) -> file.compressedSize).reversed());
+
+        List<List<PlannedFile>> shares = new ArrayList<>(shareCount);
+        long[] loads = new long[shareCount];
+        for (int i = 0; i < shareCount; i++) {
+            shares.add(new ArrayList<>());
+        }
+
+        for (PlannedFile file : bySize) {
+            int lightest = 0;
+            for (int i = 1; i < shareCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            shares.get(lightest).add(file);
+            loads[lightest] += Math.max(1, file.compressedSize);
+        }
+        return shares;
+    }
+
+    static class PlannedFile {
+        final String entryName;
+        final Path target;
+        final long compressedSize;
+        long localHeaderOffset = -1;  // Set for STORED entries only
+        long size;
+        long crc;
+
+        PlannedFile(String entryName, Path target, long compressedSize) {
+            this.entryName = entryName;
+            this.target = target;
+            this.compressedSize = compressedSize;
+        }
+
+        boolean isStored() {
+            return localHeaderOffset >= 0;
+        }
+    }
+}
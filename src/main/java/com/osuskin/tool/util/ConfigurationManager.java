@@ -212,6 +212,10 @@ public class ConfigurationManager {
         summary.append("- Skin container: ").append(configuration.getSkinContainerPath()).append("\n");
         summary.append("- Cache directory: ").append(configuration.getCacheDirectory()).append("\n");
         summary.append("- Auto scan on startup: ").append(configuration.isAutoScanOnStartup()).append("\n");
+        summary.append("- Scan threads: ").append(configuration.getScanThreadCount()).append("\n");
+        summary.append("- Concurrent extractions: ").append(configuration.getExtractionConcurrency()).append("\n");
+        summary.append("- Index archives: ").append(configuration.isIndexArchives()).append("\n");
+        summary.append("- Texture cache: ").append(configuration.getTextureCacheSizeMb()).append(" MB\n");
         summary.append("- Audio preview enabled: ").append(configuration.isEnableAudioPreview()).append("\n");
         return summary.toString();
     }
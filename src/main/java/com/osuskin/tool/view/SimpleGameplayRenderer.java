@@ -21,6 +21,15 @@ public class SimpleGameplayRenderer {
     
     private static final Logger logger = LoggerFactory.getLogger(SimpleGameplayRenderer.class);
     
+    /**
+     * Images this renderer loads, so the preview can decode them in parallel
+     * before {@link #initialize()} runs.
+     */
+    public static final List<String> PRELOAD_IMAGES = List.of(
+        "hitcircle", "hitcircleoverlay", "approachcircle", "cursor", "cursortrail",
+        "default-0", "default-1", "default-2", "default-3", "default-4",
+        "default-5", "default-6", "default-7", "default-8", "default-9");
+    
     private final Canvas canvas;
     private final SkinElementLoader elementLoader;
     private final GraphicsContext gc;
@@ -145,6 +154,18 @@ public class SimpleGameplayRenderer {
         }
     }
     
+    /**
+     * Draw a placeholder frame while the skin's textures are still decoding.
+     */
+    public void renderLoading() {
+        gc.setFill(Color.rgb(30, 30, 40));
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFill(Color.rgb(150, 150, 160));
+        gc.setFont(Font.font(16));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText("Loading skin...", canvas.getWidth() / 2, canvas.getHeight() / 2);
+    }
+    
     public void render() {
         // Clear canvas with dark background
         gc.setFill(Color.rgb(30, 30, 40));
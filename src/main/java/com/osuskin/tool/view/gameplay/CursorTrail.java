@@ -0,0 +1,66 @@
+package com.osuskin.tool.view.gameplay;
+
+/**
+ * Recent cursor positions, newest first, in a fixed ring of primitive arrays so
+ * recording a position every frame allocates nothing.
+ */
+class CursorTrail {
+    
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] times;
+    private int newest = -1;
+    private int size;
+    
+    CursorTrail(int capacity) {
+        xs = new double[capacity];
+        ys = new double[capacity];
+        times = new double[capacity];
+    }
+    
+    /**
+     * Record a position, dropping the oldest one when the trail is full.
+     */
+    void add(double x, double y, double time) {
+        newest = (newest + 1) % xs.length;
+        xs[newest] = x;
+        ys[newest] = y;
+        times[newest] = time;
+        size = Math.min(size + 1, xs.length);
+    }
+    
+    void clear() {
+        newest = -1;
+        size = 0;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Position {@code age} entries back from the newest, which is age 0.
+     */
+    double getX(int age) {
+        return xs[index(age)];
+    }
+    
+    double getY(int age) {
+        return ys[index(age)];
+    }
+    
+    double getTime(int age) {
+        return times[index(age)];
+    }
+    
+    private int index(int age) {
+        if (age < 0 || age >= size) {
+            throw new IndexOutOfBoundsException("Age " + age + " of " + size);
+        }
+        return (newest - age + xs.length) % xs.length;
+    }
+}
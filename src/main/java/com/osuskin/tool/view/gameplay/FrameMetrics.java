@@ -0,0 +1,324 @@
+package com.osuskin.tool.view.gameplay;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Recorder of what preview frames cost: update time, render time per phase,
+ * drawImage calls and bytes allocated on the FX thread, plus a histogram of frame
+ * times for percentiles. The most recent frames are kept in a ring of primitive
+ * arrays, labelled with the skin shown, and can be exported as CSV.
+ * <p>
+ * Recording a frame allocates nothing, so it does not disturb what it measures.
+ * Must be used on the FX thread, from the renderer's update and render.
+ */
+public class FrameMetrics {
+    
+    /**
+     * Render phases, in drawing order.
+     */
+    public enum Phase {
+        SLIDER_BODIES,
+        HIT_OBJECTS,
+        HIT_BURSTS,
+        CURSOR,
+        UI
+    }
+    
+    public static final int DEFAULT_CAPACITY = 3600;  // One minute at 60 fps
+    
+    static final double HISTOGRAM_BUCKET_MILLIS = 0.25;
+    static final int HISTOGRAM_BUCKETS = 400;  // Up to 100 ms; longer frames share the last bucket
+    
+    private static final int PHASES = Phase.values().length;
+    private static final Phase[] PHASE_VALUES = Phase.values();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    private final com.sun.management.ThreadMXBean threads;  // Null if allocations cannot be counted
+    
+    // Recorded frames, a ring with the newest at index newest
+    private final int capacity;
+    private final String[] labels;
+    private final double[] intervalMillis;
+    private final long[] updateNanos;
+    private final long[] renderNanos;
+    private final long[][] phaseNanos;
+    private final int[] drawImages;
+    private final long[] allocatedBytes;
+    private int newest = -1;
+    private int size;
+    private long frameCount;
+    
+    private final long[] histogram = new long[HISTOGRAM_BUCKETS];
+    private long histogramCount;
+    private long maxFrameNanos;
+    
+    // Frame being recorded
+    private String label = "";
+    private double currentInterval;
+    private long updateStart;
+    private long currentUpdate;
+    private long renderStart;
+    private long phaseStart;
+    private final long[] currentPhases = new long[PHASES];
+    private int currentDrawImages;
+    private long allocationStart;
+    
+    public FrameMetrics() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public FrameMetrics(int capacity) {
+        this.capacity = capacity;
+        labels = new String[capacity];
+        intervalMillis = new double[capacity];
+        updateNanos = new long[capacity];
+        renderNanos = new long[capacity];
+        phaseNanos = new long[capacity][PHASES];
+        drawImages = new int[capacity];
+        allocatedBytes = new long[capacity];
+        threads = allocationCounter();
+    }
+    
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Label the frames recorded from now on, typically with the skin's name.
+     */
+    public void setLabel(String label) {
+        this.label = label != null ? label : "";
+    }
+    
+    /**
+     * Start a frame with its update, given the time since the previous frame.
+     */
+    public void beginUpdate(double deltaSeconds) {
+        currentInterval = deltaSeconds * 1000;
+        currentDrawImages = 0;
+        allocationStart = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+        updateStart = System.nanoTime();
+    }
+    
+    public void endUpdate() {
+        currentUpdate = System.nanoTime() - updateStart;
+    }
+    
+    public void beginRender() {
+        renderStart = System.nanoTime();
+        phaseStart = renderStart;
+        for (int i = 0; i < PHASES; i++) {
+            currentPhases[i] = 0;
+        }
+    }
+    
+    /**
+     * Charge the time since the previous phase ended, or since the render began,
+     * to a phase.
+     */
+    public void endPhase(Phase phase) {
+        long now = System.nanoTime();
+        currentPhases[phase.ordinal()] += now - phaseStart;
+        phaseStart = now;
+    }
+    
+    /**
+     * Finish the frame and record it.
+     */
+    public void endRender() {
+        long render = System.nanoTime() - renderStart;
+        long allocated = threads != null ? threads.getCurrentThreadAllocatedBytes() - allocationStart : -1;
+        addFrame(label, currentInterval, currentUpdate, currentPhases, render, currentDrawImages, allocated);
+    }
+    
+    public void countDrawImage() {
+        currentDrawImages++;
+    }
+    
+    void addFrame(String label, double intervalMillis, long updateNanos, long[] phaseNanos, long renderNanos,
+                  int drawImages, long allocatedBytes) {
+        newest = (newest + 1) % capacity;
+        this.labels[newest] = label;
+        this.intervalMillis[newest] = intervalMillis;
+        this.updateNanos[newest] = updateNanos;
+        this.renderNanos[newest] = renderNanos;
+        System.arraycopy(phaseNanos, 0, this.phaseNanos[newest], 0, PHASES);
+        this.drawImages[newest] = drawImages;
+        this.allocatedBytes[newest] = allocatedBytes;
+        size = Math.min(size + 1, capacity);
+        frameCount++;
+        
+        long frameNanos = updateNanos + renderNanos;
+        int bucket = (int) (frameNanos / NANOS_PER_MILLI / HISTOGRAM_BUCKET_MILLIS);
+        histogram[Math.min(bucket, HISTOGRAM_BUCKETS - 1)]++;
+        histogramCount++;
+        maxFrameNanos = Math.max(maxFrameNanos, frameNanos);
+    }
+    
+    /**
+     * Forget all recorded frames.
+     */
+    public void reset() {
+        newest = -1;
+        size = 0;
+        frameCount = 0;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = 0;
+        }
+        histogramCount = 0;
+        maxFrameNanos = 0;
+    }
+    
+    /**
+     * Frames recorded since the last reset, including those no longer kept.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+    
+    public boolean isCountingAllocations() {
+        return threads != null;
+    }
+    
+    /**
+     * Frame time (update plus render) below which the given share of frames fall,
+     * in milliseconds, to the histogram's resolution. Covers every frame since the
+     * last reset.
+     */
+    public double getPercentileMillis(double percentile) {
+        if (histogramCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * histogramCount));
+        long seen = 0;
+        for (int i = 0; i < HISTOGRAM_BUCKETS - 1; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return (i + 1) * HISTOGRAM_BUCKET_MILLIS;
+            }
+        }
+        return maxFrameNanos / NANOS_PER_MILLI;
+    }
+    
+    /**
+     * Averages over the most recent frames, for the overlay.
+     */
+    public Summary summarize(int frames) {
+        int count = Math.min(frames, size);
+        Summary summary = new Summary();
+        if (count == 0) {
+            return summary;
+        }
+        double intervalTotal = 0;
+        long allocatedTotal = 0;
+        for (int age = 0; age < count; age++) {
+            int i = (newest - age + capacity) % capacity;
+            intervalTotal += intervalMillis[i];
+            summary.updateMillis += updateNanos[i] / NANOS_PER_MILLI;
+            summary.renderMillis += renderNanos[i] / NANOS_PER_MILLI;
+            for (int phase = 0; phase < PHASES; phase++) {
+                summary.phaseMillis[phase] += phaseNanos[i][phase] / NANOS_PER_MILLI;
+            }
+            summary.drawImages += drawImages[i];
+            allocatedTotal += Math.max(0, allocatedBytes[i]);
+        }
+        summary.updateMillis /= count;
+        summary.renderMillis /= count;
+        for (int phase = 0; phase < PHASES; phase++) {
+            summary.phaseMillis[phase] /= count;
+        }
+        summary.drawImages /= count;
+        summary.allocatedBytesPerSecond = threads != null && intervalTotal > 0
+            ? allocatedTotal / (intervalTotal / 1000) : -1;
+        summary.p50Millis = getPercentileMillis(0.50);
+        summary.p95Millis = getPercentileMillis(0.95);
+        summary.p99Millis = getPercentileMillis(0.99);
+        return summary;
+    }
+    
+    /**
+     * Average cost of recent frames, and frame time percentiles since the last reset.
+     */
+    public static class Summary {
+        public double updateMillis;
+        public double renderMillis;
+        public final double[] phaseMillis = new double[PHASES];
+        public double drawImages;
+        public double allocatedBytesPerSecond;  // -1 if allocations are not counted
+        public double p50Millis;
+        public double p95Millis;
+        public double p99Millis;
+        
+        public double getFrameMillis() {
+            return updateMillis + renderMillis;
+        }
+        
+        public double getPhaseMillis(Phase phase) {
+            return phaseMillis[phase.ordinal()];
+        }
+    }
+    
+    /**
+     * Write the kept frames, oldest first, as CSV with a header row. Times are in
+     * milliseconds; allocated bytes are -1 where allocations are not counted.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("frame,skin,interval_ms,frame_ms,update_ms,render_ms");
+        for (Phase phase : PHASE_VALUES) {
+            writer.write(',');
+            writer.write(phase.name().toLowerCase(Locale.ROOT));
+            writer.write("_ms");
+        }
+        writer.write(",draw_images,allocated_bytes\n");
+        
+        long firstFrame = frameCount - size;
+        for (int age = size - 1; age >= 0; age--) {
+            int i = (newest - age + capacity) % capacity;
+            StringBuilder row = new StringBuilder(160);
+            row.append(firstFrame + (size - 1 - age)).append(',');
+            row.append(csvField(labels[i])).append(',');
+            row.append(millis(intervalMillis[i])).append(',');
+            row.append(millis((updateNanos[i] + renderNanos[i]) / NANOS_PER_MILLI)).append(',');
+            row.append(millis(updateNanos[i] / NANOS_PER_MILLI)).append(',');
+            row.append(millis(renderNanos[i] / NANOS_PER_MILLI));
+            for (int phase = 0; phase < PHASES; phase++) {
+                row.append(',').append(millis(phaseNanos[i][phase] / NANOS_PER_MILLI));
+            }
+            row.append(',').append(drawImages[i]).append(',').append(allocatedBytes[i]).append('\n');
+            writer.write(row.toString());
+        }
+    }
+    
+    public void exportCsv(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeCsv(writer);
+        }
+    }
+    
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+    
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
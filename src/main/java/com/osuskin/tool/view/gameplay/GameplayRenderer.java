@@ -1,5 +1,6 @@
 package com.osuskin.tool.view.gameplay;
 
+import com.osuskin.tool.model.SkinIni;
 import com.osuskin.tool.service.SkinElementLoader;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -19,6 +20,33 @@ public class GameplayRenderer {
     
     private static final Logger logger = LoggerFactory.getLogger(GameplayRenderer.class);
     
+    /**
+     * Images and animations this renderer and its UI load, so the preview can
+     * decode them in parallel before {@link #initialize()} runs.
+     */
+    public static final List<String> PRELOAD_IMAGES;
+    public static final List<String> PRELOAD_ANIMATIONS = List.of("hit300", "hit100", "hit50", "hit0");
+    
+    static {
+        List<String> images = new ArrayList<>(List.of(
+            "hitcircle", "hitcircleoverlay", "approachcircle", "cursor", "cursortrail", "lighting",
+            "sliderb", "sliderball", "sliderfollowcircle", "reversearrow"));
+        for (int i = 0; i < 10; i++) {
+            images.add("default-" + i);
+        }
+        images.addAll(GameplayUI.PRELOAD_IMAGES);
+        PRELOAD_IMAGES = List.copyOf(images);
+    }
+    
+    // Elements drawn relative to the hit circle; they are decoded at its render scale
+    // so their pixel sizes keep the same proportions to each other
+    private static final List<String> HIT_CIRCLE_SCALED_IMAGES = List.of(
+        "hitcircle", "hitcircleoverlay", "lighting", "sliderb", "sliderball", "sliderfollowcircle", "reversearrow");
+    
+    // osu!'s SD hit circle is 128 pixels wide; render scales are relative to SD sizes
+    private static final double SD_HIT_CIRCLE_SIZE = 128;
+    private static final double MAX_APPROACH_SCALE = 2.0;  // Approach circles shrink from twice the size
+    
     private final Canvas canvas;
     private final SkinElementLoader elementLoader;
     private final GraphicsContext gc;
@@ -44,17 +72,31 @@ public class GameplayRenderer {
     // Game objects
     private List<HitObject> hitObjects = new ArrayList<>();
     private List<HitBurst> activeHitBursts = new ArrayList<>();
+    private final ArrayDeque<HitBurst> hitBurstPool = new ArrayDeque<>();  // Finished bursts for reuse
     
     // Combo colors
     private List<javafx.scene.paint.Color> comboColors = new ArrayList<>();
-    private int currentComboColorIndex = 0;
     
     // UI system
     private GameplayUI gameplayUI;
     
+    // Hit circles composed once per combo color and number
+    private final HitCircleSprites hitCircleSprites = new HitCircleSprites();
+    private final SliderBodies sliderBodies = new SliderBodies();
+    private final double[] ballPosition = new double[2];  // Reused every frame
+    
+    // Frame cost recording and its overlay, both off unless enabled
+    private FrameMetrics metrics;
+    private boolean showMetricsOverlay;
+    private String[] metricsOverlayLines = new String[0];
+    private long metricsOverlayUpdated;
+    private static final long METRICS_OVERLAY_REFRESH_NANOS = 500_000_000L;
+    private static final int METRICS_OVERLAY_FRAMES = 60;
+    private static final Font METRICS_FONT = Font.font("Monospaced", 11);
+    
     // Cursor trail
-    private LinkedList<CursorTrailPoint> cursorTrailPoints = new LinkedList<>();
     private static final int MAX_TRAIL_POINTS = 20;
+    private final CursorTrail trailPoints = new CursorTrail(MAX_TRAIL_POINTS);
     
     // Animation state
     private double currentTime = 0;
@@ -64,6 +106,19 @@ public class GameplayRenderer {
     private static final double BASE_CIRCLE_SIZE = 80;  // Increased for larger preview
     private static final double REFERENCE_WIDTH = 800;
     private static final double REFERENCE_HEIGHT = 600;
+    private static final double[] FALLBACK_ARROW_X = {-10, 10, 10, -10};
+    private static final double[] FALLBACK_ARROW_Y = {0, -5, 5, 0};
+    
+    // Colours drawn every frame, created once
+    private static final Color BACKGROUND_COLOR = Color.rgb(30, 30, 40);
+    private static final Color BORDER_COLOR = Color.rgb(80, 80, 80);
+    private static final Color LOADING_TEXT_COLOR = Color.rgb(150, 150, 160);
+    private static final Font LOADING_FONT = Font.font(16);
+    private static final Color SLIDER_END_COLOR = Color.rgb(150, 150, 170, 0.5);
+    private static final Color FALLBACK_FOLLOW_CIRCLE_COLOR = Color.rgb(255, 255, 255, 0.3);
+    private static final Color FALLBACK_BALL_OUTLINE_COLOR = Color.rgb(200, 200, 200);
+    private static final Color METRICS_BACKGROUND_COLOR = Color.rgb(0, 0, 0, 0.65);
+    private static final Color METRICS_TEXT_COLOR = Color.rgb(220, 220, 220);
     
     // Dynamic scaling (disabled - using fixed size)
     private double canvasScale = 1.0;
@@ -93,6 +148,7 @@ public class GameplayRenderer {
         gameplayUI.loadElements(elementLoader);
         calculateCanvasScale();
         initializeComboColors();
+        initializeSliderColors();
         setupHitObjects();
         logger.info("GameplayRenderer initialized with enhanced features");
     }
@@ -124,20 +180,67 @@ public class GameplayRenderer {
         setupHitObjects(); // Recalculate positions
     }
     
+    /**
+     * Images to preload, with the render scale each is decoded at.
+     */
+    public Map<String, Double> getPreloadImages() {
+        Map<String, Double> images = new LinkedHashMap<>();
+        for (String name : PRELOAD_IMAGES) {
+            images.put(name, SkinElementLoader.FULL_SIZE);
+        }
+        double scale = getElementRenderScale();
+        for (String name : HIT_CIRCLE_SCALED_IMAGES) {
+            images.put(name, scale);
+        }
+        images.put("approachcircle", scale * MAX_APPROACH_SCALE);
+        return images;
+    }
+    
+    /**
+     * Animations to preload, with the render scale each is decoded at.
+     */
+    public Map<String, Double> getPreloadAnimations() {
+        Map<String, Double> animations = new LinkedHashMap<>();
+        for (String name : PRELOAD_ANIMATIONS) {
+            animations.put(name, getElementRenderScale());
+        }
+        return animations;
+    }
+    
+    /**
+     * Scale hit circle elements are drawn at relative to their SD size, in device
+     * pixels, so textures are decoded no larger than the canvas shows them.
+     */
+    private double getElementRenderScale() {
+        return circleSize / SD_HIT_CIRCLE_SIZE * getOutputScale();
+    }
+    
+    /**
+     * Device pixels per canvas unit of the window showing the canvas.
+     */
+    private double getOutputScale() {
+        if (canvas.getScene() != null && canvas.getScene().getWindow() != null) {
+            return canvas.getScene().getWindow().getRenderScaleX();
+        }
+        return 1.0;
+    }
+    
     private void loadElements() {
+        double scale = getElementRenderScale();
+        
         // Load basic elements
-        hitCircle = elementLoader.loadImage("hitcircle");
-        hitCircleOverlay = elementLoader.loadImage("hitcircleoverlay");
-        approachCircle = elementLoader.loadImage("approachcircle");
+        hitCircle = elementLoader.loadImage("hitcircle", scale);
+        hitCircleOverlay = elementLoader.loadImage("hitcircleoverlay", scale);
+        approachCircle = elementLoader.loadImage("approachcircle", scale * MAX_APPROACH_SCALE);
         cursor = elementLoader.loadImage("cursor");
         cursorTrail = elementLoader.loadImage("cursortrail");
-        lightingImage = elementLoader.loadImage("lighting");
+        lightingImage = elementLoader.loadImage("lighting", scale);
         
         // Load slider elements
-        sliderBody = elementLoader.loadImage("sliderb");
-        sliderBall = elementLoader.loadImage("sliderball");
-        sliderFollowCircle = elementLoader.loadImage("sliderfollowcircle");
-        reverseArrow = elementLoader.loadImage("reversearrow");
+        sliderBody = elementLoader.loadImage("sliderb", scale);
+        sliderBall = elementLoader.loadImage("sliderball", scale);
+        sliderFollowCircle = elementLoader.loadImage("sliderfollowcircle", scale);
+        reverseArrow = elementLoader.loadImage("reversearrow", scale);
         
         // Calculate scales
         calculateElementScales();
@@ -146,6 +249,7 @@ public class GameplayRenderer {
         for (int i = 0; i < 10; i++) {
             defaultNumbers[i] = elementLoader.loadImage("default-" + i);
         }
+        hitCircleSprites.setElements(hitCircle, hitCircleOverlay, defaultNumbers);
         
         // Load hit burst animations
         loadHitBurstImages();
@@ -159,25 +263,9 @@ public class GameplayRenderer {
             if (result == HitObject.HitResult.NONE) continue;
             
             String prefix = getHitBurstPrefix(result);
-            List<Image> frames = new ArrayList<>();
             
-            // Try loading animated frames (hit300-0.png, hit300-1.png, etc.)
-            for (int i = 0; i < 10; i++) {
-                Image frame = elementLoader.loadImage(prefix + "-" + i);
-                if (frame != null) {
-                    frames.add(frame);
-                } else {
-                    break;  // No more frames
-                }
-            }
-            
-            // If no animated frames, try static image
-            if (frames.isEmpty()) {
-                Image staticImage = elementLoader.loadImage(prefix);
-                if (staticImage != null) {
-                    frames.add(staticImage);
-                }
-            }
+            // Animated frames (hit300-0.png, hit300-1.png, etc.), or the static image
+            List<Image> frames = elementLoader.loadAnimation(prefix, getElementRenderScale());
             
             if (!frames.isEmpty()) {
                 hitBurstFrames.put(result, frames.toArray(new Image[0]));
@@ -246,13 +334,32 @@ public class GameplayRenderer {
             comboColors.add(javafx.scene.paint.Color.rgb(242, 24, 57));   // Red
             logger.info("Using default combo colors");
         }
-        
-        currentComboColorIndex = 0;
+    }
+    
+    private void initializeSliderColors() {
+        com.osuskin.tool.model.Skin currentSkin = elementLoader.getCurrentSkin();
+        SkinIni skinIni = currentSkin != null ? currentSkin.getSkinIniOrDefaults() : null;
+        
+        // osu! draws a white border and a combo coloured track unless the skin overrides them
+        Color border = Color.WHITE;
+        Color trackOverride = null;
+        if (skinIni != null) {
+            if (skinIni.hasSliderBorder()) {
+                border = toColor(skinIni.getSliderBorder());
+            }
+            if (skinIni.hasSliderTrackOverride()) {
+                trackOverride = toColor(skinIni.getSliderTrackOverride());
+            }
+        }
+        sliderBodies.setColors(border, trackOverride);
+    }
+    
+    private static Color toColor(int argb) {
+        return Color.rgb(SkinIni.red(argb), SkinIni.green(argb), SkinIni.blue(argb));
     }
     
     private void setupHitObjects() {
         hitObjects.clear();
-        currentComboColorIndex = 0;  // Reset color index
         
         double width = canvas.getWidth();
         double height = canvas.getHeight();
@@ -268,8 +375,10 @@ public class GameplayRenderer {
         double slider1Start = 2.5;
         double slider1Duration = 0.65;  // Halved: 1.3 -> 0.65 seconds
         hitObjects.add(new Slider(
-            width * 0.6, height * 0.5,   // Start position
-            width * 0.3, height * 0.6,   // End position
+            new SliderPath(SliderPath.Type.PERFECT,
+                width * 0.6, height * 0.5,    // Start position
+                width * 0.45, height * 0.62,  // Arc through
+                width * 0.3, height * 0.6),   // End position
             slider1Start,                 // Hit time
             slider1Duration,              // Duration
             4,                            // Combo number
@@ -301,13 +410,55 @@ public class GameplayRenderer {
         
         // Update loop duration to accommodate all objects
         loopDuration = afterSlider2 + 1.5;
+        
+        assignComboColors();
+    }
+    
+    /**
+     * Give every object its combo colour once, so drawing only looks it up.
+     */
+    private void assignComboColors() {
+        int colorIndex = 0;
+        for (int i = 0; i < hitObjects.size(); i++) {
+            HitObject obj = hitObjects.get(i);
+            if (comboColors.isEmpty()) {
+                obj.setComboColor(javafx.scene.paint.Color.WHITE);
+                continue;
+            }
+            
+            // In osu!, colors change when starting a new combo. For our preview they
+            // change after sliders, which typically start new combos, and every few
+            // circles for visual variety
+            if (i > 0 && hitObjects.get(i - 1) instanceof Slider) {
+                colorIndex = (colorIndex + 1) % comboColors.size();
+            }
+            if (obj.getComboNumber() == 1 || obj.getComboNumber() == 5) {
+                colorIndex = (colorIndex + 1) % comboColors.size();
+            }
+            obj.setComboColor(comboColors.get(colorIndex));
+        }
+    }
+    
+    /**
+     * Record frame costs into a recorder, or stop recording with null, and show
+     * them over the preview.
+     */
+    public void setMetrics(FrameMetrics metrics, boolean showOverlay) {
+        this.metrics = metrics;
+        this.showMetricsOverlay = metrics != null && showOverlay;
+        this.gameplayUI.setMetrics(metrics);
+        metricsOverlayUpdated = 0;
     }
     
     public void update(double deltaTime) {
+        if (metrics != null) {
+            metrics.beginUpdate(deltaTime);
+        }
         currentTime += deltaTime;
         
-        // Update hit objects
-        for (HitObject obj : hitObjects) {
+        // Update hit objects; indexed loops here and below keep each frame free of allocation
+        for (int i = 0; i < hitObjects.size(); i++) {
+            HitObject obj = hitObjects.get(i);
             double prevResult = obj.getHitResult().ordinal();
             obj.update(currentTime);
             
@@ -320,27 +471,35 @@ public class GameplayRenderer {
         // Update cursor position and trail
         updateCursor();
         
-        // Remove inactive hit bursts
-        activeHitBursts.removeIf(burst -> !burst.isActive(currentTime));
+        // Return finished hit bursts to the pool
+        for (int i = activeHitBursts.size() - 1; i >= 0; i--) {
+            HitBurst burst = activeHitBursts.get(i);
+            if (!burst.isActive(currentTime)) {
+                activeHitBursts.remove(i);
+                hitBurstPool.push(burst);
+            }
+        }
         
         // Loop animation
         if (currentTime >= loopDuration) {
             reset();
         }
+        
+        if (metrics != null) {
+            metrics.endUpdate();
+        }
     }
     
     private void onHitObjectHit(HitObject obj) {
         // Create hit burst
         Image[] frames = hitBurstFrames.get(obj.getHitResult());
         if (frames != null) {
-            HitBurst burst = new HitBurst(
-                obj.getHitResult(),
-                obj.getX(),
-                obj.getY(),
-                currentTime,
-                frames,
-                lightingImage
-            );
+            HitBurst burst = hitBurstPool.poll();
+            if (burst == null) {
+                burst = new HitBurst(obj.getHitResult(), obj.getX(), obj.getY(), currentTime, frames, lightingImage);
+            } else {
+                burst.start(obj.getHitResult(), obj.getX(), obj.getY(), currentTime, frames, lightingImage);
+            }
             activeHitBursts.add(burst);
         }
         
@@ -353,7 +512,10 @@ public class GameplayRenderer {
         gameplayUI.setCombo(combo);
         gameplayUI.setAccuracy(accuracy);
         
-        logger.debug("Hit object hit with result: {} at time: {}", obj.getHitResult(), currentTime);
+        // Trace, not debug: this runs on every hit of every loop
+        if (logger.isTraceEnabled()) {
+            logger.trace("Hit object hit with result: {} at time: {}", obj.getHitResult(), currentTime);
+        }
     }
     
     private void updateStatistics(HitObject obj) {
@@ -387,25 +549,26 @@ public class GameplayRenderer {
         double cursorY = canvas.getHeight() / 2;
         
         // Get previous cursor position for smooth interpolation
-        if (!cursorTrailPoints.isEmpty()) {
-            CursorTrailPoint lastPoint = cursorTrailPoints.getFirst();
-            cursorX = lastPoint.x;
-            cursorY = lastPoint.y;
+        if (!trailPoints.isEmpty()) {
+            cursorX = trailPoints.getX(0);
+            cursorY = trailPoints.getY(0);
         }
         
         // Find the current target (active slider or next object)
         HitObject currentTarget = null;
         HitObject nextTarget = null;
         
-        for (HitObject obj : hitObjects) {
+        for (int i = 0; i < hitObjects.size(); i++) {
+            HitObject obj = hitObjects.get(i);
+            
             // Check for active slider - cursor should stick to it during entire duration
             if (obj instanceof Slider) {
                 Slider slider = (Slider) obj;
                 if (slider.isActive(currentTime)) {
                     // Follow slider ball closely during active slide
-                    double[] ballPos = slider.getSliderBallPosition(currentTime);
-                    cursorX = smoothInterpolate(cursorX, ballPos[0], 0.25);  // Faster tracking for slider
-                    cursorY = smoothInterpolate(cursorY, ballPos[1], 0.25);
+                    slider.getSliderBallPosition(currentTime, ballPosition);
+                    cursorX = smoothInterpolate(cursorX, ballPosition[0], 0.25);  // Faster tracking for slider
+                    cursorY = smoothInterpolate(cursorY, ballPosition[1], 0.25);
                     currentTarget = slider;
                     break;
                 }
@@ -432,10 +595,7 @@ public class GameplayRenderer {
         }
         
         // Update cursor trail
-        cursorTrailPoints.addFirst(new CursorTrailPoint(cursorX, cursorY, currentTime));
-        while (cursorTrailPoints.size() > MAX_TRAIL_POINTS) {
-            cursorTrailPoints.removeLast();
-        }
+        trailPoints.add(cursorX, cursorY, currentTime);
     }
     
     private double smoothInterpolate(double current, double target, double factor) {
@@ -451,37 +611,125 @@ public class GameplayRenderer {
         }
     }
     
+    /**
+     * Draw a placeholder frame while the skin's textures are still decoding.
+     */
+    public void renderLoading() {
+        gc.setFill(BACKGROUND_COLOR);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFill(LOADING_TEXT_COLOR);
+        gc.setFont(LOADING_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText("Loading skin...", canvas.getWidth() / 2, canvas.getHeight() / 2);
+        renderBorder();
+    }
+    
     public void render() {
+        if (metrics != null) {
+            metrics.beginRender();
+        }
+        
         // Clear canvas
-        gc.setFill(Color.rgb(30, 30, 40));
+        gc.setFill(BACKGROUND_COLOR);
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
         
-        // Render layers in order (bottom to top)
+        // Render layers in order (bottom to top); the clear counts towards slider bodies
+        renderSliderBodies();
+        endPhase(FrameMetrics.Phase.SLIDER_BODIES);
         renderHitObjects();
+        endPhase(FrameMetrics.Phase.HIT_OBJECTS);
         renderLightingEffects();
         renderHitBursts();
+        endPhase(FrameMetrics.Phase.HIT_BURSTS);
         renderCursorTrail();
         renderCursor();
+        endPhase(FrameMetrics.Phase.CURSOR);
         renderUI();
         renderBorder();
+        endPhase(FrameMetrics.Phase.UI);
+        
+        if (metrics != null) {
+            metrics.endRender();
+            if (showMetricsOverlay) {
+                renderMetricsOverlay();
+            }
+        }
+    }
+    
+    private void endPhase(FrameMetrics.Phase phase) {
+        if (metrics != null) {
+            metrics.endPhase(phase);
+        }
+    }
+    
+    /**
+     * Draw recent frame costs in the corner. The text is rebuilt twice a second,
+     * after the frame is recorded, so the overlay does not count towards it.
+     */
+    private void renderMetricsOverlay() {
+        long now = System.nanoTime();
+        if (metricsOverlayUpdated == 0 || now - metricsOverlayUpdated >= METRICS_OVERLAY_REFRESH_NANOS) {
+            metricsOverlayLines = formatMetrics(metrics.summarize(METRICS_OVERLAY_FRAMES));
+            metricsOverlayUpdated = now;
+        }
+        
+        double lineHeight = 14;
+        double width = 300;
+        double height = metricsOverlayLines.length * lineHeight + 8;
+        double x = canvas.getWidth() - width - 8;
+        double y = canvas.getHeight() - height - 8;
+        
+        gc.save();
+        gc.setFill(METRICS_BACKGROUND_COLOR);
+        gc.fillRect(x, y, width, height);
+        gc.setFill(METRICS_TEXT_COLOR);
+        gc.setFont(METRICS_FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        for (int i = 0; i < metricsOverlayLines.length; i++) {
+            gc.fillText(metricsOverlayLines[i], x + 6, y + 4 + (i + 1) * lineHeight - 3);
+        }
+        gc.restore();
+    }
+    
+    private static String[] formatMetrics(FrameMetrics.Summary summary) {
+        String allocation = summary.allocatedBytesPerSecond < 0 ? "n/a"
+            : String.format(Locale.ROOT, "%.2f MB/s", summary.allocatedBytesPerSecond / (1024 * 1024));
+        return new String[] {
+            String.format(Locale.ROOT, "frame %.2f ms  update %.2f  render %.2f",
+                summary.getFrameMillis(), summary.updateMillis, summary.renderMillis),
+            String.format(Locale.ROOT, "p50 %.2f  p95 %.2f  p99 %.2f ms",
+                summary.p50Millis, summary.p95Millis, summary.p99Millis),
+            String.format(Locale.ROOT, "sliders %.2f  objects %.2f  bursts %.2f",
+                summary.getPhaseMillis(FrameMetrics.Phase.SLIDER_BODIES),
+                summary.getPhaseMillis(FrameMetrics.Phase.HIT_OBJECTS),
+                summary.getPhaseMillis(FrameMetrics.Phase.HIT_BURSTS)),
+            String.format(Locale.ROOT, "cursor %.2f  ui %.2f",
+                summary.getPhaseMillis(FrameMetrics.Phase.CURSOR),
+                summary.getPhaseMillis(FrameMetrics.Phase.UI)),
+            String.format(Locale.ROOT, "drawImage %.0f/frame  alloc %s", summary.drawImages, allocation)
+        };
     }
     
     private void renderBorder() {
-        gc.setStroke(Color.rgb(80, 80, 80));
+        gc.setStroke(BORDER_COLOR);
         gc.setLineWidth(2);
         gc.strokeRect(1, 1, canvas.getWidth() - 2, canvas.getHeight() - 2);
     }
     
-    private void renderHitObjects() {
-        // First pass: render slider bodies (behind circles)
-        for (HitObject obj : hitObjects) {
+    private void renderSliderBodies() {
+        // Slider bodies go behind all circles
+        for (int i = 0; i < hitObjects.size(); i++) {
+            HitObject obj = hitObjects.get(i);
             if (obj instanceof Slider) {
                 renderSliderBody((Slider) obj);
             }
         }
-        
-        // Second pass: render circles and slider heads
-        for (HitObject obj : hitObjects) {
+    }
+    
+    private void renderHitObjects() {
+        // Circles and slider heads, over the slider bodies
+        for (int i = 0; i < hitObjects.size(); i++) {
+            HitObject obj = hitObjects.get(i);
             if (!obj.isVisible(currentTime)) continue;
             
             double opacity = obj.getOpacity(currentTime);
@@ -501,20 +749,9 @@ public class GameplayRenderer {
                     }
                 }
                 
-                // Draw slider head circle
+                // Draw slider head circle with its combo color and number
                 if (slider.isHeadVisible(currentTime)) {
-                    if (hitCircle != null) {
-                        // Apply combo color tinting to slider head
-                        javafx.scene.paint.Color comboColor = getComboColorForObject(slider);
-                        drawCenteredImageWithTint(hitCircle, slider.getX(), slider.getY(), hitCircleScale, comboColor);
-                    }
-                    
-                    if (hitCircleOverlay != null) {
-                        drawCenteredImage(hitCircleOverlay, slider.getX(), slider.getY(), hitCircleScale);
-                    }
-                    
-                    // Draw combo number on slider head
-                    drawComboNumber(slider.getX(), slider.getY(), slider.getComboNumber());
+                    drawHitCircle(slider);
                 }
                 
                 // Draw slider ball
@@ -530,20 +767,9 @@ public class GameplayRenderer {
                     }
                 }
                 
-                // Draw hit circle (if not hit)
+                // Draw hit circle with its combo color and number (if not hit)
                 if (!obj.isHit()) {
-                    if (hitCircle != null) {
-                        // Apply combo color tinting
-                        javafx.scene.paint.Color comboColor = getComboColorForObject(obj);
-                        drawCenteredImageWithTint(hitCircle, obj.getX(), obj.getY(), hitCircleScale, comboColor);
-                    }
-                    
-                    if (hitCircleOverlay != null) {
-                        drawCenteredImage(hitCircleOverlay, obj.getX(), obj.getY(), hitCircleScale);
-                    }
-                    
-                    // Draw combo number
-                    drawComboNumber(obj.getX(), obj.getY(), obj.getComboNumber());
+                    drawHitCircle(obj);
                 }
             }
             
@@ -557,40 +783,24 @@ public class GameplayRenderer {
         gc.save();
         gc.setGlobalAlpha(slider.getOpacity(currentTime) * 0.9);
         
-        // Calculate slider path
-        double startX = slider.getX();
-        double startY = slider.getY();
         double endX = slider.getEndX();
         double endY = slider.getEndY();
         
-        // Draw slider track with proper styling
-        // Outer border (darker)
-        gc.setStroke(Color.rgb(100, 100, 120, 0.8));
-        gc.setLineWidth(circleSize + 4);
-        gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-        gc.strokeLine(startX, startY, endX, endY);
-        
-        // Inner track (lighter)
-        gc.setStroke(Color.rgb(180, 180, 200, 0.6));
-        gc.setLineWidth(circleSize - 4);
-        gc.strokeLine(startX, startY, endX, endY);
-        
-        // If we have sliderb texture, try to overlay it
-        if (sliderBody != null) {
-            // TODO: Implement texture tiling along path
-            // For now, just use the colored lines above
-        }
+        // Draw the track from its cached image, rendered once per path and colour
+        sliderBodies.setScale(circleSize, getOutputScale());
+        SliderBodies.Body body = sliderBodies.get(slider.getPath(), getComboColorForObject(slider));
+        drawImage(body.image, body.x, body.y, body.width, body.height);
         
         // Draw end circle for non-repeating sliders
         if (!slider.isRepeating()) {
-            gc.setFill(Color.rgb(150, 150, 170, 0.5));
+            gc.setFill(SLIDER_END_COLOR);
             gc.fillOval(endX - circleSize/2, endY - circleSize/2, circleSize, circleSize);
         }
         
         // Draw reverse arrow if repeating (with proper rotation)
         if (slider.isRepeating()) {
-            // Calculate angle for arrow to point back towards start
-            double angle = Math.atan2(startY - endY, startX - endX);
+            // Arrow points back along the path's last direction
+            double angle = slider.getReverseArrowAngle();
             double arrowScale = hitCircleScale * 0.6;  // Consistent with other elements
             
             if (reverseArrow != null) {
@@ -605,11 +815,7 @@ public class GameplayRenderer {
                 gc.translate(endX, endY);
                 gc.rotate(Math.toDegrees(angle));
                 gc.setFill(Color.WHITE);
-                gc.fillPolygon(
-                    new double[]{-10, 10, 10, -10},
-                    new double[]{0, -5, 5, 0},
-                    4
-                );
+                gc.fillPolygon(FALLBACK_ARROW_X, FALLBACK_ARROW_Y, 4);
                 gc.restore();
             }
         }
@@ -621,7 +827,7 @@ public class GameplayRenderer {
         // Show ball during entire active slider duration
         if (!slider.isActive(currentTime)) return;
         
-        double[] ballPos = slider.getSliderBallPosition(currentTime);
+        slider.getSliderBallPosition(currentTime, ballPosition);
         
         gc.save();
         gc.setGlobalAlpha(slider.getOpacity(currentTime));
@@ -629,34 +835,36 @@ public class GameplayRenderer {
         // Draw follow circle with consistent scaling
         double followCircleScale = hitCircleScale * 1.2;  // Slightly larger than hit circle
         if (sliderFollowCircle != null) {
-            drawCenteredImage(sliderFollowCircle, ballPos[0], ballPos[1], followCircleScale);
+            drawCenteredImage(sliderFollowCircle, ballPosition[0], ballPosition[1], followCircleScale);
         } else {
             // Fallback follow circle
-            gc.setStroke(Color.rgb(255, 255, 255, 0.3));
+            gc.setStroke(FALLBACK_FOLLOW_CIRCLE_COLOR);
             gc.setLineWidth(2);
             double followSize = circleSize * 1.2;  // Consistent with hit circle size
-            gc.strokeOval(ballPos[0] - followSize/2, ballPos[1] - followSize/2, followSize, followSize);
+            gc.strokeOval(ballPosition[0] - followSize/2, ballPosition[1] - followSize/2, followSize, followSize);
         }
         
         // Draw slider ball with consistent scaling
         double ballScale = hitCircleScale * 0.5;  // Half the size of hit circle
-        if (sliderBall != null) {
-            drawCenteredImage(sliderBall, ballPos[0], ballPos[1], ballScale);
+        Image ball = sliderBall != null ? sliderBall : sliderBody;  // osu! names the ball "sliderb"
+        if (ball != null) {
+            drawCenteredImage(ball, ballPosition[0], ballPosition[1], ballScale);
         } else {
             // Fallback ball
             double ballSize = circleSize * 0.3;  // Proportional to circle size
             gc.setFill(Color.WHITE);
-            gc.fillOval(ballPos[0] - ballSize, ballPos[1] - ballSize, ballSize * 2, ballSize * 2);
-            gc.setStroke(Color.rgb(200, 200, 200));
+            gc.fillOval(ballPosition[0] - ballSize, ballPosition[1] - ballSize, ballSize * 2, ballSize * 2);
+            gc.setStroke(FALLBACK_BALL_OUTLINE_COLOR);
             gc.setLineWidth(2);
-            gc.strokeOval(ballPos[0] - ballSize, ballPos[1] - ballSize, ballSize * 2, ballSize * 2);
+            gc.strokeOval(ballPosition[0] - ballSize, ballPosition[1] - ballSize, ballSize * 2, ballSize * 2);
         }
         
         gc.restore();
     }
     
     private void renderLightingEffects() {
-        for (HitBurst burst : activeHitBursts) {
+        for (int i = 0; i < activeHitBursts.size(); i++) {
+            HitBurst burst = activeHitBursts.get(i);
             if (burst.shouldShowLighting(currentTime)) {
                 gc.save();
                 gc.setGlobalAlpha(burst.getLightingOpacity(currentTime));
@@ -674,7 +882,8 @@ public class GameplayRenderer {
     }
     
     private void renderHitBursts() {
-        for (HitBurst burst : activeHitBursts) {
+        for (int i = 0; i < activeHitBursts.size(); i++) {
+            HitBurst burst = activeHitBursts.get(i);
             Image frame = burst.getCurrentFrame(currentTime);
             if (frame != null) {
                 gc.save();
@@ -691,35 +900,33 @@ public class GameplayRenderer {
     }
     
     private void renderCursorTrail() {
-        if (cursorTrail == null || cursorTrailPoints.isEmpty()) return;
+        if (cursorTrail == null || trailPoints.isEmpty()) return;
         
-        int index = 0;
-        for (CursorTrailPoint point : cursorTrailPoints) {
-            double age = currentTime - point.time;
+        for (int i = 0; i < trailPoints.size(); i++) {
+            double age = currentTime - trailPoints.getTime(i);
             double opacity = Math.max(0, 1.0 - (age * 5));  // Fade over 0.2 seconds
             
             if (opacity > 0) {
                 gc.save();
                 gc.setGlobalAlpha(opacity * 0.5);  // Trail is semi-transparent
-                drawCenteredImage(cursorTrail, point.x, point.y, 0.5 * canvasScale);
+                drawCenteredImage(cursorTrail, trailPoints.getX(i), trailPoints.getY(i), 0.5 * canvasScale);
                 gc.restore();
             }
-            
-            index++;
         }
     }
     
     private void renderCursor() {
-        if (!cursorTrailPoints.isEmpty()) {
-            CursorTrailPoint current = cursorTrailPoints.getFirst();
+        if (!trailPoints.isEmpty()) {
+            double cursorX = trailPoints.getX(0);
+            double cursorY = trailPoints.getY(0);
             
             if (cursor != null) {
-                drawCenteredImage(cursor, current.x, current.y, 0.5 * canvasScale);
+                drawCenteredImage(cursor, cursorX, cursorY, 0.5 * canvasScale);
             } else {
                 // Fallback cursor
                 double cursorSize = 8 * canvasScale;
                 gc.setFill(Color.WHITE);
-                gc.fillOval(current.x - cursorSize, current.y - cursorSize, cursorSize * 2, cursorSize * 2);
+                gc.fillOval(cursorX - cursorSize, cursorY - cursorSize, cursorSize * 2, cursorSize * 2);
             }
         }
     }
@@ -729,87 +936,36 @@ public class GameplayRenderer {
         gameplayUI.render(canvas.getWidth(), canvas.getHeight());
     }
     
-    private void drawComboNumber(double x, double y, int number) {
-        if (number < 1 || number > 9) return;
-        
-        Image numberImage = defaultNumbers[number];
-        if (numberImage != null) {
-            drawCenteredImage(numberImage, x, y, 0.5 * canvasScale);
+    /**
+     * Draw a hit circle as one pre-composed sprite: tinted circle, overlay and number.
+     */
+    private void drawHitCircle(HitObject obj) {
+        int number = obj.getComboNumber() >= 1 && obj.getComboNumber() <= 9 ? obj.getComboNumber() : 0;
+        hitCircleSprites.setScales(hitCircleScale, 0.5 * canvasScale, getOutputScale());
+        HitCircleSprites.Sprite sprite = hitCircleSprites.get(getComboColorForObject(obj), number);
+        if (sprite != null) {
+            drawImage(sprite.image, obj.getX() - sprite.width/2, obj.getY() - sprite.height/2,
+                         sprite.width, sprite.height);
         }
     }
     
-    private void drawCenteredImage(Image image, double x, double y, double scale) {
-        if (image == null) return;
-        
-        double width = image.getWidth() * scale;
-        double height = image.getHeight() * scale;
-        gc.drawImage(image, x - width/2, y - height/2, width, height);
+    private void drawImage(Image image, double x, double y, double width, double height) {
+        gc.drawImage(image, x, y, width, height);
+        if (metrics != null) {
+            metrics.countDrawImage();
+        }
     }
     
-    private void drawCenteredImageWithTint(Image image, double x, double y, double scale, javafx.scene.paint.Color tint) {
+    private void drawCenteredImage(Image image, double x, double y, double scale) {
         if (image == null) return;
         
-        gc.save();
-        
-        // Set blend mode for tinting
-        // Note: JavaFX doesn't have a direct multiply blend mode for tinting
-        // We'll use a workaround with opacity and fill
-        
         double width = image.getWidth() * scale;
         double height = image.getHeight() * scale;
-        
-        // Draw the base image
-        gc.drawImage(image, x - width/2, y - height/2, width, height);
-        
-        // Apply color overlay with multiply-like effect
-        gc.setGlobalAlpha(0.7);  // Adjust for tint strength
-        gc.setFill(tint);
-        
-        // Create a clipping region for the circle shape
-        gc.save();
-        gc.beginPath();
-        gc.arc(x, y, width/2, width/2, 0, 360);
-        gc.closePath();
-        gc.clip();
-        
-        // Fill with tint color
-        gc.setGlobalBlendMode(javafx.scene.effect.BlendMode.MULTIPLY);
-        gc.fillRect(x - width/2, y - height/2, width, height);
-        gc.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-        
-        gc.restore();
-        gc.restore();
+        drawImage(image, x - width/2, y - height/2, width, height);
     }
     
     private javafx.scene.paint.Color getComboColorForObject(HitObject obj) {
-        if (comboColors.isEmpty()) {
-            return javafx.scene.paint.Color.WHITE;
-        }
-        
-        // In osu!, colors change when starting a new combo
-        // For our preview, we'll change colors every few objects
-        // and after sliders (which typically start new combos)
-        
-        boolean isNewCombo = false;
-        
-        // Check if this is the first object or follows a slider
-        int objIndex = hitObjects.indexOf(obj);
-        if (objIndex == 0) {
-            isNewCombo = true;
-        } else if (objIndex > 0) {
-            HitObject prevObj = hitObjects.get(objIndex - 1);
-            if (prevObj instanceof Slider) {
-                isNewCombo = true;
-                currentComboColorIndex = (currentComboColorIndex + 1) % comboColors.size();
-            }
-        }
-        
-        // Also change color every 3-4 circles for visual variety
-        if (obj.getComboNumber() == 1 || obj.getComboNumber() == 5) {
-            currentComboColorIndex = (currentComboColorIndex + 1) % comboColors.size();
-        }
-        
-        return comboColors.get(currentComboColorIndex);
+        return obj.getComboColor();
     }
     
     public void reset() {
@@ -822,32 +978,23 @@ public class GameplayRenderer {
         good100 = 0;
         meh50 = 0;
         
+        for (int i = 0; i < activeHitBursts.size(); i++) {
+            hitBurstPool.push(activeHitBursts.get(i));
+        }
         activeHitBursts.clear();
-        cursorTrailPoints.clear();
+        trailPoints.clear();
         
         // Reset UI
         gameplayUI.reset();
         
-        // Reset hit objects
-        for (HitObject obj : hitObjects) {
+        // Reset hit objects in place rather than building new ones each loop
+        for (int i = 0; i < hitObjects.size(); i++) {
+            HitObject obj = hitObjects.get(i);
             if (obj instanceof HitCircle) {
                 ((HitCircle) obj).reset();
             } else if (obj instanceof Slider) {
                 ((Slider) obj).reset();
             }
         }
-        
-        setupHitObjects();
-    }
-    
-    // Inner class for cursor trail
-    private static class CursorTrailPoint {
-        final double x, y, time;
-        
-        CursorTrailPoint(double x, double y, double time) {
-            this.x = x;
-            this.y = y;
-            this.time = time;
-        }
     }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
+import java.util.List;
+
 /**
  * Manages the gameplay UI elements (health bar, score, combo counter, etc.)
  */
@@ -30,6 +32,27 @@ public class GameplayUI {
     private int combo = 0;
     private double accuracy = 100.0;
     
+    // Fallback text, built only when the value it shows changes
+    private String scoreText;
+    private int scoreTextValue = -1;
+    private String comboText;
+    private int comboTextValue = -1;
+    
+    private static final int SCORE_DIGITS = 8;
+    
+    // Fallback colours, created once rather than every frame
+    private static final Color HEALTH_BAR_BACKGROUND = Color.rgb(50, 50, 50, 0.8);
+    private static final Color HEALTH_HIGH = Color.rgb(100, 200, 100);
+    private static final Color HEALTH_MEDIUM = Color.rgb(200, 200, 100);
+    private static final Color HEALTH_LOW = Color.rgb(200, 100, 100);
+    
+    // Elements loaded by loadElements, decoded up front by the skin preview
+    static final List<String> PRELOAD_IMAGES = List.of(
+        "scorebar-bg", "scorebar-colour", "scorebar-marker", "scorebar-ki", "scorebar-kidanger", "scorebar-kidanger2",
+        "score-0", "score-1", "score-2", "score-3", "score-4", "score-5", "score-6", "score-7", "score-8", "score-9",
+        "combo-0", "combo-1", "combo-2", "combo-3", "combo-4", "combo-5", "combo-6", "combo-7", "combo-8", "combo-9",
+        "combo-x");
+    
     // UI base constants (sized for larger preview)
     private static final double BASE_HEALTH_BAR_WIDTH = 250;
     private static final double BASE_HEALTH_BAR_HEIGHT = 15;
@@ -43,8 +66,21 @@ public class GameplayUI {
     private double healthBarX = BASE_HEALTH_BAR_X;
     private double healthBarY = BASE_HEALTH_BAR_Y;
     
+    // Fallback fonts for the current scale, rebuilt only when it changes
+    private Font scoreFont;
+    private Font comboFont;
+    private Font milestoneComboFont;
+    private final Font[] comboXFonts = new Font[3];  // For combo scales 1.0, 1.1 and 1.2
+    
+    private FrameMetrics metrics;  // Counts drawImage calls while recording
+    
     public GameplayUI(GraphicsContext gc) {
         this.gc = gc;
+        createFonts();
+    }
+    
+    void setMetrics(FrameMetrics metrics) {
+        this.metrics = metrics;
     }
     
     /**
@@ -56,6 +92,16 @@ public class GameplayUI {
         healthBarHeight = BASE_HEALTH_BAR_HEIGHT * scale;
         healthBarX = BASE_HEALTH_BAR_X * scale;
         healthBarY = BASE_HEALTH_BAR_Y * scale;
+        createFonts();
+    }
+    
+    private void createFonts() {
+        scoreFont = Font.font("Arial", 20 * scale);
+        comboFont = Font.font("Arial Bold", 30 * scale);
+        milestoneComboFont = Font.font("Arial Bold", 36 * scale);
+        for (int i = 0; i < comboXFonts.length; i++) {
+            comboXFonts[i] = Font.font("Arial", 20 * scale * (1.0 + i * 0.1));
+        }
     }
     
     /**
@@ -121,38 +167,34 @@ public class GameplayUI {
         if (scorebarBg != null) {
             // Scale and draw the background image
             double bgScale = healthBarWidth / scorebarBg.getWidth();
-            gc.drawImage(scorebarBg, x, y, 
+            drawImage(scorebarBg, x, y, 
                         scorebarBg.getWidth() * bgScale, 
                         scorebarBg.getHeight() * bgScale);
         } else {
             // Fallback: draw simple background
-            gc.setFill(Color.rgb(50, 50, 50, 0.8));
+            gc.setFill(HEALTH_BAR_BACKGROUND);
             gc.fillRoundRect(x, y, healthBarWidth, healthBarHeight, 5, 5);
         }
         
         // Draw health fill
         double fillWidth = healthBarWidth * health;
         if (scorebarColour != null && fillWidth > 0) {
-            // Draw the colored bar image scaled to health
-            gc.save();
-            // Use rect clipping instead of setClip
-            gc.beginPath();
-            gc.rect(x, y, fillWidth, healthBarHeight);
-            gc.clip();
+            // Draw the part of the colored bar image covered by health; cropping the
+            // source avoids a clip, which copies the graphics state and path every frame
             double colorScale = healthBarWidth / scorebarColour.getWidth();
-            gc.drawImage(scorebarColour, x, y,
-                        scorebarColour.getWidth() * colorScale,
-                        scorebarColour.getHeight() * colorScale);
-            gc.restore();
+            double sourceWidth = Math.min(scorebarColour.getWidth(), fillWidth / colorScale);
+            double sourceHeight = Math.min(scorebarColour.getHeight(), healthBarHeight / colorScale);
+            drawImage(scorebarColour, 0, 0, sourceWidth, sourceHeight,
+                        x, y, sourceWidth * colorScale, sourceHeight * colorScale);
         } else if (fillWidth > 0) {
             // Fallback: draw simple colored bar
             Color healthColor;
             if (health > 0.5) {
-                healthColor = Color.rgb(100, 200, 100);
+                healthColor = HEALTH_HIGH;
             } else if (health > 0.25) {
-                healthColor = Color.rgb(200, 200, 100);
+                healthColor = HEALTH_MEDIUM;
             } else {
-                healthColor = Color.rgb(200, 100, 100);
+                healthColor = HEALTH_LOW;
             }
             gc.setFill(healthColor);
             gc.fillRoundRect(x + 2, y + 2, fillWidth - 4, healthBarHeight - 4, 3, 3);
@@ -161,13 +203,13 @@ public class GameplayUI {
         // Draw health marker (optional)
         if (scorebarMarker != null && health > 0) {
             double markerX = x + (healthBarWidth * health) - scorebarMarker.getWidth() / 2;
-            gc.drawImage(scorebarMarker, markerX, y - 2);
+            drawImage(scorebarMarker, markerX, y - 2);
         }
         
         // Draw ki danger indicators based on health level
         if (health < 0.5 && scorebarKi != null) {
             // Show ki indicator when health is below 50%
-            gc.drawImage(scorebarKi, x + healthBarWidth + 5, y - 5, 
+            drawImage(scorebarKi, x + healthBarWidth + 5, y - 5, 
                         scorebarKi.getWidth() * scale * 0.8, 
                         scorebarKi.getHeight() * scale * 0.8);
         }
@@ -175,7 +217,7 @@ public class GameplayUI {
         if (health < 0.3 && scorebarKiDanger != null) {
             // Show danger indicator when health is critical
             double pulseScale = 1.0 + Math.sin(System.currentTimeMillis() / 200.0) * 0.1;
-            gc.drawImage(scorebarKiDanger, x + healthBarWidth + 25, y - 5,
+            drawImage(scorebarKiDanger, x + healthBarWidth + 25, y - 5,
                         scorebarKiDanger.getWidth() * scale * 0.8 * pulseScale,
                         scorebarKiDanger.getHeight() * scale * 0.8 * pulseScale);
         }
@@ -184,7 +226,7 @@ public class GameplayUI {
             // Show extreme danger indicator when near death
             double pulseScale = 1.0 + Math.sin(System.currentTimeMillis() / 100.0) * 0.15;
             gc.setGlobalAlpha(0.8 + Math.sin(System.currentTimeMillis() / 150.0) * 0.2);
-            gc.drawImage(scorebarKiDanger2, x + healthBarWidth + 45, y - 5,
+            drawImage(scorebarKiDanger2, x + healthBarWidth + 45, y - 5,
                         scorebarKiDanger2.getWidth() * scale * 0.8 * pulseScale,
                         scorebarKiDanger2.getHeight() * scale * 0.8 * pulseScale);
             gc.setGlobalAlpha(1.0);
@@ -192,24 +234,28 @@ public class GameplayUI {
     }
     
     private void renderScore(double canvasWidth) {
-        String scoreText = String.format("%08d", score);
         double x = canvasWidth - (200 * scale);  // Moved left
         double y = 25 * scale;
         
         if (scoreNumbers[0] != null) {
-            // Draw score using score number images
+            // Draw score using score number images, zero-padded, digits taken arithmetically
             double digitWidth = 20 * scale;
-            for (int i = 0; i < scoreText.length(); i++) {
-                int digit = Character.getNumericValue(scoreText.charAt(i));
-                if (digit >= 0 && digit <= 9 && scoreNumbers[digit] != null) {
-                    gc.drawImage(scoreNumbers[digit], x + i * digitWidth, y, digitWidth, digitWidth * 1.2);
+            int length = Math.max(SCORE_DIGITS, digitCount(score));
+            for (int i = 0; i < length; i++) {
+                int digit = digitAt(score, length, i);
+                if (scoreNumbers[digit] != null) {
+                    drawImage(scoreNumbers[digit], x + i * digitWidth, y, digitWidth, digitWidth * 1.2);
                 }
             }
         } else {
             // Fallback: draw text
             gc.setFill(Color.WHITE);
-            gc.setFont(Font.font("Arial", 20 * scale));
+            gc.setFont(scoreFont);
             gc.setTextAlign(TextAlignment.RIGHT);
+            if (scoreTextValue != score) {
+                scoreText = String.format("%08d", score);
+                scoreTextValue = score;
+            }
             gc.fillText(scoreText, x + (140 * scale), y + (15 * scale));
         }
     }
@@ -220,43 +266,88 @@ public class GameplayUI {
         double x = 30 * scale;
         double y = canvasHeight - (50 * scale);  // Moved closer to bottom
         
-        String comboText = String.valueOf(combo);
+        int length = digitCount(combo);
         
         if (comboNumbers[0] != null) {
             // Draw combo using combo number images
             double digitWidth = 30 * scale;
-            double comboScale = 1.0;
+            int milestone = 0;
             
             // Scale up for milestone combos
-            if (combo >= 100) comboScale = 1.2;
-            else if (combo >= 50) comboScale = 1.1;
+            if (combo >= 100) milestone = 2;
+            else if (combo >= 50) milestone = 1;
+            double comboScale = 1.0 + milestone * 0.1;
             
-            for (int i = 0; i < comboText.length(); i++) {
-                int digit = Character.getNumericValue(comboText.charAt(i));
-                if (digit >= 0 && digit <= 9 && comboNumbers[digit] != null) {
+            for (int i = 0; i < length; i++) {
+                int digit = digitAt(combo, length, i);
+                if (comboNumbers[digit] != null) {
                     double width = digitWidth * comboScale;
                     double height = digitWidth * 1.5 * comboScale;
-                    gc.drawImage(comboNumbers[digit], x + i * width, y, width, height);
+                    drawImage(comboNumbers[digit], x + i * width, y, width, height);
                 }
             }
             
             // Draw "x" after the number
             if (comboX != null) {
-                double xPos = x + comboText.length() * digitWidth * comboScale;
-                gc.drawImage(comboX, xPos, y + (10 * scale), digitWidth * comboScale * 0.7, digitWidth * comboScale);
+                double xPos = x + length * digitWidth * comboScale;
+                drawImage(comboX, xPos, y + (10 * scale), digitWidth * comboScale * 0.7, digitWidth * comboScale);
             } else {
                 gc.setFill(Color.WHITE);
-                gc.setFont(Font.font("Arial", 20 * scale * comboScale));
-                gc.fillText("x", x + comboText.length() * digitWidth * comboScale + (5 * scale), y + (30 * scale));
+                gc.setFont(comboXFonts[milestone]);
+                gc.fillText("x", x + length * digitWidth * comboScale + (5 * scale), y + (30 * scale));
             }
         } else {
             // Fallback: draw text
             gc.setFill(Color.WHITE);
-            double fontSize = combo >= 50 ? 36 * scale : 30 * scale;
-            gc.setFont(Font.font("Arial Bold", fontSize));
+            gc.setFont(combo >= 50 ? milestoneComboFont : comboFont);
             gc.setTextAlign(TextAlignment.LEFT);
-            gc.fillText(combo + "x", x, y + (40 * scale));
+            if (comboTextValue != combo) {
+                comboText = combo + "x";
+                comboTextValue = combo;
+            }
+            gc.fillText(comboText, x, y + (40 * scale));
+        }
+    }
+    
+    private void drawImage(Image image, double x, double y) {
+        gc.drawImage(image, x, y);
+        countDrawImage();
+    }
+    
+    private void drawImage(Image image, double x, double y, double width, double height) {
+        gc.drawImage(image, x, y, width, height);
+        countDrawImage();
+    }
+    
+    private void drawImage(Image image, double sourceX, double sourceY, double sourceWidth, double sourceHeight,
+                           double x, double y, double width, double height) {
+        gc.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, x, y, width, height);
+        countDrawImage();
+    }
+    
+    private void countDrawImage() {
+        if (metrics != null) {
+            metrics.countDrawImage();
+        }
+    }
+    
+    private static int digitCount(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Digit {@code i} of a non-negative value written with {@code length} digits.
+     */
+    private static int digitAt(int value, int length, int i) {
+        for (int shift = length - 1 - i; shift > 0; shift--) {
+            value /= 10;
         }
+        return value % 10;
     }
     
     // Accuracy display removed - not needed for skin preview
@@ -4,14 +4,15 @@ import javafx.scene.image.Image;
 
 /**
  * Manages hit burst animations for different hit results.
- * Supports both static and animated hit bursts.
+ * Supports both static and animated hit bursts. Bursts are reusable: the renderer
+ * keeps finished ones in a pool and restarts them with {@link #start}.
  */
 public class HitBurst {
     
-    private final HitObject.HitResult result;
-    private final double x;
-    private final double y;
-    private final double startTime;
+    private HitObject.HitResult result;
+    private double x;
+    private double y;
+    private double startTime;
     
     private Image[] frames;
     private Image lightingImage;
@@ -23,6 +24,14 @@ public class HitBurst {
     
     public HitBurst(HitObject.HitResult result, double x, double y, double startTime, 
                     Image[] frames, Image lightingImage) {
+        start(result, x, y, startTime, frames, lightingImage);
+    }
+    
+    /**
+     * Restart this burst for a new hit.
+     */
+    public void start(HitObject.HitResult result, double x, double y, double startTime,
+                      Image[] frames, Image lightingImage) {
         this.result = result;
         this.x = x;
         this.y = y;
@@ -0,0 +1,210 @@
+package com.osuskin.tool.view.gameplay;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of fully composed hit circles: the hit circle tinted with the combo colour,
+ * the overlay and the combo number flattened into one sprite per colour and number,
+ * so each visible circle is a single drawImage per frame. The tint is a true
+ * multiply, as osu! applies it, computed once per colour. Sprites are rendered at
+ * the device pixel size they are drawn at and rebuilt when elements or scales change.
+ * Must be used on the FX thread, which snapshots the composition.
+ */
+class HitCircleSprites {
+    
+    private static final int MAX_SPRITES = 64;
+    
+    private Image hitCircle;
+    private Image hitCircleOverlay;
+    private Image[] numbers = new Image[0];
+    
+    private double circleScale;
+    private double numberScale;
+    private double outputScale;
+    
+    private final Map<Integer, Image> tintedCircles = new HashMap<>();
+    // Sprites by colour and number in primitive slots, so lookups box no keys
+    private final long[] spriteKeys = new long[MAX_SPRITES];
+    private final long[] spriteLastUse = new long[MAX_SPRITES];
+    private final Sprite[] sprites = new Sprite[MAX_SPRITES];
+    private long useCount;
+    private Canvas compositionCanvas;
+    
+    /**
+     * A composed hit circle and the size it is drawn at, in canvas units.
+     */
+    static class Sprite {
+        final Image image;
+        final double width;
+        final double height;
+        
+        Sprite(Image image, double width, double height) {
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    /**
+     * Set the skin's images; digits are indexed by their value. Drops all sprites.
+     */
+    void setElements(Image hitCircle, Image hitCircleOverlay, Image[] numbers) {
+        this.hitCircle = hitCircle;
+        this.hitCircleOverlay = hitCircleOverlay;
+        this.numbers = numbers.clone();
+        tintedCircles.clear();
+        clearSprites();
+    }
+    
+    /**
+     * Set the draw scales of the circle layers and of the digits, and the window's
+     * render scale. Drops all sprites if any changed.
+     */
+    void setScales(double circleScale, double numberScale, double outputScale) {
+        if (circleScale != this.circleScale || numberScale != this.numberScale || outputScale != this.outputScale) {
+            this.circleScale = circleScale;
+            this.numberScale = numberScale;
+            this.outputScale = outputScale;
+            clearSprites();
+        }
+    }
+    
+    /**
+     * Sprite of a circle in a combo colour with a combo number, 0 for none, or
+     * null if the skin has nothing to draw.
+     */
+    Sprite get(Color comboColor, int number) {
+        Image digit = number > 0 && number < numbers.length ? numbers[number] : null;
+        int argb = toArgb(comboColor);
+        long key = ((long) argb << 32) | (digit != null ? number : 0);
+        useCount++;
+        int slot = 0;
+        for (int i = 0; i < MAX_SPRITES; i++) {
+            if (sprites[i] != null && spriteKeys[i] == key) {
+                spriteLastUse[i] = useCount;
+                return sprites[i];
+            }
+            if (spriteLastUse[i] < spriteLastUse[slot]) {
+                slot = i;  // Empty or least recently used
+            }
+        }
+        
+        Sprite sprite = compose(argb, digit);
+        if (sprite != null) {
+            spriteKeys[slot] = key;
+            spriteLastUse[slot] = useCount;
+            sprites[slot] = sprite;
+        }
+        return sprite;
+    }
+    
+    int size() {
+        int size = 0;
+        for (Sprite sprite : sprites) {
+            if (sprite != null) size++;
+        }
+        return size;
+    }
+    
+    private void clearSprites() {
+        Arrays.fill(sprites, null);
+        Arrays.fill(spriteLastUse, 0);
+    }
+    
+    private Sprite compose(int argb, Image digit) {
+        Image circle = hitCircle != null ? tintedCircles.computeIfAbsent(argb, tint -> multiply(hitCircle, tint)) : null;
+        double width = Math.max(scaledWidth(circle, circleScale),
+            Math.max(scaledWidth(hitCircleOverlay, circleScale), scaledWidth(digit, numberScale)));
+        double height = Math.max(scaledHeight(circle, circleScale),
+            Math.max(scaledHeight(hitCircleOverlay, circleScale), scaledHeight(digit, numberScale)));
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        
+        if (compositionCanvas == null) {
+            compositionCanvas = new Canvas();
+        }
+        compositionCanvas.setWidth(width);
+        compositionCanvas.setHeight(height);
+        GraphicsContext gc = compositionCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, width, height);
+        drawCentered(gc, circle, width, height, circleScale);
+        drawCentered(gc, hitCircleOverlay, width, height, circleScale);
+        drawCentered(gc, digit, width, height, numberScale);
+        
+        // Rendered at device pixels, so the sprite is as sharp as drawing the layers
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(outputScale, outputScale));
+        WritableImage image = new WritableImage(
+            (int) Math.ceil(width * outputScale), (int) Math.ceil(height * outputScale));
+        return new Sprite(compositionCanvas.snapshot(parameters, image), width, height);
+    }
+    
+    /**
+     * Multiply an image's colour channels by a tint, keeping its alpha.
+     */
+    static Image multiply(Image image, int tint) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        PixelReader reader = image.getPixelReader();
+        if (reader == null || width <= 0 || height <= 0) {
+            return image;
+        }
+        
+        int tintRed = (tint >> 16) & 0xFF;
+        int tintGreen = (tint >> 8) & 0xFF;
+        int tintBlue = tint & 0xFF;
+        
+        int[] pixels = new int[width * height];
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        for (int i = 0; i < pixels.length; i++) {
+            int pixel = pixels[i];
+            int red = ((pixel >> 16) & 0xFF) * tintRed / 255;
+            int green = ((pixel >> 8) & 0xFF) * tintGreen / 255;
+            int blue = (pixel & 0xFF) * tintBlue / 255;
+            pixels[i] = (pixel & 0xFF000000) | (red << 16) | (green << 8) | blue;
+        }
+        
+        WritableImage tinted = new WritableImage(width, height);
+        PixelWriter writer = tinted.getPixelWriter();
+        writer.setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return tinted;
+    }
+    
+    static int toArgb(Color color) {
+        return ((int) Math.round(color.getOpacity() * 255) << 24)
+            | ((int) Math.round(color.getRed() * 255) << 16)
+            | ((int) Math.round(color.getGreen() * 255) << 8)
+            | (int) Math.round(color.getBlue() * 255);
+    }
+    
+    private static void drawCentered(GraphicsContext gc, Image image, double width, double height, double scale) {
+        if (image == null) return;
+        
+        double imageWidth = image.getWidth() * scale;
+        double imageHeight = image.getHeight() * scale;
+        gc.drawImage(image, (width - imageWidth) / 2, (height - imageHeight) / 2, imageWidth, imageHeight);
+    }
+    
+    private static double scaledWidth(Image image, double scale) {
+        return image != null ? image.getWidth() * scale : 0;
+    }
+    
+    private static double scaledHeight(Image image, double scale) {
+        return image != null ? image.getHeight() * scale : 0;
+    }
+}
@@ -1,5 +1,7 @@
 package com.osuskin.tool.view.gameplay;
 
+import javafx.scene.paint.Color;
+
 /**
  * Base class for all hit objects in the preview animation.
  */
@@ -18,6 +20,7 @@ public abstract class HitObject {
     protected final double appearTime;  // When approach circle appears
     protected final double hitTime;     // When to hit the object
     protected final int comboNumber;
+    protected Color comboColor = Color.WHITE;  // Assigned once by the renderer
     
     protected HitResult hitResult = HitResult.NONE;
     protected double hitAnimationTime = 0;
@@ -129,6 +132,8 @@ public abstract class HitObject {
     public double getHitTime() { return hitTime; }
     public double getAppearTime() { return appearTime; }
     public int getComboNumber() { return comboNumber; }
+    public Color getComboColor() { return comboColor; }
+    public void setComboColor(Color comboColor) { this.comboColor = comboColor; }
     public HitResult getHitResult() { return hitResult; }
     public double getHitAnimationTime() { return hitAnimationTime; }
     
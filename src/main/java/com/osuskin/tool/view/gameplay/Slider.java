@@ -5,8 +5,7 @@ package com.osuskin.tool.view.gameplay;
  */
 public class Slider extends HitObject {
     
-    private final double endX;
-    private final double endY;
+    private final SliderPath path;
     private final double duration;
     private final boolean isRepeating;
     
@@ -15,13 +14,27 @@ public class Slider extends HitObject {
     
     public Slider(double startX, double startY, double endX, double endY, 
                   double hitTime, double duration, int comboNumber, boolean isRepeating) {
-        super(startX, startY, hitTime, comboNumber);
-        this.endX = endX;
-        this.endY = endY;
+        this(SliderPath.linear(startX, startY, endX, endY), hitTime, duration, comboNumber, isRepeating);
+    }
+    
+    public Slider(SliderPath path, double hitTime, double duration, int comboNumber, boolean isRepeating) {
+        super(path.getStartX(), path.getStartY(), hitTime, comboNumber);
+        this.path = path;
         this.duration = duration;
         this.isRepeating = isRepeating;
     }
     
+    /**
+     * Flattened centre line of the slider as x, y pairs, from head to end. Not to be modified.
+     */
+    public double[] getPath() {
+        return path.getPoints();
+    }
+    
+    public SliderPath getSliderPath() {
+        return path;
+    }
+    
     @Override
     public void update(double currentTime) {
         // Check if slider has started
@@ -48,21 +61,25 @@ public class Slider extends HitObject {
     }
     
     /**
-     * Get the position of the slider ball at current time.
+     * Write the position of the slider ball at current time into {@code out[0]}
+     * and {@code out[1]}. The follow circle is drawn at the same position.
      */
-    public double[] getSliderBallPosition(double currentTime) {
+    public void getSliderBallPosition(double currentTime, double[] out) {
+        path.positionAt(getBallProgress(currentTime), out);
+    }
+    
+    /**
+     * Share of the path's length the ball has travelled from the head, going back
+     * and forth once on repeating sliders.
+     */
+    public double getBallProgress(double currentTime) {
         if (currentTime < hitTime) {
-            return new double[]{x, y};
+            return 0;
         }
         
         if (currentTime > hitTime + duration) {
-            // Keep at end position after completion
-            if (isRepeating) {
-                // Repeating sliders end at start position
-                return new double[]{x, y};
-            } else {
-                return new double[]{endX, endY};
-            }
+            // Keep at end position after completion; repeating sliders end at the start
+            return isRepeating ? 0 : 1;
         }
         
         double progress = (currentTime - hitTime) / duration;
@@ -78,10 +95,14 @@ public class Slider extends HitObject {
             }
         }
         
-        double ballX = x + (endX - x) * progress;
-        double ballY = y + (endY - y) * progress;
-        
-        return new double[]{ballX, ballY};
+        return progress;
+    }
+    
+    /**
+     * Angle of the reverse arrow at the slider end, pointing back along the path, in radians.
+     */
+    public double getReverseArrowAngle() {
+        return path.angleAt(1) + Math.PI;
     }
     
     /**
@@ -162,8 +183,8 @@ public class Slider extends HitObject {
     }
     
     // Getters
-    public double getEndX() { return endX; }
-    public double getEndY() { return endY; }
+    public double getEndX() { return path.getEndX(); }
+    public double getEndY() { return path.getEndY(); }
     public double getDuration() { return duration; }
     public boolean isRepeating() { return isRepeating; }
     public boolean isStarted() { return sliderStarted; }
@@ -0,0 +1,181 @@
+package com.osuskin.tool.view.gameplay;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.transform.Transform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache of rendered slider bodies. Each track is drawn once into an offscreen image
+ * the way osu! draws it, a border in the skin's slider border colour around a track
+ * shaded from a darker edge to a lighter centre of the track colour, and is then
+ * drawn from that image every frame. Bodies are keyed by path and track colour, so
+ * they survive the preview loop; they are dropped when the skin or scale changes.
+ * Must be used on the FX thread, which snapshots the track.
+ */
+class SliderBodies {
+    
+    private static final int MAX_BODIES = 16;
+    private static final double TRACK_WIDTH = 0.8;   // Share of the diameter inside the border
+    private static final int SHADING_STEPS = 8;      // Bands from the track's edge to its centre
+    
+    private Color borderColor = Color.WHITE;
+    private Color trackOverride;  // Null to use the combo colour, as osu! does
+    private double circleSize;
+    private double outputScale;
+    
+    private final List<Body> bodies = new ArrayList<>();
+    private Canvas trackCanvas;
+    
+    /**
+     * A rendered track and where it is drawn, in canvas units.
+     */
+    static class Body {
+        final Image image;
+        final double x;
+        final double y;
+        final double width;
+        final double height;
+        private final double[] path;
+        private final int trackArgb;
+        
+        Body(Image image, double x, double y, double width, double height, double[] path, int trackArgb) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.path = path;
+            this.trackArgb = trackArgb;
+        }
+        
+        boolean matches(double[] path, int trackArgb) {
+            return this.trackArgb == trackArgb && Arrays.equals(this.path, path);
+        }
+    }
+    
+    /**
+     * Set the skin's slider colours; a null track override uses combo colours.
+     * Drops all bodies if either changed.
+     */
+    void setColors(Color borderColor, Color trackOverride) {
+        if (!borderColor.equals(this.borderColor) || !Objects.equals(trackOverride, this.trackOverride)) {
+            this.borderColor = borderColor;
+            this.trackOverride = trackOverride;
+            bodies.clear();
+        }
+    }
+    
+    /**
+     * Set the track diameter and the window's render scale. Drops all bodies if
+     * either changed.
+     */
+    void setScale(double circleSize, double outputScale) {
+        if (circleSize != this.circleSize || outputScale != this.outputScale) {
+            this.circleSize = circleSize;
+            this.outputScale = outputScale;
+            bodies.clear();
+        }
+    }
+    
+    /**
+     * Body of a slider path, given as x, y pairs, in a combo colour.
+     */
+    Body get(double[] path, Color comboColor) {
+        Color track = trackOverride != null ? trackOverride : comboColor;
+        int trackArgb = HitCircleSprites.toArgb(track);
+        for (int i = 0; i < bodies.size(); i++) {  // Indexed, as this runs every frame
+            Body body = bodies.get(i);
+            if (body.matches(path, trackArgb)) {
+                return body;
+            }
+        }
+        
+        Body body = render(path.clone(), track, trackArgb);
+        if (bodies.size() >= MAX_BODIES) {
+            bodies.remove(0);
+        }
+        bodies.add(body);
+        return body;
+    }
+    
+    int size() {
+        return bodies.size();
+    }
+    
+    /**
+     * Draw a body into a new image. Package-private so tests, which cannot
+     * snapshot without a display, can stand in for it.
+     */
+    Body render(double[] path, Color track, int trackArgb) {
+        double radius = circleSize / 2;
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < path.length; i += 2) {
+            minX = Math.min(minX, path[i]);
+            maxX = Math.max(maxX, path[i]);
+            minY = Math.min(minY, path[i + 1]);
+            maxY = Math.max(maxY, path[i + 1]);
+        }
+        double x = Math.floor(minX - radius - 1);
+        double y = Math.floor(minY - radius - 1);
+        double width = Math.ceil(maxX + radius + 1) - x;
+        double height = Math.ceil(maxY + radius + 1) - y;
+        
+        if (trackCanvas == null) {
+            trackCanvas = new Canvas();
+        }
+        trackCanvas.setWidth(width);
+        trackCanvas.setHeight(height);
+        GraphicsContext gc = trackCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, width, height);
+        gc.save();
+        gc.translate(-x, -y);
+        gc.setLineCap(StrokeLineCap.ROUND);
+        gc.setLineJoin(StrokeLineJoin.ROUND);
+        
+        // Border, then the track over it in bands narrowing towards a lighter centre
+        strokePath(gc, path, circleSize, borderColor);
+        Color edge = track.deriveColor(0, 1, 0.7, 1);
+        Color centre = track.interpolate(Color.WHITE, 0.4);
+        for (int step = 0; step < SHADING_STEPS; step++) {
+            double t = step / (double) (SHADING_STEPS - 1);
+            double bandWidth = circleSize * TRACK_WIDTH * (1 - t * 0.85);
+            strokePath(gc, path, bandWidth, edge.interpolate(centre, t));
+        }
+        gc.restore();
+        
+        // Rendered at device pixels, so the track is as sharp as stroking it each frame
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(outputScale, outputScale));
+        WritableImage image = new WritableImage(
+            (int) Math.ceil(width * outputScale), (int) Math.ceil(height * outputScale));
+        trackCanvas.snapshot(parameters, image);
+        return new Body(image, x, y, width, height, path, trackArgb);
+    }
+    
+    private static void strokePath(GraphicsContext gc, double[] path, double lineWidth, Color color) {
+        gc.setStroke(color);
+        gc.setLineWidth(lineWidth);
+        gc.beginPath();
+        gc.moveTo(path[0], path[1]);
+        for (int i = 2; i < path.length; i += 2) {
+            gc.lineTo(path[i], path[i + 1]);
+        }
+        if (path.length == 2) {
+            gc.lineTo(path[0], path[1]);  // A single point still gets its round caps
+        }
+        gc.stroke();
+    }
+}
@@ -0,0 +1,285 @@
+package com.osuskin.tool.view.gameplay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Centre line of a slider, built from control points the way osu! interprets each
+ * curve type. The curve is flattened once into a polyline with a cumulative
+ * arc-length table, so positions and directions along it are a binary search and
+ * an interpolation, written into caller storage without allocating.
+ */
+public class SliderPath {
+    
+    /**
+     * Curve types, named after their osu! letters L, B, P and C.
+     */
+    public enum Type {
+        LINEAR,
+        BEZIER,
+        PERFECT,
+        CATMULL
+    }
+    
+    private static final double SEGMENT_LENGTH = 4.0;   // Target length of a flattened segment
+    private static final int MAX_CURVE_STEPS = 256;     // Per bezier segment or arc
+    private static final int CATMULL_STEPS = 50;        // Per catmull segment, as in osu!
+    
+    private final Type type;
+    private final double[] points;   // Flattened x, y pairs
+    private final double[] lengths;  // Arc length from the start to each point
+    
+    /**
+     * Path through control points given as x, y pairs. A perfect curve needs
+     * exactly three points that are not in line, otherwise it is drawn as a bezier.
+     */
+    public SliderPath(Type type, double... controlPoints) {
+        if (controlPoints.length < 2 || controlPoints.length % 2 != 0) {
+            throw new IllegalArgumentException("Control points must be x, y pairs: " + controlPoints.length);
+        }
+        this.type = type;
+        
+        double[] flattened;
+        switch (type) {
+            case BEZIER:
+                flattened = flattenBezier(controlPoints);
+                break;
+            case PERFECT:
+                flattened = flattenPerfect(controlPoints);
+                break;
+            case CATMULL:
+                flattened = flattenCatmull(controlPoints);
+                break;
+            default:
+                flattened = controlPoints.clone();
+                break;
+        }
+        this.points = flattened;
+        
+        this.lengths = new double[points.length / 2];
+        for (int i = 1; i < lengths.length; i++) {
+            double dx = points[i * 2] - points[i * 2 - 2];
+            double dy = points[i * 2 + 1] - points[i * 2 - 1];
+            lengths[i] = lengths[i - 1] + Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+    
+    /**
+     * Straight path between two points.
+     */
+    public static SliderPath linear(double startX, double startY, double endX, double endY) {
+        return new SliderPath(Type.LINEAR, startX, startY, endX, endY);
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    /**
+     * Flattened path as x, y pairs. Not to be modified.
+     */
+    public double[] getPoints() {
+        return points;
+    }
+    
+    public double getLength() {
+        return lengths[lengths.length - 1];
+    }
+    
+    public double getStartX() { return points[0]; }
+    public double getStartY() { return points[1]; }
+    public double getEndX() { return points[points.length - 2]; }
+    public double getEndY() { return points[points.length - 1]; }
+    
+    /**
+     * Write the point at a share of the path's length, clamped to 0..1, into
+     * {@code out[0]} and {@code out[1]}.
+     */
+    public void positionAt(double progress, double[] out) {
+        if (lengths.length == 1) {
+            out[0] = points[0];
+            out[1] = points[1];
+            return;
+        }
+        int segment = segmentAt(progress);
+        double t = segmentProgress(segment, progress);
+        int i = segment * 2;
+        out[0] = points[i] + (points[i + 2] - points[i]) * t;
+        out[1] = points[i + 1] + (points[i + 3] - points[i + 1]) * t;
+    }
+    
+    /**
+     * Direction of travel at a share of the path's length, in radians, or 0 for a
+     * path without length.
+     */
+    public double angleAt(double progress) {
+        if (lengths.length == 1) {
+            return 0;
+        }
+        int segment = segmentAt(progress);
+        
+        // Zero-length segments have no direction; use the nearest one that has
+        int from = segment;
+        while (from > 0 && lengths[from + 1] == lengths[from]) {
+            from--;
+        }
+        while (from < lengths.length - 2 && lengths[from + 1] == lengths[from]) {
+            from++;
+        }
+        int i = from * 2;
+        return Math.atan2(points[i + 3] - points[i + 1], points[i + 2] - points[i]);
+    }
+    
+    /**
+     * Index of the segment containing a share of the path's length.
+     */
+    private int segmentAt(double progress) {
+        double distance = Math.max(0, Math.min(1, progress)) * getLength();
+        int index = Arrays.binarySearch(lengths, distance);
+        if (index < 0) {
+            index = -index - 2;  // Last point before the distance
+        }
+        return Math.max(0, Math.min(lengths.length - 2, index));
+    }
+    
+    private double segmentProgress(int segment, double progress) {
+        double distance = Math.max(0, Math.min(1, progress)) * getLength();
+        double segmentLength = lengths[segment + 1] - lengths[segment];
+        return segmentLength > 0 ? Math.min(1, (distance - lengths[segment]) / segmentLength) : 0;
+    }
+    
+    /**
+     * Beziers split into separate curves where a control point repeats, as osu!
+     * marks the corners of multi-segment sliders.
+     */
+    private static double[] flattenBezier(double[] controlPoints) {
+        List<double[]> output = new ArrayList<>();
+        int start = 0;
+        int count = controlPoints.length / 2;
+        for (int i = 1; i <= count; i++) {
+            boolean corner = i < count
+                && controlPoints[i * 2] == controlPoints[i * 2 - 2]
+                && controlPoints[i * 2 + 1] == controlPoints[i * 2 - 1];
+            if (i == count || corner) {
+                double[] segment = Arrays.copyOfRange(controlPoints, start * 2, i * 2);
+                int steps = curveSteps(polygonLength(segment));
+                double[] scratch = new double[segment.length];
+                for (int step = output.isEmpty() ? 0 : 1; step <= steps; step++) {
+                    output.add(deCasteljau(segment, step / (double) steps, scratch));
+                }
+                start = i;
+            }
+        }
+        return toArray(output);
+    }
+    
+    private static double[] deCasteljau(double[] segment, double t, double[] scratch) {
+        System.arraycopy(segment, 0, scratch, 0, segment.length);
+        for (int n = segment.length / 2 - 1; n > 0; n--) {
+            for (int i = 0; i < n; i++) {
+                scratch[i * 2] += (scratch[i * 2 + 2] - scratch[i * 2]) * t;
+                scratch[i * 2 + 1] += (scratch[i * 2 + 3] - scratch[i * 2 + 1]) * t;
+            }
+        }
+        return new double[]{scratch[0], scratch[1]};
+    }
+    
+    /**
+     * Arc of the circle through the three control points, from the first to the
+     * last by way of the second.
+     */
+    private static double[] flattenPerfect(double[] controlPoints) {
+        if (controlPoints.length != 6) {
+            return flattenBezier(controlPoints);
+        }
+        double ax = controlPoints[0], ay = controlPoints[1];
+        double bx = controlPoints[2], by = controlPoints[3];
+        double cx = controlPoints[4], cy = controlPoints[5];
+        
+        double d = 2 * (ax * (by - cy) + bx * (cy - ay) + cx * (ay - by));
+        if (Math.abs(d) < 1e-6) {
+            return flattenBezier(controlPoints);  // In line, no circle through them
+        }
+        double a2 = ax * ax + ay * ay;
+        double b2 = bx * bx + by * by;
+        double c2 = cx * cx + cy * cy;
+        double centreX = (a2 * (by - cy) + b2 * (cy - ay) + c2 * (ay - by)) / d;
+        double centreY = (a2 * (cx - bx) + b2 * (ax - cx) + c2 * (bx - ax)) / d;
+        double radius = Math.hypot(ax - centreX, ay - centreY);
+        
+        double startAngle = Math.atan2(ay - centreY, ax - centreX);
+        double endAngle = Math.atan2(cy - centreY, cx - centreX);
+        
+        // Go round the side the middle point is on
+        boolean clockwise = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax) < 0;
+        while (!clockwise && endAngle < startAngle) endAngle += 2 * Math.PI;
+        while (clockwise && endAngle > startAngle) endAngle -= 2 * Math.PI;
+        
+        double sweep = endAngle - startAngle;
+        int steps = curveSteps(Math.abs(sweep) * radius);
+        double[] output = new double[(steps + 1) * 2];
+        for (int step = 0; step <= steps; step++) {
+            double angle = startAngle + sweep * step / steps;
+            output[step * 2] = centreX + Math.cos(angle) * radius;
+            output[step * 2 + 1] = centreY + Math.sin(angle) * radius;
+        }
+        return output;
+    }
+    
+    /**
+     * Uniform Catmull-Rom spline through every control point, with
+     * mirrored points past either end, as osu! builds catmull sliders.
+     */
+    private static double[] flattenCatmull(double[] controlPoints) {
+        int count = controlPoints.length / 2;
+        if (count < 2) {
+            return controlPoints.clone();
+        }
+        double[] output = new double[((count - 1) * CATMULL_STEPS + 1) * 2];
+        int index = 0;
+        for (int i = 0; i < count - 1; i++) {
+            double x2 = controlPoints[i * 2], y2 = controlPoints[i * 2 + 1];
+            double x1 = i > 0 ? controlPoints[i * 2 - 2] : x2;
+            double y1 = i > 0 ? controlPoints[i * 2 - 1] : y2;
+            double x3 = controlPoints[i * 2 + 2], y3 = controlPoints[i * 2 + 3];
+            double x4 = i < count - 2 ? controlPoints[i * 2 + 4] : 2 * x3 - x2;
+            double y4 = i < count - 2 ? controlPoints[i * 2 + 5] : 2 * y3 - y2;
+            
+            for (int step = i == 0 ? 0 : 1; step <= CATMULL_STEPS; step++) {
+                double t = step / (double) CATMULL_STEPS;
+                output[index++] = catmull(x1, x2, x3, x4, t);
+                output[index++] = catmull(y1, y2, y3, y4, t);
+            }
+        }
+        return output;
+    }
+    
+    private static double catmull(double p1, double p2, double p3, double p4, double t) {
+        double t2 = t * t;
+        double t3 = t2 * t;
+        return 0.5 * (2 * p2 + (-p1 + p3) * t + (2 * p1 - 5 * p2 + 4 * p3 - p4) * t2
+            + (-p1 + 3 * p2 - 3 * p3 + p4) * t3);
+    }
+    
+    private static int curveSteps(double length) {
+        return Math.max(2, Math.min(MAX_CURVE_STEPS, (int) Math.ceil(length / SEGMENT_LENGTH)));
+    }
+    
+    private static double polygonLength(double[] points) {
+        double length = 0;
+        for (int i = 2; i < points.length; i += 2) {
+            length += Math.hypot(points[i] - points[i - 2], points[i + 1] - points[i - 1]);
+        }
+        return length;
+    }
+    
+    private static double[] toArray(List<double[]> points) {
+        double[] output = new double[points.size() * 2];
+        for (int i = 0; i < points.size(); i++) {
+            output[i * 2] = points.get(i)[0];
+            output[i * 2 + 1] = points.get(i)[1];
+        }
+        return output;
+    }
+}
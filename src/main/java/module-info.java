@@ -6,6 +6,8 @@ module osu.skintool {
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.datatype.jsr310;
     
+    requires jdk.management;
+    
     requires org.slf4j;
     requires ch.qos.logback.classic;
     requires org.apache.commons.io;
@@ -0,0 +1,35 @@
+package com.osuskin.tool.service;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Animation Frame Discovery Tests")
+class AnimationFramesTest {
+
+    @Test
+    @DisplayName("Should group numbered files into sorted sequences preferring HD files")
+    void shouldFindSortedFrameSequences() {
+        // Arrange
+        AnimationFrames frames = AnimationFrames.of(List.of(
+            "hit300-10.png", "hit300-2.png", "hit300-0.png", "hit300-1.png", "hit300-1@2x.png",
+            "Hit300-3.PNG", "hit300.png", "sliderb0.png", "sliderb1.png", "sliderb3.png",
+            "comboburst.png", "followpoint-1.png", "followpoint-2.png", "skin.ini", "normal-hitclap1.wav"));
+
+        // Act
+        List<AnimationFrames.Frame> hit300 = frames.find("hit300");
+        List<AnimationFrames.Frame> sliderb = frames.find("SliderB");
+        List<AnimationFrames.Frame> followpoint = frames.find("followpoint");
+
+        // Assert
+        assertEquals(List.of("hit300-0", "hit300-1@2x", "hit300-2", "Hit300-3"),
+                     hit300.stream().map(AnimationFrames.Frame::getPreferredName).toList(),
+                     "Frames should be sorted and stop at the first gap");
+        assertEquals(2, sliderb.size(), "sliderb2 is missing, so sliderb3 is not part of the sequence");
+        assertEquals(2, followpoint.size(), "Sequences may start at frame 1");
+        assertTrue(frames.find("comboburst").isEmpty());
+        assertTrue(frames.find("normal-hitclap").isEmpty(), "Only images are frames");
+    }
+}
@@ -0,0 +1,73 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Shared Default Skin Tests")
+class DefaultSkinResourcesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should resolve bundled elements once and remember missing ones")
+    void shouldResolveBundledAndMissingElements() {
+        // Arrange
+        DefaultSkinResources resources = DefaultSkinResources.getInstance();
+
+        // Act & Assert
+        assertSame(resources, DefaultSkinResources.getInstance());
+        assertTrue(resources.hasImage("hitcircle"));
+        assertTrue(resources.hasImage("default-1"));
+        assertFalse(resources.hasImage("not-a-skin-element"));
+        assertNull(resources.decodeImage("not-a-skin-element"));
+        assertNull(resources.getAudio("not-a-skin-element"));
+        assertEquals(resources.cacheKey("hitcircle"), DefaultSkinResources.getInstance().cacheKey("hitcircle"));
+    }
+
+    @Test
+    @DisplayName("Should share decoded default images between loaders and keep them pinned for open ones")
+    void shouldShareDecodedDefaultImagesBetweenLoaders() throws IOException {
+        // Arrange: two skins without a hitcircle of their own, and the default hitcircle
+        // cached as its first decode leaves it, since decoding needs a display
+        Path firstSkin = createSkin("first");
+        Path secondSkin = createSkin("second");
+        TextureCache textureCache = TextureCache.getInstance();
+        String key = DefaultSkinResources.getInstance().cacheKey("hitcircle");
+        Image decoded = textureCache.putAndAcquire(key, new WritableImage(8, 8));
+
+        try (SkinElementLoader first = new SkinElementLoader(firstSkin);
+             SkinElementLoader second = new SkinElementLoader(secondSkin)) {
+            // Act
+            Image firstImage = first.loadImage("hitcircle");
+            Image secondImage = second.loadImage("hitcircle");
+            textureCache.release(key);
+            first.close();
+            textureCache.trim();
+
+            // Assert
+            assertSame(decoded, firstImage);
+            assertSame(firstImage, secondImage, "Both loaders should get the one decoded image");
+            assertTrue(textureCache.contains(key), "The open loader should keep the texture pinned");
+            assertSame(secondImage, second.loadImage("hitcircle"));
+
+            second.close();
+            textureCache.trim();
+            assertFalse(textureCache.contains(key), "Closing the last loader should unpin the texture");
+        }
+    }
+
+    private Path createSkin(String name) throws IOException {
+        Path skin = Files.createDirectory(tempDir.resolve(name));
+        Files.writeString(skin.resolve("skin.ini"), "[General]\nName: " + name + "\n");
+        return skin;
+    }
+}
@@ -0,0 +1,69 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Disk Texture Cache Tests")
+class DiskTextureCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read stored pixels back until the source file changes")
+    void shouldRoundTripPixelsForUnchangedSource() throws IOException {
+        // Arrange
+        DiskTextureCache cache = new DiskTextureCache();
+        cache.setDirectory(tempDir.resolve("textures"));
+        Path source = Files.write(tempDir.resolve("hitcircle.png"), new byte[] { 1, 2, 3 });
+        WritableImage texture = new WritableImage(3, 2);
+        texture.getPixelWriter().setArgb(0, 0, 0xFFFF0000);
+        texture.getPixelWriter().setArgb(2, 1, 0xFF00FF80);
+
+        // Act
+        cache.store(source, 0.5, texture);
+        Image cached = cache.load(source, 0.5);
+        Image otherScale = cache.load(source, 0.625);
+        Files.write(source, new byte[] { 1, 2, 3, 4 });
+        Image stale = cache.load(source, 0.5);
+
+        // Assert
+        assertNotNull(cached);
+        assertEquals(3, cached.getWidth());
+        assertEquals(2, cached.getHeight());
+        assertEquals(0xFFFF0000, cached.getPixelReader().getArgb(0, 0));
+        assertEquals(0xFF00FF80, cached.getPixelReader().getArgb(2, 1));
+        assertEquals(0, cached.getPixelReader().getArgb(1, 1));
+        assertNull(otherScale, "Each scale is cached separately");
+        assertNull(stale, "A modified source should not hit the cache");
+    }
+
+    @Test
+    @DisplayName("Should trim the oldest files past the size limit")
+    void shouldTrimPastSizeLimit() throws IOException {
+        // Arrange
+        DiskTextureCache cache = new DiskTextureCache();
+        cache.setDirectory(tempDir.resolve("textures"));
+        Path source = Files.write(tempDir.resolve("cursor.png"), new byte[] { 1 });
+        cache.store(source, 0.5, new WritableImage(4, 4));
+        cache.store(source, 1.0, new WritableImage(4, 4));
+
+        // Act
+        int keptWithinLimit = cache.trim();
+        cache.setMaxBytes(0);
+        int deleted = cache.trim();
+
+        // Assert
+        assertEquals(0, keptWithinLimit);
+        assertEquals(2, deleted);
+        assertNull(cache.load(source, 0.5));
+        assertNull(new DiskTextureCache().load(source, 0.5), "A cache without a directory is disabled");
+    }
+}
@@ -0,0 +1,49 @@
+package com.osuskin.tool.service;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Scaled Image Decoder Tests")
+class ScaledImageDecoderTest {
+
+    @Test
+    @DisplayName("Should round render scales up to size buckets")
+    void shouldRoundScalesToBuckets() {
+        // Act & Assert
+        assertEquals(0.625, ScaledImageDecoder.bucket(0.6));
+        assertEquals(0.625, ScaledImageDecoder.bucket(0.625));
+        assertEquals(ScaledImageDecoder.BUCKET_STEP, ScaledImageDecoder.bucket(0.01));
+        assertEquals(ScaledImageDecoder.MAX_SCALE, ScaledImageDecoder.bucket(5));
+        assertEquals(ScaledImageDecoder.FULL_SIZE, ScaledImageDecoder.bucket(0));
+        assertEquals(ScaledImageDecoder.FULL_SIZE, ScaledImageDecoder.bucket(Double.NaN));
+
+        assertFalse(ScaledImageDecoder.prefersHd(1.0), "SD files serve scales up to their own size");
+        assertTrue(ScaledImageDecoder.prefersHd(1.25));
+        assertTrue(ScaledImageDecoder.prefersHd(ScaledImageDecoder.FULL_SIZE));
+        assertEquals("skin|hitcircle", ScaledImageDecoder.key("skin|hitcircle", ScaledImageDecoder.FULL_SIZE));
+        assertNotEquals(ScaledImageDecoder.key("skin|hitcircle", 0.5), ScaledImageDecoder.key("skin|hitcircle", 0.625));
+    }
+
+    @Test
+    @DisplayName("Should read image size from the PNG header only")
+    void shouldReadPngSize() throws IOException {
+        // Arrange
+        ByteBuffer header = ByteBuffer.allocate(24);
+        header.put(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' });
+        header.putInt(13).put(new byte[] { 'I', 'H', 'D', 'R' });
+        header.putInt(256).putInt(128);
+
+        // Act
+        int[] size = ScaledImageDecoder.readPngSize(new ByteArrayInputStream(header.array()));
+        int[] notPng = ScaledImageDecoder.readPngSize(new ByteArrayInputStream(new byte[] { (byte) 0xFF, (byte) 0xD8 }));
+
+        // Assert
+        assertArrayEquals(new int[] { 256, 128 }, size);
+        assertNull(notPng, "Other formats are decoded at full size");
+    }
+}
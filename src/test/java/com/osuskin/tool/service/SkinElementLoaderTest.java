@@ -0,0 +1,71 @@
+package com.osuskin.tool.service;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Skin Element Loader Tests")
+class SkinElementLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should complete a preload with only the elements that exist")
+    void shouldCompletePreloadForMissingElements() throws Exception {
+        // Arrange
+        Files.writeString(tempDir.resolve("skin.ini"), "[General]");
+
+        try (SkinElementLoader loader = new SkinElementLoader(tempDir)) {
+            // Act
+            SkinElementLoader.TextureSet textures = loader
+                .preloadAsync(List.of("not-an-element", "also-missing"), List.of("missing-animation"))
+                .get(10, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(0, textures.size());
+            assertNull(textures.getImage("not-an-element"));
+            assertTrue(textures.getAnimation("missing-animation").isEmpty());
+            assertTrue(loader.loadAnimation("missing-animation").isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should still finish a preload after the loader is closed")
+    void shouldFinishPreloadAfterClose() throws Exception {
+        // Arrange
+        SkinElementLoader loader = new SkinElementLoader(tempDir);
+
+        // Act
+        var preload = loader.preloadAsync(List.of("hitcircle-missing"), List.of());
+        loader.close();
+
+        // Assert
+        SkinElementLoader.TextureSet textures = preload.get(10, TimeUnit.SECONDS);
+        assertNotNull(textures);
+        assertEquals(0, textures.size());
+    }
+
+    @Test
+    @DisplayName("Should cancel element statistics once the loader is closed")
+    void shouldCancelElementStatsAfterClose() throws Exception {
+        // Arrange
+        SkinElementLoader loader = new SkinElementLoader(tempDir);
+        Files.write(tempDir.resolve("HitCircle@2x.png"), new byte[0]);
+
+        // Act
+        SkinElementLoader.SkinElementStats stats = loader.getElementStats();
+        loader.close();
+
+        // Assert
+        assertEquals(1, stats.presentRequiredElements);
+        assertTrue(loader.isClosed());
+        assertThrows(CancellationException.class, loader::getElementStats);
+    }
+}
@@ -0,0 +1,188 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.Configuration;
+import com.osuskin.tool.model.Skin;
+import com.osuskin.tool.util.ConfigurationManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Batch Extraction Queue Tests")
+class SkinExtractionQueueTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ConfigurationManager configurationManager;
+
+    @Mock
+    private Configuration configuration;
+
+    private SkinScannerService scannerService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(configurationManager.getConfiguration()).thenReturn(configuration);
+        when(configuration.getOsuSkinsDirectoryPath()).thenReturn(tempDir);
+
+        scannerService = new SkinScannerService(configurationManager);
+    }
+
+    @Test
+    @DisplayName("Should extract all queued archives and report each new skin")
+    void shouldExtractAllQueuedArchives() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            createSkinArchive(tempDir.resolve("Skin " + i + ".osk"), 5);
+        }
+        RecordingListener listener = new RecordingListener();
+        SkinExtractionQueue queue = new SkinExtractionQueue(scannerService, listener);
+
+        // Act
+        queue.enqueueAll(scannerService.getExtractableCompressedSkinFiles());
+        queue.start(2);
+        assertTrue(listener.finished.await(10, TimeUnit.SECONDS), "Queue should finish");
+
+        // Assert
+        assertEquals(3, listener.extracted.get());
+        assertEquals(0, listener.remaining.get());
+        for (int i = 0; i < 3; i++) {
+            Path skinDir = tempDir.resolve("Skin " + i);
+            assertTrue(Files.exists(skinDir.resolve("skin.ini")));
+            assertNotNull(listener.skins.get(skinDir), "Extracted skin should be reported without a rescan");
+        }
+        assertEquals(1.0, listener.lastProgress.get().getFraction(), 1e-9);
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Should roll back and re-queue archives on cancel, then resume")
+    void shouldResumeAfterCancel() throws Exception {
+        // Arrange
+        createSkinArchive(tempDir.resolve("First.osk"), 50);
+        createSkinArchive(tempDir.resolve("Second.osk"), 50);
+        RecordingListener listener = new RecordingListener();
+        SkinExtractionQueue queue = new SkinExtractionQueue(scannerService, listener);
+        AtomicBoolean cancelRequested = new AtomicBoolean();
+        listener.onFirstProgress = () -> {
+            if (cancelRequested.compareAndSet(false, true)) {
+                queue.cancel();
+            }
+        };
+
+        // Act
+        queue.enqueueAll(scannerService.getExtractableCompressedSkinFiles());
+        queue.start(1);
+        assertTrue(listener.finished.await(10, TimeUnit.SECONDS), "Cancelled queue should finish");
+
+        // Assert
+        assertTrue(listener.cancelled.get());
+        assertEquals(2, listener.remaining.get(), "Interrupted archive should stay queued");
+        assertFalse(Files.exists(tempDir.resolve("First")), "Partial output should be removed");
+
+        // Act - resume
+        RecordingListener resumed = new RecordingListener();
+        SkinExtractionQueue resumedQueue = new SkinExtractionQueue(scannerService, resumed);
+        resumedQueue.enqueueAll(scannerService.getExtractableCompressedSkinFiles());
+        resumedQueue.start(1);
+        assertTrue(resumed.finished.await(10, TimeUnit.SECONDS), "Resumed queue should finish");
+
+        // Assert
+        assertEquals(2, resumed.extracted.get());
+        assertTrue(Files.exists(tempDir.resolve("First").resolve("skin.ini")));
+        assertTrue(Files.exists(tempDir.resolve("Second").resolve("skin.ini")));
+    }
+
+    @Test
+    @DisplayName("Should count an archive as failed on an unexpected error and keep going")
+    void shouldSurviveUnexpectedErrors() throws Exception {
+        // Arrange
+        createSkinArchive(tempDir.resolve("Broken.osk"), 5);
+        RecordingListener listener = new RecordingListener();
+        SkinExtractionQueue queue = new SkinExtractionQueue(scannerService, listener);
+        AtomicBoolean thrown = new AtomicBoolean();
+        listener.onFirstProgress = () -> {
+            if (thrown.compareAndSet(false, true)) {
+                throw new IllegalStateException("Listener failure");
+            }
+        };
+
+        // Act
+        queue.enqueueAll(scannerService.getExtractableCompressedSkinFiles());
+        queue.start(1);
+        assertTrue(listener.finished.await(10, TimeUnit.SECONDS), "Queue should finish");
+
+        // Assert
+        assertEquals(0, listener.extracted.get());
+        assertEquals(1, listener.failed.get());
+        assertFalse(queue.isRunning());
+        assertFalse(Files.exists(tempDir.resolve("Broken")), "Partial output should be removed");
+    }
+
+    private void createSkinArchive(Path path, int elementCount) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(path))) {
+            zos.putNextEntry(new ZipEntry("skin.ini"));
+            zos.write("[General]\nName: Queued".getBytes());
+            zos.closeEntry();
+            for (int i = 0; i < elementCount; i++) {
+                zos.putNextEntry(new ZipEntry("hitcircle-" + i + ".png"));
+                zos.write(new byte[4096]);
+                zos.closeEntry();
+            }
+        }
+    }
+
+    private static class RecordingListener implements SkinExtractionQueue.Listener {
+        final CountDownLatch finished = new CountDownLatch(1);
+        final AtomicReference<Integer> extracted = new AtomicReference<>();
+        final AtomicReference<Integer> failed = new AtomicReference<>();
+        final AtomicReference<Integer> remaining = new AtomicReference<>();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final AtomicReference<SkinExtractionQueue.Progress> lastProgress = new AtomicReference<>();
+        final Map<Path, Skin> skins = new ConcurrentHashMap<>();
+        Runnable onFirstProgress = () -> { };
+
+        @Override
+        public void onProgress(SkinExtractionQueue.Progress progress) {
+            lastProgress.set(progress);
+            onFirstProgress.run();
+        }
+
+        @Override
+        public void onArchiveFinished(Path archive, boolean success, Map<Path, Skin> updates) {
+            updates.forEach((path, skin) -> {
+                if (skin != null) {
+                    skins.put(path, skin);
+                }
+            });
+        }
+
+        @Override
+        public void onQueueFinished(int extractedCount, int failedCount, boolean wasCancelled, int remainingCount) {
+            extracted.set(extractedCount);
+            failed.set(failedCount);
+            remaining.set(remainingCount);
+            cancelled.set(wasCancelled);
+            finished.countDown();
+        }
+    }
+}
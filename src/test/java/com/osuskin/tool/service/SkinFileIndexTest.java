@@ -0,0 +1,79 @@
+package com.osuskin.tool.service;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Skin File Index Tests")
+class SkinFileIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should find files by base name, scale and extension ignoring case")
+    void shouldFindFilesIgnoringCase() throws IOException {
+        // Arrange
+        Path hdCircle = Files.createFile(tempDir.resolve("HitCircle@2X.PNG"));
+        Path sound = Files.createFile(tempDir.resolve("Normal-HitClap.WAV"));
+        Files.createDirectories(tempDir.resolve("cursor.png"));
+
+        // Act
+        SkinFileIndex index = SkinFileIndex.build(tempDir);
+
+        // Assert
+        assertEquals(hdCircle, index.find("hitcircle", true, "png"));
+        assertEquals(hdCircle, index.find("hitcircle@2x.png"));
+        assertNull(index.find("hitcircle", false, "png"), "SD and HD files are indexed separately");
+        assertEquals(sound, index.find("normal-hitclap.wav"));
+        assertFalse(index.contains("cursor.png"), "Directories are not skin files");
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should answer element lookups from the index without listing again")
+    void shouldAnswerLookupsFromSnapshot() throws IOException {
+        // Arrange
+        Files.createFile(tempDir.resolve("Cursor.png"));
+        Files.createFile(tempDir.resolve("hit300-0.png"));
+
+        try (SkinElementLoader loader = new SkinElementLoader(tempDir)) {
+            // Act
+            boolean cursorExists = loader.elementExists("cursor");
+            Files.createFile(tempDir.resolve("spinner-circle.png"));  // Added after the index was built
+
+            // Assert
+            assertTrue(cursorExists);
+            assertTrue(loader.elementExists("hit300"), "Animated frames should be found");
+            assertFalse(loader.elementExists("spinner-circle"), "The index is a snapshot of one listing");
+        }
+
+        // Missing directories give an empty index
+        assertEquals(0, SkinFileIndex.build(tempDir.resolve("missing")).size());
+    }
+
+    @Test
+    @DisplayName("Should share a cached index until the directory changes")
+    void shouldShareCachedIndexUntilDirectoryChanges() throws IOException {
+        // Arrange
+        Files.createFile(tempDir.resolve("cursor.png"));
+        SkinFileIndex first = SkinFileIndex.cached(tempDir);
+
+        // Act
+        SkinFileIndex second = SkinFileIndex.cached(tempDir);
+        Files.createFile(tempDir.resolve("hitcircle.png"));
+        Files.setLastModifiedTime(tempDir, FileTime.fromMillis(Files.getLastModifiedTime(tempDir).toMillis() + 2000));
+        SkinFileIndex changed = SkinFileIndex.cached(tempDir);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, changed);
+        assertTrue(changed.contains("hitcircle.png"));
+        assertSame(changed, SkinFileIndex.cached(tempDir.resolve(".")));
+    }
+}
@@ -0,0 +1,141 @@
+package com.osuskin.tool.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osuskin.tool.model.SkinIni;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkinIniParserTest {
+
+    private static final String SAMPLE_INI = """
+            ﻿// Sample skin
+            [General]
+            Name: - YUGEN -
+            Author: Garin
+            Version: 2.5
+            AnimationFramerate: 30
+            CursorCentre: 0
+            CursorRotate: 1
+            HitCircleOverlayAboveNumber: 0
+            SliderBallFlip: 1
+
+            [Colours]
+            Combo2: 0,128,255
+            Combo1 : 255, 0, 0 // red
+            SliderBorder: 255,255,255,128
+            SliderTrackOverride: 10,20,30
+
+            [Fonts]
+            HitCirclePrefix: Fonts\\default
+            HitCircleOverlap: 3
+            ScorePrefix: score
+            ComboOverlap: -4
+
+            [Mania]
+            Keys: 4
+            ColumnWidth: 45,45,45,45
+            KeyImage0: mania\\key1
+
+            [Mania]
+            Keys: 7
+            HitPosition: 402
+            """;
+
+    @Test
+    @DisplayName("Should parse General, Colours, Fonts and Mania sections")
+    void shouldParseAllSections() {
+        // Act
+        SkinIni ini = SkinIniParser.parse(SAMPLE_INI.getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals("- YUGEN -", ini.getName());
+        assertEquals("Garin", ini.getAuthor());
+        assertEquals("2.5", ini.getVersion());
+        assertEquals(30.0, ini.getAnimationFramerate());
+        assertFalse(ini.isCursorCentre());
+        assertTrue(ini.isCursorRotate());
+        assertFalse(ini.isHitCircleOverlayAboveNumber());
+
+        assertArrayEquals(new int[] {
+                SkinIni.argb(255, 0, 0, 255),
+                SkinIni.argb(0, 128, 255, 255)
+        }, ini.getComboColours(), "Combo colours should be ordered by number");
+        assertEquals(SkinIni.argb(255, 255, 255, 128), ini.getSliderBorder());
+        assertEquals(SkinIni.argb(10, 20, 30, 255), ini.getSliderTrackOverride());
+        assertTrue(ini.hasSliderBorder());
+        assertFalse(ini.hasSliderBall());
+
+        assertEquals("Fonts/default", ini.getHitCirclePrefix());
+        assertEquals(3, ini.getHitCircleOverlap());
+        assertEquals(-4, ini.getComboOverlap());
+
+        assertEquals(2, ini.getManiaConfigs().size());
+        assertEquals("45,45,45,45", ini.getManiaConfig(4).get("columnwidth"));
+        assertEquals("402", ini.getManiaConfig(7).get("HitPosition"));
+        assertNull(ini.getManiaConfig(5));
+    }
+
+    @Test
+    @DisplayName("Should keep osu! defaults for missing or malformed values")
+    void shouldKeepDefaultsForMissingValues() {
+        // Arrange
+        String content = "[General]\nName=Legacy Skin\nSliderStyle: abc\n[Colours]\nCombo1: 1,2\n";
+
+        // Act
+        SkinIni ini = SkinIniParser.parse(content.getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals("Legacy Skin", ini.getName(), "Key=Value form should be accepted");
+        assertEquals(2, ini.getSliderStyle());
+        assertEquals(0, ini.getComboColourCount(), "Incomplete colours should be ignored");
+        assertEquals("default", ini.getHitCirclePrefix());
+        assertEquals(-2, ini.getHitCircleOverlap());
+        assertEquals(-1, ini.getAnimationFramerate());
+        assertTrue(ini.isCursorExpand());
+    }
+
+    @Test
+    @DisplayName("Should round-trip through JSON for the scan index")
+    void shouldRoundTripThroughJson() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper();
+        SkinIni ini = SkinIniParser.parse(SAMPLE_INI.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        SkinIni restored = objectMapper.readValue(objectMapper.writeValueAsString(ini), SkinIni.class);
+
+        // Assert
+        assertEquals(ini.getName(), restored.getName());
+        assertArrayEquals(ini.getComboColours(), restored.getComboColours());
+        assertEquals(ini.getSliderBorder(), restored.getSliderBorder());
+        assertTrue(restored.hasSliderTrackOverride());
+        assertFalse(restored.hasSliderBall());
+        assertEquals(ini.getHitCirclePrefix(), restored.getHitCirclePrefix());
+        assertEquals("mania\\key1", restored.getManiaConfig(4).get("KeyImage0"));
+    }
+
+    @Test
+    @DisplayName("Should keep colours whose packed value is zero or all ones")
+    void shouldKeepTransparentBlackAndOpaqueWhiteColours() {
+        // Arrange
+        String content = "[Colours]\nCombo1: 255,0,0\nCombo2: 0,0,0,0\nCombo3: 255,255,255\n"
+            + "SliderBorder: 0,0,0,0\nSliderTrackOverride: 255,255,255,255\n";
+
+        // Act
+        SkinIni ini = SkinIniParser.parse(content.getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertArrayEquals(new int[] {
+                SkinIni.argb(255, 0, 0, 255),
+                SkinIni.argb(0, 0, 0, 0),
+                SkinIni.argb(255, 255, 255, 255)
+        }, ini.getComboColours(), "No combo slot should be dropped");
+        assertTrue(ini.hasSliderBorder());
+        assertEquals(SkinIni.argb(0, 0, 0, 0), ini.getSliderBorder());
+        assertTrue(ini.hasSliderTrackOverride());
+        assertEquals(SkinIni.argb(255, 255, 255, 255), ini.getSliderTrackOverride());
+    }
+}
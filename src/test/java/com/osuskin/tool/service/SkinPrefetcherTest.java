@@ -0,0 +1,39 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.Skin;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Skin Prefetcher Tests")
+class SkinPrefetcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should warm the directory index of neighbouring skins")
+    void shouldWarmNeighbourIndexes() throws Exception {
+        // Arrange
+        Path next = Files.createDirectories(tempDir.resolve("Next"));
+        Path previous = Files.createDirectories(tempDir.resolve("Previous"));
+        Files.writeString(next.resolve("skin.ini"), "[General]");
+        Files.writeString(previous.resolve("skin.ini"), "[General]");
+
+        try (SkinPrefetcher prefetcher = new SkinPrefetcher()) {
+            // Act
+            prefetcher.prefetch(List.of(new Skin("Next", next), new Skin("Previous", previous)))
+                      .get(10, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(SkinFileIndex.isCached(next));
+            assertTrue(SkinFileIndex.isCached(previous));
+            assertTrue(prefetcher.getBudgetBytes() <= SkinPrefetcher.MAX_BUDGET_BYTES);
+        }
+    }
+}
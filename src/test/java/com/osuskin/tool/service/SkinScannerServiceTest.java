@@ -10,7 +10,9 @@ import org.mockito.MockitoAnnotations;
 
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -310,7 +312,180 @@ class SkinScannerServiceTest {
                   "Should return the non-extracted file");
     }
 
+    @Test
+    @DisplayName("Should produce the same skins with a parallel scan as with a sequential scan")
+    void shouldMatchSequentialScanWhenScanningInParallel() throws IOException {
+        // Arrange
+        for (int i = 0; i < 12; i++) {
+            Path skinDir = tempDir.resolve("Skin" + i);
+            Files.createDirectories(skinDir);
+            Files.writeString(skinDir.resolve("skin.ini"), "[General]\nName: Skin " + i + "\nAuthor: Author " + i);
+            Files.writeString(skinDir.resolve("hitcircle.png"), "fake image data " + i);
+        }
+        Files.createDirectories(tempDir.resolve("NotASkin"));
+        createMockZipFile(tempDir.resolve("Compressed.zip"));
+        
+        // Act
+        when(configuration.getScanThreadCount()).thenReturn(1);
+        List<Skin> sequential = scannerService.scanSkins();
+        when(configuration.getScanThreadCount()).thenReturn(4);
+        List<Skin> parallel = scannerService.scanSkins();
+        
+        // Assert
+        assertEquals(sequential, parallel, "Parallel scan should return the same skins in the same order");
+        assertTrue(parallel.get(0).isSpecial(), "Skin Container should stay first");
+        assertEquals(1, scannerService.getCompressedSkinCount(), "Should still find the compressed skin");
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getAuthor(), parallel.get(i).getAuthor());
+            assertEquals(sequential.get(i).getElements(), parallel.get(i).getElements());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse indexed skins and rescan only changed directories")
+    void shouldReuseIndexedSkinsForUnchangedDirectories(@TempDir Path cacheDir) throws IOException {
+        // Arrange
+        when(configurationManager.getCacheDirectory()).thenReturn(cacheDir);
+        Path unchangedDir = tempDir.resolve("Unchanged");
+        Path changedDir = tempDir.resolve("Changed");
+        Files.createDirectories(unchangedDir);
+        Files.createDirectories(changedDir);
+        Files.createFile(unchangedDir.resolve("skin.ini"));
+        Files.createFile(changedDir.resolve("skin.ini"));
+        
+        List<Skin> firstScan = scannerService.scanSkins();
+        assertTrue(Files.exists(cacheDir.resolve("scan-index-v3.json")), "Scan index should be written");
+        
+        // Act
+        Files.writeString(changedDir.resolve("cursor.png"), "new cursor");
+        List<Skin> secondScan = scannerService.scanSkins();
+        
+        // Assert
+        Skin unchangedFirst = findSkin(firstScan, "Unchanged");
+        Skin unchangedSecond = findSkin(secondScan, "Unchanged");
+        assertSame(unchangedFirst, unchangedSecond, "Unchanged skin should be served from the index");
+        assertEquals(1, findSkin(secondScan, "Changed").getElementCount(), "Changed skin should be rescanned");
+        
+        // A fresh service should load the persisted index
+        SkinScannerService freshService = new SkinScannerService(configurationManager);
+        List<Skin> thirdScan = freshService.scanSkins();
+        assertEquals(unchangedSecond, findSkin(thirdScan, "Unchanged"));
+    }
+
+    @Test
+    @DisplayName("Should rescan only the changed entries")
+    void shouldRescanChangedEntries() throws IOException {
+        // Arrange
+        Path removedDir = tempDir.resolve("Removed");
+        Files.createDirectories(removedDir);
+        Files.createFile(removedDir.resolve("skin.ini"));
+        scannerService.scanSkins();
+        
+        Path addedDir = tempDir.resolve("Added");
+        Files.createDirectories(addedDir);
+        Files.createFile(addedDir.resolve("skin.ini"));
+        Files.delete(removedDir.resolve("skin.ini"));
+        Files.delete(removedDir);
+        Path archive = tempDir.resolve("NewSkin.osk");
+        createMockZipFile(archive);
+        
+        // Act
+        var updates = scannerService.rescanEntries(List.of(addedDir, removedDir, archive));
+        
+        // Assert
+        assertEquals("Added", updates.get(addedDir).getName(), "New skin should be scanned");
+        assertTrue(updates.containsKey(removedDir));
+        assertNull(updates.get(removedDir), "Deleted skin should be reported as removed");
+        assertEquals(List.of(archive), scannerService.getCompressedSkinFiles(), "New archive should be tracked");
+    }
+    
+    @Test
+    @DisplayName("Should report every scanned directory to the scan listener")
+    void shouldReportProgressToScanListener() throws IOException {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            Path skinDir = tempDir.resolve("Skin " + i);
+            Files.createDirectories(skinDir);
+            Files.createFile(skinDir.resolve("skin.ini"));
+        }
+        List<Integer> totals = new ArrayList<>();
+        List<Skin> reported = new ArrayList<>();
+        
+        // Act
+        List<Skin> skins = scannerService.scanSkins(new SkinScannerService.ScanListener() {
+            @Override
+            public void onScanStarted(int totalDirectories) {
+                totals.add(totalDirectories);
+            }
+            
+            @Override
+            public void onDirectoryScanned(Skin skin) {
+                reported.add(skin);
+            }
+        });
+        
+        // Assert
+        assertEquals(List.of(4), totals, "Total should include the Skin Container");
+        assertEquals(4, reported.size(), "Each directory should be reported once");
+        assertEquals(skins.size(), reported.stream().filter(Objects::nonNull).count());
+    }
+    
+    @Test
+    @DisplayName("Should list compressed skins as virtual skins without extracting them")
+    void shouldListArchivesAsVirtualSkins() throws IOException {
+        // Arrange
+        when(configuration.isIndexArchives()).thenReturn(true);
+        Path archive = tempDir.resolve("Packed.osk");
+        createMockZipFileWithSkinContent(archive);
+        
+        // Act
+        List<Skin> skins = scannerService.scanSkins();
+        
+        // Assert
+        Skin virtualSkin = findSkin(skins, "Test Skin");
+        assertNotNull(virtualSkin, "Archive should be listed with its skin.ini name");
+        assertTrue(virtualSkin.isVirtual());
+        assertEquals(archive.toString(), virtualSkin.getArchivePath());
+        assertEquals("Test Author", virtualSkin.getAuthor());
+        assertTrue(virtualSkin.getElements().stream().anyMatch(e -> "hitcircle.png".equals(e.getFileName())),
+                  "Root-level elements should be listed");
+        assertTrue(virtualSkin.getTotalSize() > 0, "Sizes should come from the central directory");
+        assertFalse(Files.exists(tempDir.resolve("Packed")), "Nothing should be extracted");
+        assertEquals(List.of(archive), scannerService.getCompressedSkinFiles());
+    }
+
+    @Test
+    @DisplayName("Should find the preview image and skin.ini regardless of file name case")
+    void shouldMatchPreviewAndSkinIniCaseInsensitively() throws IOException {
+        // Arrange
+        Path skinDir = tempDir.resolve("Mixed Case");
+        Files.createDirectories(skinDir);
+        Files.writeString(skinDir.resolve("Skin.ini"),
+            "[General]\nName: Mixed Case Skin\nAuthor: Case Author\nVersion: 2.7\n[Colours]\nCombo1: 255,128,0\n");
+        Path preview = Files.writeString(skinDir.resolve("Preview.PNG"), "small preview");
+        Files.writeString(skinDir.resolve("SCREENSHOT.png"), "lower ranked preview");
+        
+        // Act
+        List<Skin> skins = scannerService.scanSkins();
+        
+        // Assert
+        Skin skin = findSkin(skins, "Mixed Case Skin");
+        assertEquals(skinDir, skin.getDirectoryPathAsPath());
+        assertEquals("Case Author", skin.getAuthor());
+        assertEquals("2.7", skin.getVersion());
+        assertEquals(1, skin.getComboColors().size());
+        assertArrayEquals(new int[] {255, 128, 0}, skin.getComboColors().get(0));
+        assertEquals(preview, skin.getPreviewImagePathAsPath(), "Preview.PNG should rank above the screenshot");
+    }
+
     // Helper methods
+    private Skin findSkin(List<Skin> skins, String name) {
+        return skins.stream()
+            .filter(skin -> skin.getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Skin not found: " + name));
+    }
+    
     private void createMockZipFile(Path zipPath) throws IOException {
         try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipPath))) {
             ZipEntry entry = new ZipEntry("dummy.txt");
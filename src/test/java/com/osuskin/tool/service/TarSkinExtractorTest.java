@@ -0,0 +1,152 @@
+package com.osuskin.tool.service;
+
+import com.osuskin.tool.model.Configuration;
+import com.osuskin.tool.util.ConfigurationManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Streaming Tar Extraction Tests")
+class TarSkinExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ConfigurationManager configurationManager;
+
+    @Mock
+    private Configuration configuration;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(configurationManager.getConfiguration()).thenReturn(configuration);
+        when(configuration.getOsuSkinsDirectoryPath()).thenReturn(tempDir);
+    }
+
+    @Test
+    @DisplayName("Should extract a gzip tar, stripping the root folder and resolving long names")
+    void shouldExtractGzipTarWithRootFolder() throws IOException {
+        // Arrange
+        byte[] texture = new byte[200_000];
+        new Random(3).nextBytes(texture);
+        String longName = "Backup/" + "very-long-".repeat(12) + "hitcircle.png";
+        Path archive = tempDir.resolve("Backup.tar.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(archive))) {
+            writeEntry(out, "Backup/", '5', new byte[0]);
+            writeEntry(out, "Backup/skin.ini", '0', "[General]\nName: Backup".getBytes());
+            writeEntry(out, "Backup/hitcircle@2x.png", '0', texture);
+            writeEntry(out, "././@LongLink", 'L', (longName + "\0").getBytes(StandardCharsets.UTF_8));
+            writeEntry(out, longName.substring(0, 99), '0', "long".getBytes());
+            writeEntry(out, "Backup/Backup/nested.png", '0', "nested".getBytes());
+            out.write(new byte[1024]);
+        }
+        long[] reported = new long[1];
+        Path extractPath = tempDir.resolve("Backup");
+
+        // Act
+        int extracted = new TarSkinExtractor().extract(archive, extractPath, bytes -> reported[0] += bytes);
+
+        // Assert
+        assertEquals(4, extracted);
+        assertArrayEquals(texture, Files.readAllBytes(extractPath.resolve("hitcircle@2x.png")));
+        assertTrue(Files.exists(extractPath.resolve("skin.ini")), "Root folder should be stripped");
+        assertTrue(Files.exists(extractPath.resolve(longName.substring("Backup/".length()))));
+        assertTrue(Files.exists(extractPath.resolve("Backup").resolve("nested.png")),
+                   "A child named like the root folder should survive stripping");
+        assertTrue(reported[0] > 0 && reported[0] <= Files.size(archive), "Progress counts archive bytes read");
+    }
+
+    @Test
+    @DisplayName("Should extract plain tar skins through the scanner service")
+    void shouldExtractPlainTarThroughScanner() throws IOException {
+        // Arrange
+        Path archive = tempDir.resolve("Plain Skin.tar");
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            writeEntry(out, "skin.ini", '0', "[General]\nName: Plain".getBytes());
+            writeEntry(out, "../escaped.txt", '0', "nope".getBytes());
+            writeEntry(out, "cursor.png", '0', new byte[513]);
+            out.write(new byte[1024]);
+        }
+        SkinScannerService scannerService = new SkinScannerService(configurationManager);
+
+        // Act
+        boolean success = scannerService.extractCompressedSkin(archive);
+
+        // Assert
+        assertTrue(success);
+        Path extractPath = tempDir.resolve("Plain Skin");
+        assertEquals(extractPath, scannerService.getExtractionPath(archive));
+        assertTrue(Files.exists(extractPath.resolve("skin.ini")));
+        assertEquals(513, Files.size(extractPath.resolve("cursor.png")));
+        assertFalse(Files.exists(tempDir.resolve("escaped.txt")));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed PAX sizes and remove the partial output")
+    void shouldRejectInvalidPaxSize() throws IOException {
+        // Arrange
+        Path archive = tempDir.resolve("Pax Skin.tar");
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            writeEntry(out, "skin.ini", '0', "[General]\nName: Pax".getBytes());
+            writeEntry(out, "PaxHeader", 'x', "16 size=12abc34\n".getBytes(StandardCharsets.UTF_8));
+            writeEntry(out, "cursor.png", '0', new byte[10]);
+            out.write(new byte[1024]);
+        }
+        SkinScannerService scannerService = new SkinScannerService(configurationManager);
+
+        // Act & Assert
+        IOException error = assertThrows(IOException.class, () -> scannerService.extractCompressedSkin(archive));
+        assertTrue(error.getMessage().startsWith("Invalid PAX size"));
+        assertFalse(Files.exists(tempDir.resolve("Pax Skin")), "Partial output should be removed");
+        assertThrows(IOException.class, () -> TarSkinExtractor.parsePaxSize("-5"));
+        assertEquals(42, TarSkinExtractor.parsePaxSize("42"));
+    }
+
+    private void writeEntry(OutputStream out, String name, char type, byte[] content) throws IOException {
+        byte[] header = new byte[512];
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(nameBytes, 0, header, 0, Math.min(100, nameBytes.length));
+        putOctal(header, 100, 8, 0644);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, content.length);
+        putOctal(header, 136, 12, 0);
+        header[156] = (byte) type;
+        System.arraycopy("ustar\0".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 6);
+        header[263] = '0';
+        header[264] = '0';
+
+        int checksum = 0;
+        for (int i = 0; i < 512; i++) {
+            checksum += (i >= 148 && i < 156) ? ' ' : (header[i] & 0xFF);
+        }
+        putOctal(header, 148, 7, checksum);
+        header[155] = ' ';
+
+        ByteArrayOutputStream entry = new ByteArrayOutputStream();
+        entry.write(header);
+        entry.write(content);
+        entry.write(new byte[(512 - content.length % 512) % 512]);
+        out.write(entry.toByteArray());
+    }
+
+    private void putOctal(byte[] header, int offset, int length, long value) {
+        String octal = String.format("%0" + (length - 1) + "o", value);
+        System.arraycopy(octal.getBytes(StandardCharsets.US_ASCII), 0, header, offset, length - 1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.osuskin.tool.service;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Texture Cache Tests")
+class TextureCacheTest {
+
+    private static final long TEXTURE_BYTES = 64 * 64 * 4;
+
+    @Test
+    @DisplayName("Should evict least recently used textures over the byte budget")
+    void shouldEvictLeastRecentlyUsedOverBudget() {
+        // Arrange
+        TextureCache cache = new TextureCache(3 * TEXTURE_BYTES);
+        for (int i = 0; i < 3; i++) {
+            cache.putAndAcquire("skin|" + i, texture());
+            cache.release("skin|" + i);
+        }
+        cache.release("missing");
+
+        // Act
+        assertNotNull(cache.acquire("skin|0"));  // Most recently used now
+        cache.release("skin|0");
+        cache.putAndAcquire("skin|3", texture());
+
+        // Assert
+        assertEquals(3, cache.size());
+        assertEquals(3 * TEXTURE_BYTES, cache.getUsedBytes());
+        assertTrue(cache.contains("skin|0"));
+        assertFalse(cache.contains("skin|1"), "Least recently used texture should be evicted");
+    }
+
+    @Test
+    @DisplayName("Should keep pinned textures and evict them only after release")
+    void shouldNeverEvictPinnedTextures() {
+        // Arrange
+        TextureCache cache = new TextureCache(TEXTURE_BYTES);
+        Image active = cache.putAndAcquire("active|hitcircle", texture());
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            cache.putAndAcquire("browsed|" + i, texture());
+            cache.release("browsed|" + i);
+        }
+
+        // Assert
+        assertSame(active, cache.acquire("active|hitcircle"));
+        assertEquals(TEXTURE_BYTES, cache.getPinnedBytes());
+        assertEquals(1, cache.size(), "Unpinned textures over budget should be evicted");
+
+        cache.release("active|hitcircle");
+        cache.release("active|hitcircle");
+        cache.putAndAcquire("next|hitcircle", texture());
+        assertFalse(cache.contains("active|hitcircle"));
+        assertEquals(TEXTURE_BYTES, cache.getUsedBytes());
+    }
+
+    private static Image texture() {
+        return new WritableImage(64, 64);
+    }
+}
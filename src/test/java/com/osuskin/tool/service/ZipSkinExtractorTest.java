@@ -0,0 +1,147 @@
+package com.osuskin.tool.service;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parallel ZIP Extraction Tests")
+class ZipSkinExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should extract every entry identically with several workers")
+    void shouldExtractAllEntriesInParallel() throws IOException {
+        // Arrange
+        Path zipPath = tempDir.resolve("HD Skin.osk");
+        byte[][] contents = new byte[40][];
+        Random random = new Random(42);
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            zos.putNextEntry(new ZipEntry("HD Skin/"));
+            zos.closeEntry();
+            addEntry(zos, "HD Skin/skin.ini", "[General]\nName: HD Skin".getBytes());
+            for (int i = 0; i < contents.length; i++) {
+                contents[i] = new byte[1000 + random.nextInt(50_000)];
+                random.nextBytes(contents[i]);
+                String folder = i % 4 == 0 ? "sounds/" : "";
+                addEntry(zos, "HD Skin/" + folder + "hitcircle-" + i + "@2x.png", contents[i]);
+            }
+        }
+        Path extractPath = tempDir.resolve("HD Skin");
+
+        // Act
+        int extracted = new ZipSkinExtractor(4).extract(zipPath, extractPath);
+
+        // Assert
+        assertEquals(contents.length + 1, extracted);
+        assertTrue(Files.exists(extractPath.resolve("skin.ini")), "Root folder should be stripped");
+        for (int i = 0; i < contents.length; i++) {
+            String folder = i % 4 == 0 ? "sounds/" : "";
+            assertArrayEquals(contents[i], Files.readAllBytes(extractPath.resolve(folder + "hitcircle-" + i + "@2x.png")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip entries that would escape the extraction directory")
+    void shouldSkipEntriesOutsideExtractionDirectory() throws IOException {
+        // Arrange
+        Path zipPath = tempDir.resolve("Evil.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            addEntry(zos, "skin.ini", "[General]".getBytes());
+            addEntry(zos, "../escaped.txt", "nope".getBytes());
+        }
+        Path extractPath = tempDir.resolve("Evil");
+
+        // Act
+        int extracted = new ZipSkinExtractor(2).extract(zipPath, extractPath);
+
+        // Assert
+        assertEquals(1, extracted);
+        assertFalse(Files.exists(tempDir.resolve("escaped.txt")));
+    }
+
+    @Test
+    @DisplayName("Should copy STORED entries directly and match the inflated output")
+    void shouldTransferStoredEntries() throws IOException {
+        // Arrange
+        Path zipPath = tempDir.resolve("Mixed.osk");
+        byte[] stored = new byte[3 * 1024 * 1024 + 17];  // Spans several transfer chunks
+        byte[] deflated = "[General]\nName: Mixed".getBytes();
+        new Random(7).nextBytes(stored);
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            addStoredEntry(zos, "Mixed/hitcircle@2x.png", stored);
+            addEntry(zos, "Mixed/skin.ini", deflated);
+            addStoredEntry(zos, "Mixed/empty.png", new byte[0]);
+        }
+        Path extractPath = tempDir.resolve("Mixed");
+
+        // Act
+        int extracted = new ZipSkinExtractor(2).extract(zipPath, extractPath);
+
+        // Assert
+        assertEquals(2, ZipSkinExtractor.readStoredEntryOffsets(zipPath).size());
+        assertEquals(3, extracted);
+        assertArrayEquals(stored, Files.readAllBytes(extractPath.resolve("hitcircle@2x.png")));
+        assertArrayEquals(deflated, Files.readAllBytes(extractPath.resolve("skin.ini")));
+        assertEquals(0, Files.size(extractPath.resolve("empty.png")));
+    }
+
+    @Test
+    @DisplayName("Should reject a corrupted STORED entry and remove its output")
+    void shouldRejectStoredEntryWithBadCrc() throws IOException {
+        // Arrange
+        Path zipPath = tempDir.resolve("Corrupt.osk");
+        byte[] content = new byte[8192];
+        Arrays.fill(content, (byte) 0x5A);
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipPath))) {
+            addEntry(zos, "skin.ini", "[General]".getBytes());
+            addStoredEntry(zos, "cursor.png", content);
+        }
+        byte[] archive = Files.readAllBytes(zipPath);
+        for (int i = 0; i < archive.length; i++) {
+            if (archive[i] == 0x5A) {
+                archive[i + 100] = 0x00;  // Flip a byte inside the stored data
+                break;
+            }
+        }
+        Files.write(zipPath, archive);
+        Path extractPath = tempDir.resolve("Corrupt");
+
+        // Act
+        int extracted = new ZipSkinExtractor(1).extract(zipPath, extractPath);
+
+        // Assert
+        assertEquals(1, extracted);
+        assertTrue(Files.exists(extractPath.resolve("skin.ini")));
+        assertFalse(Files.exists(extractPath.resolve("cursor.png")), "Corrupted file should be deleted");
+    }
+
+    private void addStoredEntry(ZipOutputStream zos, String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+        zos.putNextEntry(entry);
+        zos.write(content);
+        zos.closeEntry();
+    }
+
+    private void addEntry(ZipOutputStream zos, String name, byte[] content) throws IOException {
+        zos.putNextEntry(new ZipEntry(name));
+        zos.write(content);
+        zos.closeEntry();
+    }
+}
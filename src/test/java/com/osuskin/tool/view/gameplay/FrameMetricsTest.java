@@ -0,0 +1,61 @@
+package com.osuskin.tool.view.gameplay;
+
+import org.junit.jupiter.api.*;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Frame Metrics Tests")
+class FrameMetricsTest {
+
+    private static final long MILLI = 1_000_000;
+
+    @Test
+    @DisplayName("Should report frame time percentiles from the histogram")
+    void shouldReportPercentiles() {
+        // Arrange: 90 frames of 2 ms, 9 of 10 ms and one of 40 ms
+        FrameMetrics metrics = new FrameMetrics(16);
+        long[] phases = new long[FrameMetrics.Phase.values().length];
+
+        // Act
+        for (int i = 0; i < 90; i++) {
+            metrics.addFrame("skin", 16.7, MILLI / 2, phases, 3 * MILLI / 2, 10, 0);
+        }
+        for (int i = 0; i < 9; i++) {
+            metrics.addFrame("skin", 16.7, 0, phases, 10 * MILLI, 10, 0);
+        }
+        metrics.addFrame("skin", 50, 0, phases, 40 * MILLI, 10, 0);
+
+        // Assert
+        assertEquals(100, metrics.getFrameCount(), "Frames beyond the ring's capacity still count");
+        assertEquals(2.25, metrics.getPercentileMillis(0.50), 1e-9, "Upper bound of the 2 ms bucket");
+        assertEquals(10.25, metrics.getPercentileMillis(0.95), 1e-9);
+        assertEquals(40.25, metrics.getPercentileMillis(1.0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should export kept frames oldest first as CSV")
+    void shouldExportCsv() throws Exception {
+        // Arrange
+        FrameMetrics metrics = new FrameMetrics(2);
+        long[] phases = new long[FrameMetrics.Phase.values().length];
+        phases[FrameMetrics.Phase.SLIDER_BODIES.ordinal()] = MILLI;
+        metrics.addFrame("dropped", 16, MILLI, phases, 2 * MILLI, 5, 100);
+        metrics.addFrame("Skin, \"Quoted\"", 16, MILLI, phases, 2 * MILLI, 5, 100);
+        metrics.addFrame("plain", 17.5, 0, phases, 4 * MILLI, 7, 2048);
+        StringWriter csv = new StringWriter();
+
+        // Act
+        metrics.writeCsv(csv);
+
+        // Assert
+        String[] lines = csv.toString().split("\n");
+        assertEquals(3, lines.length, "Header and the two frames the ring keeps");
+        assertEquals("frame,skin,interval_ms,frame_ms,update_ms,render_ms,slider_bodies_ms,hit_objects_ms,"
+            + "hit_bursts_ms,cursor_ms,ui_ms,draw_images,allocated_bytes", lines[0]);
+        assertEquals("1,\"Skin, \"\"Quoted\"\"\",16.000,3.000,1.000,2.000,1.000,0.000,0.000,0.000,0.000,5,100",
+            lines[1]);
+        assertEquals("2,plain,17.500,4.000,0.000,4.000,1.000,0.000,0.000,0.000,0.000,7,2048", lines[2]);
+    }
+}
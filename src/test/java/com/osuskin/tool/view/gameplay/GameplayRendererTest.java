@@ -0,0 +1,79 @@
+package com.osuskin.tool.view.gameplay;
+
+import com.osuskin.tool.service.SkinElementLoader;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Gameplay Renderer Tests")
+class GameplayRendererTest {
+
+    private static final double FRAME = 1.0 / 60;
+    private static final int FRAMES_PER_LOOP = 60 * 20;  // Longer than one loop, so hits, bursts and the reset all run
+    private static final int MEASURED_LOOPS = 3;  // A real allocation shows in every loop, JIT transitions in some
+
+    @Mock
+    private SkinElementLoader elementLoader;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        when(elementLoader.loadAnimation(anyString(), anyDouble())).thenReturn(List.of(new WritableImage(4, 4)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Test
+    @DisplayName("Should allocate nothing per frame once the animation loop is warm")
+    void shouldNotAllocateInSteadyState() {
+        // Arrange
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeAllocationCounting(threads);
+        GameplayRenderer renderer = new GameplayRenderer(new Canvas(800, 600), elementLoader);
+        renderer.initialize();
+        for (int i = 0; i < FRAMES_PER_LOOP * 3; i++) {
+            renderer.update(FRAME);
+        }
+        measureOverhead(threads);  // The first reading may allocate
+        long overhead = measureOverhead(threads);
+
+        // Act
+        long allocated = Long.MAX_VALUE;
+        for (int loop = 0; loop < MEASURED_LOOPS; loop++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < FRAMES_PER_LOOP; i++) {
+                renderer.update(FRAME);
+            }
+            allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - before - overhead);
+        }
+
+        // Assert
+        assertEquals(0, allocated, "Bytes allocated over " + FRAMES_PER_LOOP + " frames");
+    }
+
+    private static void assumeAllocationCounting(com.sun.management.ThreadMXBean threads) {
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long measureOverhead(com.sun.management.ThreadMXBean threads) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -0,0 +1,34 @@
+package com.osuskin.tool.view.gameplay;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Hit Circle Sprite Tests")
+class HitCircleSpritesTest {
+
+    @Test
+    @DisplayName("Should tint hit circles with a true multiply that keeps alpha")
+    void shouldMultiplyTintKeepingAlpha() {
+        // Arrange
+        WritableImage circle = new WritableImage(2, 1);
+        circle.getPixelWriter().setArgb(0, 0, 0xFFFFFFFF);
+        circle.getPixelWriter().setArgb(1, 0, 0x80808080);
+        int tint = HitCircleSprites.toArgb(Color.rgb(255, 128, 0));
+
+        // Act
+        Image tinted = HitCircleSprites.multiply(circle, tint);
+
+        // Assert
+        assertEquals(0xFFFF8000, tinted.getPixelReader().getArgb(0, 0), "White takes the combo colour");
+        int shaded = tinted.getPixelReader().getArgb(1, 0);
+        assertEquals(0x80, shaded >>> 24, "Alpha is kept");
+        assertEquals(0x80, (shaded >> 16) & 0xFF);
+        assertEquals(0x40, (shaded >> 8) & 0xFF, 1);
+        assertEquals(0x00, shaded & 0xFF);
+        assertEquals(0xFFFFFFFF, circle.getPixelReader().getArgb(0, 0), "The skin's image is left untouched");
+    }
+}
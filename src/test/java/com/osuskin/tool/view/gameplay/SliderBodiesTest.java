@@ -0,0 +1,65 @@
+package com.osuskin.tool.view.gameplay;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Slider Body Cache Tests")
+class SliderBodiesTest {
+
+    private static final double[] PATH = {10, 10, 60, 10, 110, 40};
+
+    @Test
+    @DisplayName("Should reuse the body for the same path and colour")
+    void shouldReuseCachedBody() {
+        // Arrange
+        CountingBodies bodies = new CountingBodies();
+        bodies.setScale(64, 1.0);
+
+        // Act
+        SliderBodies.Body first = bodies.get(PATH, Color.ORANGE);
+        SliderBodies.Body second = bodies.get(PATH.clone(), Color.ORANGE);
+        SliderBodies.Body otherColor = bodies.get(PATH, Color.BLUE);
+
+        // Assert
+        assertSame(first, second, "An equal path in the same colour should hit the cache");
+        assertNotSame(first, otherColor);
+        assertEquals(2, bodies.rendered);
+        assertEquals(2, bodies.size());
+    }
+
+    @Test
+    @DisplayName("Should drop cached bodies when the scale changes")
+    void shouldDropBodiesOnScaleChange() {
+        // Arrange
+        CountingBodies bodies = new CountingBodies();
+        bodies.setScale(64, 1.0);
+        SliderBodies.Body before = bodies.get(PATH, Color.ORANGE);
+
+        // Act
+        bodies.setScale(64, 1.0);
+        SliderBodies.Body unchanged = bodies.get(PATH, Color.ORANGE);
+        bodies.setScale(64, 2.0);
+        SliderBodies.Body rescaled = bodies.get(PATH, Color.ORANGE);
+
+        // Assert
+        assertSame(before, unchanged, "Setting the same scale should keep the cache");
+        assertNotSame(before, rescaled, "A new output scale should render the body again");
+        assertEquals(2, bodies.rendered);
+        assertEquals(1, bodies.size());
+    }
+
+    /**
+     * Records renders instead of snapshotting, which needs a display.
+     */
+    private static class CountingBodies extends SliderBodies {
+        int rendered;
+
+        @Override
+        Body render(double[] path, Color track, int trackArgb) {
+            rendered++;
+            return new Body(null, 0, 0, 0, 0, path, trackArgb);
+        }
+    }
+}
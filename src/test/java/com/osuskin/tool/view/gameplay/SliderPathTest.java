@@ -0,0 +1,76 @@
+package com.osuskin.tool.view.gameplay;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Slider Path Tests")
+class SliderPathTest {
+
+    @Test
+    @DisplayName("Should place points by arc length on a multi-segment linear path")
+    void shouldPlacePointsByArcLength() {
+        // Arrange
+        SliderPath path = new SliderPath(SliderPath.Type.LINEAR, 0, 0, 100, 0, 100, 300);
+        double[] out = new double[2];
+
+        // Act
+        path.positionAt(0.5, out);
+
+        // Assert
+        assertEquals(400, path.getLength(), 1e-9);
+        assertEquals(100, out[0], 1e-9);
+        assertEquals(100, out[1], 1e-9, "Half of 400 is 100 along the second segment");
+        assertEquals(Math.PI / 2, path.angleAt(0.5), 1e-9);
+        path.positionAt(2, out);
+        assertEquals(300, out[1], 1e-9, "Progress is clamped to the end");
+    }
+
+    @Test
+    @DisplayName("Should flatten a perfect curve onto the circle through its control points")
+    void shouldFlattenPerfectCurveOntoCircle() {
+        // Arrange: half circle of radius 50 around (50, 0), through its top
+        SliderPath path = new SliderPath(SliderPath.Type.PERFECT, 0, 0, 50, -50, 100, 0);
+        double[] out = new double[2];
+
+        // Act
+        path.positionAt(0.5, out);
+
+        // Assert
+        assertEquals(Math.PI * 50, path.getLength(), 0.5);
+        assertEquals(50, out[0], 0.5);
+        assertEquals(-50, out[1], 0.5, "The arc passes through the middle control point");
+        double[] points = path.getPoints();
+        for (int i = 0; i < points.length; i += 2) {
+            assertEquals(50, Math.hypot(points[i] - 50, points[i + 1]), 1e-6);
+        }
+        assertEquals(Math.PI / 2, path.angleAt(1), 0.1, "Travelling down at the end");
+    }
+
+    @Test
+    @DisplayName("Should pass through bezier and catmull end points")
+    void shouldPassThroughCurveEndPoints() {
+        // Arrange
+        SliderPath bezier = new SliderPath(SliderPath.Type.BEZIER, 0, 0, 50, 100, 50, 100, 100, 0);
+        SliderPath catmull = new SliderPath(SliderPath.Type.CATMULL, 0, 0, 50, 50, 100, 0);
+        SliderPath inLine = new SliderPath(SliderPath.Type.PERFECT, 0, 0, 50, 0, 100, 0);
+
+        // Assert
+        assertEquals(100, bezier.getEndX(), 1e-9);
+        assertEquals(0, bezier.getEndY(), 1e-9);
+        assertTrue(containsPoint(bezier, 50, 100), "A repeated control point is a corner on the path");
+        assertEquals(100, catmull.getEndX(), 1e-9);
+        assertTrue(containsPoint(catmull, 50, 50), "Catmull curves pass through every control point");
+        assertEquals(100, inLine.getLength(), 1e-9, "Points in line fall back to a straight path");
+    }
+
+    private static boolean containsPoint(SliderPath path, double x, double y) {
+        double[] points = path.getPoints();
+        for (int i = 0; i < points.length; i += 2) {
+            if (Math.abs(points[i] - x) < 1e-9 && Math.abs(points[i + 1] - y) < 1e-9) {
+                return true;
+            }
+        }
+        return false;
+    }
+}